@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.web.ContentCoding;
+import com.accessgatelabs.oss.builder.web.ResponseCompressor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cost of compressing envelopes of growing size, to pick the minimum size from which
+ * @see ResponseCompressor compresses.
+ *
+ * <p>
+ * 		<code>compress</code> goes through the pooled compressors of @see ResponseCompressor,
+ * 		<code>gzipStream</code> through a @see GZIPOutputStream created per call, as a servlet
+ * 		container filter does. The compressed size of each envelope is printed once per fork
+ * 		during setup. Below the size where the time spent compressing exceeds the time saved
+ * 		sending the bytes saved on the expected link, compression is not worth it.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompressionBenchmark {
+
+	@Param({ "GZIP", "DEFLATE", "ZSTD" })
+	public String coding;
+
+	@Param({ "0", "4", "16", "64", "512" })
+	public int records;
+
+	private ResponseCompressor compressor;
+
+	private ContentCoding contentCoding;
+
+	private byte[] body;
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 16);
+
+	@Setup
+	public void setup() throws Exception {
+		contentCoding = ContentCoding.valueOf(coding);
+		compressor = new ResponseCompressor(0, Arrays.asList(contentCoding));
+
+		List<Map<String, Object>> result = new ArrayList<>();
+		for (int i = 0; i < records; i++) {
+			Map<String, Object> record = new LinkedHashMap<>();
+			record.put("id", i);
+			record.put("name", "record-" + i);
+			record.put("active", i % 2 == 0);
+			record.put("score", i * 1.5d);
+			result.add(record);
+		}
+		StateServiceResponse response = ServiceResponse.FETCHED.build();
+		response.setObjectAsResponse(result);
+		body = new ObjectMapper().registerModule(new ResponseBuilderModule()).writeValueAsBytes(response);
+
+		compress();
+		System.out.println(coding + " envelope with " + records + " records: " + body.length + " -> " + out.size() + " bytes");
+	}
+
+	@Benchmark
+	public int compress() throws Exception {
+		out.reset();
+		compressor.compress(body, body.length, contentCoding, out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int gzipStream() throws Exception {
+		out.reset();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		}
+		return out.size();
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.FieldError;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.tools.ZstdDictionaryTrainer;
+import com.accessgatelabs.oss.builder.web.ContentCoding;
+import com.accessgatelabs.oss.builder.web.ResponseCompressor;
+import com.accessgatelabs.oss.builder.web.ZstdDictionary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Size and cost of compressing small envelopes with gzip, plain zstd and zstd against a
+ * @see ZstdDictionary trained on similar envelopes.
+ *
+ * <p>
+ * 		The dictionary is trained during setup from a few thousand generated envelopes, then
+ * 		each compressed size is printed once per fork. The envelope compressed is not one of
+ * 		the training samples.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DictionaryCompressionBenchmark {
+
+	@Param({ "success", "error", "validation" })
+	public String envelope;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule());
+
+	private final ResponseCompressor compressor = new ResponseCompressor(0,
+			Arrays.asList(ContentCoding.GZIP, ContentCoding.ZSTD));
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+
+	private ZstdDictionary dictionary;
+
+	private byte[] body;
+
+	@Setup
+	public void setup() throws Exception {
+		List<byte[]> samples = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			samples.add(objectMapper.writeValueAsBytes(envelope(i % 3, i)));
+		}
+		dictionary = ZstdDictionary.of(ZstdDictionaryTrainer.train(samples, ZstdDictionaryTrainer.DEFAULT_DICTIONARY_SIZE));
+		body = objectMapper.writeValueAsBytes(envelope(Arrays.asList("success", "error", "validation").indexOf(envelope), 1_000_003));
+
+		System.out.println(envelope + " envelope of " + body.length + " bytes: gzip " + gzip()
+				+ ", zstd " + zstd() + ", zstd with dictionary " + zstdDictionary());
+	}
+
+	@Benchmark
+	public int gzip() throws Exception {
+		out.reset();
+		compressor.compress(body, body.length, ContentCoding.GZIP, out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int zstd() throws Exception {
+		out.reset();
+		compressor.compress(body, body.length, ContentCoding.ZSTD, out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int zstdDictionary() throws Exception {
+		out.reset();
+		dictionary.compress(body, body.length, out);
+		return out.size();
+	}
+
+	private static StateServiceResponse envelope(int kind, int seed) {
+		if (kind == 0) {
+			Map<String, Object> user = new LinkedHashMap<>();
+			user.put("id", seed);
+			user.put("email", "user" + seed + "@example.com");
+			user.put("active", seed % 2 == 0);
+			StateServiceResponse response = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+					user, "User fetched");
+			response.setHttpResponse(ServiceResponse.FETCHED.getHttpResponse());
+			return response;
+		}
+		if (kind == 1) {
+			StateServiceResponse response = ServiceResponse.ENTITY_NOT_FOUND.build();
+			response.setHttpResponse(ServiceResponse.ENTITY_NOT_FOUND.getHttpResponse());
+			response.setMessage("User " + seed + " not found");
+			response.setPath("/users/" + seed);
+			return response;
+		}
+		StateServiceResponse response = new StateServiceResponse(ServiceResponse.VALIDATION_EXCEPTION.getHttpResponse());
+		response.setApiServiceResponse(ServiceResponse.VALIDATION_EXCEPTION.getApiServiceResponse());
+		response.setMessage("Validation error");
+		response.setPath("/users/" + seed);
+		response.setErrorCount(1);
+		response.addValidationExceptions(new ArrayList<>(Collections.singletonList(new FieldError("user",
+				seed % 2 == 0 ? "email" : "name", "value-" + seed, false, new String[] { "NotBlank" }, null,
+				"must not be blank"))));
+		return response;
+	}
+
+}
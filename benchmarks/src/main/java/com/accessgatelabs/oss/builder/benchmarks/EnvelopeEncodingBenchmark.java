@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.EnvelopeProfile;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.web.BinaryEncoding;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the JSON encoding of an envelope with its @see BinaryEncoding variants,
+ * written in full or with the @see EnvelopeProfile#MINIMAL profile.
+ *
+ * <p>
+ * 		Encoding writes a @see StateServiceResponse carrying a list of records, decoding reads
+ * 		the encoded bytes back into a tree, as a client with no model classes would. The size
+ * 		of each encoding is printed once per fork during setup.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnvelopeEncodingBenchmark {
+
+	@Param({ "JSON", "CBOR", "SMILE", "MSGPACK" })
+	public String encoding;
+
+	@Param({ "1", "100" })
+	public int records;
+
+	@Param({ "VERBOSE", "MINIMAL" })
+	public String profile;
+
+	private ObjectMapper objectMapper;
+
+	private StateServiceResponse response;
+
+	private byte[] encoded;
+
+	@Setup
+	public void setup() throws Exception {
+		objectMapper = "JSON".equals(encoding) ? new ObjectMapper()
+				: new ObjectMapper(BinaryEncoding.valueOf(encoding).createFactory());
+		objectMapper.registerModule(new ResponseBuilderModule(EnvelopeProfile.valueOf(profile)));
+
+		List<Map<String, Object>> result = new ArrayList<>();
+		for (int i = 0; i < records; i++) {
+			Map<String, Object> record = new LinkedHashMap<>();
+			record.put("id", i);
+			record.put("name", "record-" + i);
+			record.put("active", i % 2 == 0);
+			record.put("score", i * 1.5d);
+			result.add(record);
+		}
+		response = ServiceResponse.FETCHED.build();
+		response.setObjectAsResponse(result);
+		encoded = objectMapper.writeValueAsBytes(response);
+		System.out.println(encoding + " " + profile + " envelope with " + records + " records: " + encoded.length + " bytes");
+	}
+
+	@Benchmark
+	public byte[] encode() throws Exception {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public JsonNode decode() throws Exception {
+		return objectMapper.readTree(encoded);
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.accessgatelabs.oss.builder.models.ExceptionResponseBuilder;
+import com.accessgatelabs.oss.builder.models.FileUploadResponse;
+import com.accessgatelabs.oss.builder.models.MessageStatusResponse;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.models.ViolationType;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Compares the reflective bean serializers of the response models with the
+ * serializers registered by @see ResponseBuilderModule.
+ *
+ * <p>
+ * 		Each envelope carries one of the nested models, so both the envelope and the
+ * 		model serializers are measured together, the way they are used on the wire.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ModelSerializationBenchmark {
+
+	@Param({ "payloadless", "fileUpload", "messageStatus", "exception" })
+	public String envelope;
+
+	private ObjectMapper reflective;
+
+	private ObjectMapper module;
+
+	private StateServiceResponse response;
+
+	@Setup
+	public void setup() {
+		reflective = new ObjectMapper().registerModule(new JavaTimeModule());
+		module = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new ResponseBuilderModule());
+		switch (envelope) {
+		case "fileUpload":
+			response = new StateServiceResponse(ServiceResponse.UPLOADED.getApiServiceResponse(), Collections.singletonList(
+					new FileUploadResponse("a.png", "https://cdn/a.png", "image/png", 1024L, true)));
+			break;
+		case "messageStatus":
+			response = new StateServiceResponse(ServiceResponse.OTP_SMS_SENT.getApiServiceResponse(),
+					new MessageStatusResponse("SMS", true, false, new String[] { "+100" }, 3), "Sent");
+			break;
+		case "exception":
+			response = ServiceResponse.VALIDATION_EXCEPTION.build();
+			response.setExceptionResponseBuilder(new ExceptionResponseBuilder(
+					"body", "email", "x@", ViolationType.Email_Not_Formatted, "String", "FIELD", "must be an email"));
+			break;
+		default:
+			response = ServiceResponse.DELETED.build();
+		}
+	}
+
+	@Benchmark
+	public byte[] reflective() throws Exception {
+		return reflective.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public byte[] module() throws Exception {
+		return module.writeValueAsBytes(response);
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Measures the JSON serialization of a @see StateServiceResponse by the size of its
+ * <code>result</code>, with the reflective bean serializer and with @see ResponseBuilderModule.
+ *
+ * <p>
+ * 		A small result is a single record, a medium one a page of 100 records and a large one
+ * 		10,000 records, about 1 MiB of JSON. The size of each envelope is printed once per fork
+ * 		during setup.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PayloadSerializationBenchmark {
+
+	@Param({ "small", "medium", "large" })
+	public String payload;
+
+	private ObjectMapper reflective;
+
+	private ObjectMapper module;
+
+	private StateServiceResponse response;
+
+	@Setup
+	public void setup() throws Exception {
+		reflective = new ObjectMapper().registerModule(new JavaTimeModule());
+		module = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new ResponseBuilderModule());
+
+		int records = "large".equals(payload) ? 10_000 : "medium".equals(payload) ? 100 : 1;
+		List<Map<String, Object>> result = new ArrayList<>(records);
+		for (int i = 0; i < records; i++) {
+			Map<String, Object> record = new LinkedHashMap<>();
+			record.put("id", i);
+			record.put("name", "record-" + i);
+			record.put("email", "user" + i + "@example.com");
+			record.put("active", i % 2 == 0);
+			record.put("score", i * 1.5d);
+			record.put("tags", new String[] { "alpha", "beta" });
+			result.add(record);
+		}
+		response = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(), result, "Fetched");
+		System.out.println(payload + " envelope: " + module.writeValueAsBytes(response).length + " bytes");
+	}
+
+	@Benchmark
+	public byte[] reflective() throws Exception {
+		return reflective.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public byte[] module() throws Exception {
+		return module.writeValueAsBytes(response);
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+
+import com.accessgatelabs.oss.builder.exceptions.RestExceptionHandler;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.web.StateServiceResponseHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Measures the error paths of @see RestExceptionHandler, from the request to the written
+ * error envelope, through @see MockMvc.
+ *
+ * <p>
+ * 		Malformed JSON, unknown URLs and unconvertible path variables are raised by Spring MVC
+ * 		itself. Validation and multipart failures are thrown by the controller, built once during
+ * 		setup: the library ships no Bean Validation provider, and the cost measured is that of
+ * 		the handler rather than of the validator or the multipart parser. Validation failures
+ * 		carry 1, 100 or 10,000 field errors.
+ * </p>
+ *
+ * <p>
+ * 		Run with <code>-prof gc</code> to get the bytes allocated per error response. The size
+ * 		of each error envelope is printed once per fork during setup.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RestExceptionHandlerBenchmark {
+
+	private MockMvc mockMvc;
+
+	private MockHttpServletRequestBuilder malformedJson;
+
+	private MockHttpServletRequestBuilder noHandlerFound;
+
+	private MockHttpServletRequestBuilder typeMismatch;
+
+	private MockHttpServletRequestBuilder multipart;
+
+	private MockHttpServletRequestBuilder maxUploadSize;
+
+	@Setup
+	public void setup() throws Exception {
+		Map<String, Exception> failures = new HashMap<>();
+		failures.put("multipart", new MultipartException("Failed to parse multipart servlet request",
+				new IllegalStateException("Stream ended unexpectedly")));
+		failures.put("maxUploadSize", new MaxUploadSizeExceededException(10L << 20,
+				new IllegalStateException("The field file exceeds its maximum permitted size of 10485760 bytes.")));
+		mockMvc = mockMvc(failures);
+
+		malformedJson = MockMvcRequestBuilders.post("/users").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Ada\",\"email\":");
+		noHandlerFound = MockMvcRequestBuilders.get("/wp-login.php");
+		typeMismatch = MockMvcRequestBuilders.get("/users/abc");
+		multipart = MockMvcRequestBuilders.post("/failures/multipart");
+		maxUploadSize = MockMvcRequestBuilders.post("/failures/maxUploadSize");
+
+		printSize("handleHttpMessageNotReadable", mockMvc, malformedJson);
+		printSize("handleNoHandlerFoundException", mockMvc, noHandlerFound);
+		printSize("handleMethodArgumentTypeMismatch", mockMvc, typeMismatch);
+		printSize("multipartException", mockMvc, multipart);
+		printSize("maxUploadSizeExceededException", mockMvc, maxUploadSize);
+	}
+
+	@Benchmark
+	public MvcResult handleMethodArgumentNotValid(ValidationFailure validationFailure) throws Exception {
+		return validationFailure.mockMvc.perform(validationFailure.request).andReturn();
+	}
+
+	@Benchmark
+	public MvcResult handleHttpMessageNotReadable() throws Exception {
+		return mockMvc.perform(malformedJson).andReturn();
+	}
+
+	@Benchmark
+	public MvcResult handleNoHandlerFoundException() throws Exception {
+		return mockMvc.perform(noHandlerFound).andReturn();
+	}
+
+	@Benchmark
+	public MvcResult handleMethodArgumentTypeMismatch() throws Exception {
+		return mockMvc.perform(typeMismatch).andReturn();
+	}
+
+	@Benchmark
+	public MvcResult multipartException() throws Exception {
+		return mockMvc.perform(multipart).andReturn();
+	}
+
+	@Benchmark
+	public MvcResult maxUploadSizeExceededException() throws Exception {
+		return mockMvc.perform(maxUploadSize).andReturn();
+	}
+
+	/*
+	 * MockMvc over the controller below, with the advice and converters the auto-configuration sets up.
+	 */
+	private static MockMvc mockMvc(Map<String, Exception> failures) {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+				.registerModule(new ResponseBuilderModule());
+		return MockMvcBuilders.standaloneSetup(new UserController(failures))
+				.setControllerAdvice(new RestExceptionHandler())
+				.setMessageConverters(new StateServiceResponseHttpMessageConverter(objectMapper),
+						new MappingJackson2HttpMessageConverter(objectMapper))
+				.addDispatcherServletCustomizer(dispatcherServlet -> dispatcherServlet.setThrowExceptionIfNoHandlerFound(true))
+				.build();
+	}
+
+	private static void printSize(String handler, MockMvc mockMvc, MockHttpServletRequestBuilder request) throws Exception {
+		byte[] body = mockMvc.perform(request).andReturn().getResponse().getContentAsByteArray();
+		System.out.println(handler + " error envelope: " + body.length + " bytes");
+	}
+
+
+	/**
+	 * A @see MethodArgumentNotValidException with a number of field errors.
+	 */
+	@State(Scope.Benchmark)
+	public static class ValidationFailure {
+
+		@Param({ "1", "100", "10000" })
+		public int fieldErrors;
+
+		private MockMvc mockMvc;
+
+		private MockHttpServletRequestBuilder request;
+
+		@Setup
+		public void setup() throws Exception {
+			BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new HashMap<>(), "users");
+			for (int i = 0; i < fieldErrors; i++) {
+				bindingResult.addError(new FieldError("users", "users[" + i + "].email", "user" + i, false,
+						new String[] { "Email" }, null, "must be a well-formed email address"));
+			}
+			MethodParameter parameter = new MethodParameter(UserController.class.getMethod("create", Map.class), 0);
+			mockMvc = mockMvc(Collections.singletonMap("validation",
+					new MethodArgumentNotValidException(parameter, bindingResult)));
+			request = MockMvcRequestBuilders.post("/failures/validation");
+			printSize("handleMethodArgumentNotValid with " + fieldErrors + " field errors", mockMvc, request);
+		}
+	}
+
+	@RestController
+	public static class UserController {
+
+		private final Map<String, Exception> failures;
+
+		public UserController(Map<String, Exception> failures) {
+			this.failures = failures;
+		}
+
+		@PostMapping("/users")
+		public Map<String, Object> create(@RequestBody Map<String, Object> user) {
+			return user;
+		}
+
+		@GetMapping("/users/{id}")
+		public long get(@PathVariable long id) {
+			return id;
+		}
+
+		@PostMapping("/failures/{name}")
+		public void fail(@PathVariable String name) throws Exception {
+			throw failures.get(name);
+		}
+	}
+
+}
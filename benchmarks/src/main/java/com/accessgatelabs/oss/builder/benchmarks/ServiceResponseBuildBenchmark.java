@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import com.accessgatelabs.oss.builder.models.FileUploadResponse;
+import com.accessgatelabs.oss.builder.models.MessageStatusResponse;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+
+/**
+ * Measures @see ServiceResponse#build() and every @see ServiceResponse#buildResponse()
+ * overload.
+ *
+ * <p>
+ * 		The arguments are built once, so each invocation only measures the envelope and the
+ * 		@see ResponseEntity around it. Run with <code>-prof gc</code> to see what each
+ * 		overload allocates per call.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ServiceResponseBuildBenchmark {
+
+	private final Map<String, Object> result = Collections.singletonMap("id", 42);
+
+	private final List<FileUploadResponse> files = Collections.singletonList(
+			new FileUploadResponse("a.png", "https://cdn/a.png", "image/png", 1024L, true));
+
+	private final MessageStatusResponse messageStatus = new MessageStatusResponse("SMS", true, false, new String[] { "+100" }, 3);
+
+	@Benchmark
+	public StateServiceResponse build() {
+		return ServiceResponse.FETCHED.build();
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponse() {
+		return ServiceResponse.DELETED.buildResponse();
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessage() {
+		return ServiceResponse.DELETED.buildResponse("Deleted");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseObject() {
+		return ServiceResponse.FETCHED.buildResponse(result);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseObjectMessage() {
+		return ServiceResponse.FETCHED.buildResponse(result, "Fetched");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseFiles() {
+		return ServiceResponse.UPLOADED.buildResponse(files);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseFilesMessage() {
+		return ServiceResponse.UPLOADED.buildResponse(files, "Uploaded");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseFilesObject() {
+		return ServiceResponse.UPLOADED.buildResponse(files, result);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseFilesObjectMessage() {
+		return ServiceResponse.UPLOADED.buildResponse(files, result, "Uploaded");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessageStatus() {
+		return ServiceResponse.OTP_SMS_SENT.buildResponse(messageStatus);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessageStatusMessage() {
+		return ServiceResponse.OTP_SMS_SENT.buildResponse(messageStatus, "Sent");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessageStatusObject() {
+		return ServiceResponse.OTP_SMS_SENT.buildResponse(messageStatus, result);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessageStatusObjectMessage() {
+		return ServiceResponse.OTP_SMS_SENT.buildResponse(messageStatus, result, "Sent");
+	}
+
+}
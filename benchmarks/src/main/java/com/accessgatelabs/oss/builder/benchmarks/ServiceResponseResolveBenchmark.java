@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+
+/**
+ * Compares @see ServiceResponse#resolve(int) with the linear scan over
+ * @see ServiceResponse#values() it replaced.
+ *
+ * <p>
+ * 		Each invocation resolves every declared code plus a few unknown ones,
+ * 		so hits at both ends of the enum and misses are all measured.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ServiceResponseResolveBenchmark {
+
+	private int[] codes;
+
+	@Setup
+	public void setup() {
+		ServiceResponse[] constants = ServiceResponse.values();
+		int[] unknown = { 0, 1011, 4999, 9990 };
+		codes = new int[constants.length + unknown.length];
+		for (int i = 0; i < constants.length; i++) {
+			codes[i] = constants[i].value();
+		}
+		System.arraycopy(unknown, 0, codes, constants.length, unknown.length);
+	}
+
+	@Benchmark
+	public void indexed(Blackhole blackhole) {
+		for (int code : codes) {
+			blackhole.consume(ServiceResponse.resolve(code));
+		}
+	}
+
+	@Benchmark
+	public void linearScan(Blackhole blackhole) {
+		for (int code : codes) {
+			blackhole.consume(linearResolve(code));
+		}
+	}
+
+	/*
+	 * The lookup used by ServiceResponse.resolve(int) up to 1.1.2.
+	 */
+	private static ServiceResponse linearResolve(int serviceResponseCode) {
+		for (ServiceResponse serviceResponse : ServiceResponse.values()) {
+			if (serviceResponse.value() == serviceResponseCode) {
+				return serviceResponse;
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.accessgatelabs.oss.builder.models.FileUploadResponse;
+import com.accessgatelabs.oss.builder.models.MessageStatusResponse;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponseBuilder;
+
+/**
+ * Measures the @see StateServiceResponseBuilder methods, which take the @see HttpStatus
+ * from the caller instead of the @see ServiceResponse.
+ *
+ * <p>
+ * 		One builder is shared by all invocations, as it would be by the controllers of an
+ * 		application. Compare with @see ServiceResponseBuildBenchmark.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StateServiceResponseBuilderBenchmark {
+
+	private final StateServiceResponseBuilder builder = new StateServiceResponseBuilder();
+
+	private final Map<String, Object> result = Collections.singletonMap("id", 42);
+
+	private final List<FileUploadResponse> files = Collections.singletonList(
+			new FileUploadResponse("a.png", "https://cdn/a.png", "image/png", 1024L, true));
+
+	private final MessageStatusResponse messageStatus = new MessageStatusResponse("SMS", true, false, new String[] { "+100" }, 3);
+
+	private final Throwable failure = new IllegalStateException("Upload failed");
+
+	@Benchmark
+	public StateServiceResponse build() {
+		return builder.build(HttpStatus.OK, ServiceResponse.FETCHED);
+	}
+
+	@Benchmark
+	public StateServiceResponse buildMessage() {
+		return builder.build(HttpStatus.OK, ServiceResponse.FETCHED, "Fetched");
+	}
+
+	@Benchmark
+	public StateServiceResponse buildFilesMessage() {
+		return builder.build(HttpStatus.CREATED, ServiceResponse.UPLOADED, files, "Uploaded");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponse() {
+		return builder.buildResponse(HttpStatus.OK, ServiceResponse.DELETED);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessage() {
+		return builder.buildResponse(HttpStatus.OK, ServiceResponse.DELETED, "Deleted");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseObject() {
+		return builder.buildResponse(HttpStatus.OK, ServiceResponse.FETCHED, result);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseObjectMessage() {
+		return builder.buildResponse(HttpStatus.OK, ServiceResponse.FETCHED, result, "Fetched");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseFilesObject() {
+		return builder.buildResponse(HttpStatus.CREATED, ServiceResponse.UPLOADED, files, result);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseFilesObjectMessage() {
+		return builder.buildResponse(HttpStatus.CREATED, ServiceResponse.UPLOADED, files, result, "Uploaded");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseFilesMessage() {
+		return builder.buildResponse(HttpStatus.CREATED, ServiceResponse.UPLOADED, files, "Uploaded");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseFilesThrowable() {
+		return builder.buildResponse(HttpStatus.BAD_REQUEST, ServiceResponse.UPLOADED, files, failure);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessageStatusObject() {
+		return builder.buildResponse(HttpStatus.OK, ServiceResponse.OTP_SMS_SENT, messageStatus, result);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessageStatusObjectMessage() {
+		return builder.buildResponse(HttpStatus.OK, ServiceResponse.OTP_SMS_SENT, messageStatus, result, "Sent");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessageStatusMessage() {
+		return builder.buildResponse(HttpStatus.OK, ServiceResponse.OTP_SMS_SENT, messageStatus, "Sent");
+	}
+
+	@Benchmark
+	public ResponseEntity<?> buildResponseMessageStatusThrowable() {
+		return builder.buildResponse(HttpStatus.BAD_REQUEST, ServiceResponse.OTP_SMS_SENT, messageStatus, failure);
+	}
+
+}
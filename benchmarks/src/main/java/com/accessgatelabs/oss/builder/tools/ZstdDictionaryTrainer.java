@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.tools;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.accessgatelabs.oss.builder.web.ZstdDictionary;
+import com.github.luben.zstd.ZstdDictTrainer;
+
+/**
+ * Offline tool training a @see ZstdDictionary from captured envelopes. It ships with the
+ * benchmarks rather than the library, which has no use for it at runtime.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.accessgatelabs.oss.builder.tools.ZstdDictionaryTrainer \
+ *     envelopes.zdict 16384 captures/
+ * </pre>
+ *
+ * <p>
+ * 		Arguments are the file to write, the dictionary size in bytes, then the files or
+ * 		directories holding the samples. Each file is one envelope, except <code>.ndjson</code>
+ * 		and <code>.jsonl</code> files which hold one envelope per line. A few thousand envelopes,
+ * 		covering the success and error responses actually sent, make a good training set; a
+ * 		dictionary of 8 to 32 KiB is plenty for them.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class ZstdDictionaryTrainer {
+
+	/**
+	 * Default size in bytes of a trained dictionary.
+	 */
+	public static final int DEFAULT_DICTIONARY_SIZE = 16 * 1024;
+
+	private ZstdDictionaryTrainer() {
+	}
+
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 3) {
+			System.err.println("Usage: ZstdDictionaryTrainer <output> <dictionary size> <samples>...");
+			System.exit(2);
+		}
+		List<byte[]> samples = new ArrayList<>();
+		for (int i = 2; i < args.length; i++) {
+			samples.addAll(read(Paths.get(args[i])));
+		}
+		byte[] dictionary = train(samples, Integer.parseInt(args[1]));
+		Files.write(Paths.get(args[0]), dictionary);
+		System.out.println("Trained " + args[0] + " (" + dictionary.length + " bytes, ID "
+				+ ZstdDictionary.of(dictionary).getId() + ") from " + samples.size() + " envelopes");
+	}
+
+	/**
+	 * Train a dictionary.
+	 *
+	 * @param samples			envelopes, as written on the wire
+	 * @param dictionarySize	maximum size in bytes of the dictionary
+	 * @return the dictionary, to load with @see ZstdDictionary#of(byte[])
+	 * @throws IllegalArgumentException	If there are too few samples to train on
+	 */
+	public static byte[] train(List<byte[]> samples, int dictionarySize) {
+		long total = 0;
+		for (byte[] sample : samples) {
+			total += sample.length;
+		}
+		ZstdDictTrainer trainer = new ZstdDictTrainer((int) Math.min(total, Integer.MAX_VALUE), dictionarySize);
+		for (byte[] sample : samples) {
+			if (!trainer.addSample(sample)) {
+				break;
+			}
+		}
+		try {
+			return trainer.trainSamples();
+		} catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Cannot train a dictionary from " + samples.size() + " envelopes", ex);
+		}
+	}
+
+	/**
+	 * Read the samples of a file, or of the files under a directory.
+	 *
+	 * @param path	Path @see Path
+	 * @return the samples
+	 * @throws IOException	If reading fails
+	 */
+	public static List<byte[]> read(Path path) throws IOException {
+		if (Files.isDirectory(path)) {
+			List<Path> files;
+			try (Stream<Path> walk = Files.walk(path)) {
+				files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+			}
+			List<byte[]> samples = new ArrayList<>();
+			for (Path file : files) {
+				samples.addAll(read(file));
+			}
+			return samples;
+		}
+		String name = path.getFileName().toString();
+		if (!name.endsWith(".ndjson") && !name.endsWith(".jsonl")) {
+			List<byte[]> sample = new ArrayList<>();
+			sample.add(Files.readAllBytes(path));
+			return sample;
+		}
+		List<byte[]> samples = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isEmpty()) {
+					samples.add(line.getBytes(StandardCharsets.UTF_8));
+				}
+			}
+		}
+		return samples;
+	}
+
+}
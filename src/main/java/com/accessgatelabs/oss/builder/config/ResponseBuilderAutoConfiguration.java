@@ -0,0 +1,298 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.config;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.security.web.context.AbstractSecurityWebApplicationInitializer;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.accessgatelabs.oss.builder.reactive.ReactiveExceptionHandler;
+import com.accessgatelabs.oss.builder.reactive.ReactiveResponseBuilder;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.time.CachedResponseClock;
+import com.accessgatelabs.oss.builder.time.ResponseClock;
+import com.accessgatelabs.oss.builder.web.BatchController;
+import com.accessgatelabs.oss.builder.web.BinaryEncoding;
+import com.accessgatelabs.oss.builder.web.BufferPool;
+import com.accessgatelabs.oss.builder.web.EnvelopeEtags;
+import com.accessgatelabs.oss.builder.web.NotModifiedInterceptor;
+import com.accessgatelabs.oss.builder.web.PrerenderedResponses;
+import com.accessgatelabs.oss.builder.web.ResponseCache;
+import com.accessgatelabs.oss.builder.web.ResponseCacheInterceptor;
+import com.accessgatelabs.oss.builder.web.ResponseCompressor;
+import com.accessgatelabs.oss.builder.web.StateServiceResponseHttpMessageConverter;
+import com.accessgatelabs.oss.builder.web.ZstdDictionary;
+import com.accessgatelabs.oss.builder.web.ZstdDictionaryController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Auto-configuration of the Response Builder.
+ *
+ * <p>
+ * 		Registers @see ResponseBuilderModule as a bean, which Spring Boot adds to the
+ * 		auto-configured @see ObjectMapper used by Spring MVC, with the
+ * 		@see com.accessgatelabs.oss.builder.serializers.EnvelopeProfile set by
+ * 		<code>accessgatelabs.response-builder.envelope.profile</code>.
+ * </p>
+ *
+ * <p>
+ * 		Responses are stamped by a @see CachedResponseClock, unless
+ * 		<code>accessgatelabs.response-builder.clock.cached=false</code> or another
+ * 		@see ResponseClock bean is declared.
+ * </p>
+ *
+ * <p>
+ * 		In servlet applications, the write path buffers envelopes into a @see BufferPool bounded by
+ * 		<code>accessgatelabs.response-builder.converter.buffer-pool-size</code>, and @see PrerenderedResponses renders its templates with that
+ * 		same @see ObjectMapper, and envelopes are written by @see StateServiceResponseHttpMessageConverter
+ * 		unless <code>accessgatelabs.response-builder.converter.enabled=false</code>. Spring Boot
+ * 		places the converter ahead of the default ones. The binary encodings listed in
+ * 		<code>accessgatelabs.response-builder.converter.encodings</code> are written by mappers
+ * 		built like the application one, with the matching @see BinaryEncoding factory.
+ * 		With <code>accessgatelabs.response-builder.converter.compression.enabled=true</code>, the
+ * 		converter compresses envelopes through a @see ResponseCompressor. Setting
+ * 		<code>accessgatelabs.response-builder.converter.compression.dictionary.location</code> too
+ * 		loads a @see ZstdDictionary for it, served by a @see ZstdDictionaryController.
+ * 		With <code>accessgatelabs.response-builder.converter.etag.enabled=true</code>, it tags
+ * 		fetched envelopes through @see EnvelopeEtags, and a @see NotModifiedInterceptor answers
+ * 		the requests presenting a recent ETag. With <code>accessgatelabs.response-builder.converter.cache.enabled=true</code>,
+ * 		a @see ResponseCacheInterceptor replays the envelopes of handlers annotated with
+ * 		@see com.accessgatelabs.oss.builder.web.CachedResponse from a @see ResponseCache.
+ * 		The @see BatchController is registered when <code>accessgatelabs.response-builder.batch.enabled=true</code>,
+ * 		dispatching sub-requests to the @see DispatcherServlet through the <code>springSecurityFilterChain</code>.
+ * 		Without that filter nor a single @see WebInvocationPrivilegeEvaluator, it is refused unless
+ * 		<code>accessgatelabs.response-builder.batch.allow-unsecured=true</code>.
+ * </p>
+ *
+ * <p>
+ * 		In reactive applications, a @see ReactiveResponseBuilder and a @see ReactiveExceptionHandler
+ * 		are registered, both writing with the application @see ObjectMapper. Spring MVC is an optional
+ * 		dependency, and the servlet beans are only registered when the @see DispatcherServlet is there.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(ObjectMapper.class)
+@AutoConfigureBefore(JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(ResponseBuilderProperties.class)
+public class ResponseBuilderAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public ResponseBuilderModule responseBuilderModule(ResponseBuilderProperties properties) {
+		return new ResponseBuilderModule(properties.getEnvelope().getProfile());
+	}
+	
+	@Bean
+	@ConditionalOnMissingBean(ResponseClock.class)
+	@ConditionalOnProperty(prefix = "accessgatelabs.response-builder.clock", name = "cached", havingValue = "true", matchIfMissing = true)
+	public CachedResponseClock responseClock() {
+		return new CachedResponseClock();
+	}
+	
+	@Bean
+	public SmartInitializingSingleton responseClockInitializer(ObjectProvider<ResponseClock> responseClock) {
+		return () -> responseClock.ifAvailable(ResponseClock::use);
+	}
+	
+	
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+	@ConditionalOnClass(name = "org.springframework.web.servlet.DispatcherServlet")
+	static class ServletConfiguration {
+		
+		@Bean
+		@ConditionalOnMissingBean
+		public BufferPool responseBufferPool(ResponseBuilderProperties properties) {
+			return new BufferPool(properties.getConverter().getBufferPoolSize().toBytes(),
+					properties.getConverter().getDirectBufferPoolSize().toBytes());
+		}
+		
+		@Bean
+		public SmartInitializingSingleton responseBufferPoolInitializer(ObjectProvider<BufferPool> bufferPool) {
+			return () -> bufferPool.ifAvailable(BufferPool::use);
+		}
+		
+		@Bean
+		public SmartInitializingSingleton prerenderedResponsesInitializer(ObjectProvider<ObjectMapper> objectMapper) {
+			return () -> objectMapper.ifAvailable(PrerenderedResponses::configure);
+		}
+		
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(prefix = "accessgatelabs.response-builder.converter", name = "enabled", havingValue = "true", matchIfMissing = true)
+		public StateServiceResponseHttpMessageConverter stateServiceResponseHttpMessageConverter(ObjectProvider<ObjectMapper> objectMapper,
+				ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder, ObjectProvider<ZstdDictionary> dictionary,
+				ObjectProvider<EnvelopeEtags> etags, ObjectProvider<ResponseCache> responseCache, ResponseBuilderProperties properties) {
+			StateServiceResponseHttpMessageConverter converter = new StateServiceResponseHttpMessageConverter(
+					objectMapper.getIfAvailable(() -> new ObjectMapper().registerModule(new ResponseBuilderModule())));
+			for (BinaryEncoding encoding : properties.getConverter().getEncodings()) {
+				Jackson2ObjectMapperBuilder builder = objectMapperBuilder.getIfAvailable();
+				ObjectMapper binaryObjectMapper = builder != null
+						? builder.factory(encoding.createFactory()).build()
+						: new ObjectMapper(encoding.createFactory()).registerModule(new ResponseBuilderModule());
+				converter.addEncoding(encoding.getMediaType(), binaryObjectMapper);
+			}
+			ResponseBuilderProperties.Compression compression = properties.getConverter().getCompression();
+			if (compression.isEnabled()) {
+				ResponseCompressor compressor = new ResponseCompressor(compression.getMinSize(), compression.getCodings());
+				compressor.setDictionary(dictionary.getIfAvailable(), compression.getDictionary().getMinSize());
+				converter.setCompressor(compressor);
+				responseCache.ifAvailable(cache -> cache.setCompressor(compressor));
+			}
+			converter.setEtags(etags.getIfAvailable());
+			converter.setResponseCache(responseCache.getIfAvailable());
+			converter.setOffHeapThreshold((int) Math.min(properties.getConverter().getOffHeapThreshold().toBytes(), Integer.MAX_VALUE));
+			converter.setMemoryBudget(properties.getConverter().getMemoryBudget().toBytes());
+			if (properties.getConverter().getSpillDirectory() != null) {
+				converter.setSpillDirectory(properties.getConverter().getSpillDirectory().toPath());
+			}
+			return converter;
+		}
+		
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(prefix = "accessgatelabs.response-builder.converter.etag", name = "enabled", havingValue = "true")
+		public EnvelopeEtags envelopeEtags(ResponseBuilderProperties properties) {
+			ResponseBuilderProperties.Etag etag = properties.getConverter().getEtag();
+			return new EnvelopeEtags(etag.getCacheSize(), etag.getCacheTtl().toMillis());
+		}
+		
+		@Bean
+		@ConditionalOnProperty(prefix = "accessgatelabs.response-builder.converter.etag", name = "enabled", havingValue = "true")
+		public WebMvcConfigurer notModifiedInterceptorConfigurer(EnvelopeEtags etags) {
+			return new WebMvcConfigurer() {
+				
+				@Override
+				public void addInterceptors(InterceptorRegistry registry) {
+					if (etags.isCaching()) {
+						registry.addInterceptor(new NotModifiedInterceptor(etags));
+					}
+				}
+			};
+		}
+		
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(prefix = "accessgatelabs.response-builder.converter.cache", name = "enabled", havingValue = "true")
+		public ResponseCache responseCache(ResponseBuilderProperties properties) {
+			return new ResponseCache(properties.getConverter().getCache().getMaxSize().toBytes());
+		}
+		
+		@Bean
+		@ConditionalOnProperty(prefix = "accessgatelabs.response-builder.converter.cache", name = "enabled", havingValue = "true")
+		public WebMvcConfigurer responseCacheInterceptorConfigurer(ResponseCache responseCache) {
+			return new WebMvcConfigurer() {
+				
+				@Override
+				public void addInterceptors(InterceptorRegistry registry) {
+					registry.addInterceptor(new ResponseCacheInterceptor(responseCache));
+				}
+			};
+		}
+		
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(prefix = "accessgatelabs.response-builder.batch", name = "enabled", havingValue = "true")
+		public BatchController batchController(ObjectProvider<ObjectMapper> objectMapper, DispatcherServlet dispatcherServlet,
+				@Qualifier(AbstractSecurityWebApplicationInitializer.DEFAULT_FILTER_NAME) ObjectProvider<Filter> securityFilter,
+				ObjectProvider<WebInvocationPrivilegeEvaluator> privilegeEvaluator, ResponseBuilderProperties properties) {
+			ResponseBuilderProperties.Batch batch = properties.getBatch();
+			Filter filter = securityFilter.getIfAvailable();
+			WebInvocationPrivilegeEvaluator evaluator = privilegeEvaluator.getIfUnique();
+			if (filter == null && evaluator == null && !batch.isAllowUnsecured()) {
+				throw new IllegalStateException("The batch endpoint needs the " + AbstractSecurityWebApplicationInitializer.DEFAULT_FILTER_NAME
+						+ " filter or a single WebInvocationPrivilegeEvaluator to secure its sub-requests, set"
+						+ " accessgatelabs.response-builder.batch.allow-unsecured=true to dispatch them without");
+			}
+			BatchController controller = new BatchController(
+					objectMapper.getIfAvailable(() -> new ObjectMapper().registerModule(new ResponseBuilderModule())),
+					dispatcherServlet, batch.getPath(), batch.getMaxRequests(), batch.getConcurrency(), batch.getThreads(),
+					batch.getTimeout().toMillis());
+			controller.setSecurityFilter(filter);
+			controller.setPrivilegeEvaluator(evaluator);
+			return controller;
+		}
+		
+		
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(name = "com.github.luben.zstd.ZstdDictCompress")
+		@ConditionalOnProperty(prefix = "accessgatelabs.response-builder.converter.compression", name = { "enabled", "dictionary.location" })
+		static class ZstdDictionaryConfiguration {
+			
+			@Bean
+			@ConditionalOnMissingBean
+			public ZstdDictionary zstdDictionary(ResponseBuilderProperties properties) throws IOException {
+				return ZstdDictionary.load(properties.getConverter().getCompression().getDictionary().getLocation());
+			}
+			
+			@Bean
+			@ConditionalOnMissingBean
+			public ZstdDictionaryController zstdDictionaryController(ZstdDictionary dictionary) {
+				return new ZstdDictionaryController(dictionary);
+			}
+			
+		}
+		
+	}
+	
+	
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+	static class ReactiveConfiguration {
+		
+		@Bean
+		@ConditionalOnMissingBean
+		public ReactiveResponseBuilder reactiveResponseBuilder(ObjectProvider<ObjectMapper> objectMapper) {
+			return new ReactiveResponseBuilder(
+					objectMapper.getIfAvailable(() -> new ObjectMapper().registerModule(new ResponseBuilderModule())));
+		}
+		
+		@Bean
+		@ConditionalOnMissingBean
+		public ReactiveExceptionHandler reactiveExceptionHandler(ObjectProvider<ObjectMapper> objectMapper) {
+			return new ReactiveExceptionHandler(
+					objectMapper.getIfAvailable(() -> new ObjectMapper().registerModule(new ResponseBuilderModule())));
+		}
+		
+	}
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.config;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import com.accessgatelabs.oss.builder.serializers.EnvelopeProfile;
+import com.accessgatelabs.oss.builder.web.BinaryEncoding;
+import com.accessgatelabs.oss.builder.web.BufferPool;
+import com.accessgatelabs.oss.builder.web.ContentCoding;
+import com.accessgatelabs.oss.builder.web.ResponseCompressor;
+import com.accessgatelabs.oss.builder.web.StateServiceResponseHttpMessageConverter;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties of the Response Builder, under <code>accessgatelabs.response-builder</code>.
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accessgatelabs.response-builder")
+public class ResponseBuilderProperties {
+	
+	private final Envelope envelope = new Envelope();
+	
+	private final Clock clock = new Clock();
+	
+	private final Converter converter = new Converter();
+	
+	private final Batch batch = new Batch();
+	
+	
+	@Getter
+	@Setter
+	public static class Envelope {
+		
+		/**
+		 * Properties of the envelope written: minimal, standard or verbose.
+		 */
+		private EnvelopeProfile profile = EnvelopeProfile.VERBOSE;
+		
+	}
+	
+	@Getter
+	@Setter
+	public static class Clock {
+		
+		/**
+		 * Whether responses are stamped by a per-second cached clock instead of the system clock.
+		 */
+		private boolean cached = true;
+		
+	}
+	
+	@Getter
+	@Setter
+	public static class Converter {
+		
+		/**
+		 * Whether envelopes are written by the dedicated message converter.
+		 */
+		private boolean enabled = true;
+		
+		/**
+		 * Binary encodings the converter produces when the client accepts them, besides JSON.
+		 */
+		private Set<BinaryEncoding> encodings = new LinkedHashSet<>();
+		
+		/**
+		 * Memory the pool of write buffers may retain between responses.
+		 */
+		private DataSize bufferPoolSize = DataSize.ofBytes(BufferPool.DEFAULT_MAX_RETAINED_BYTES);
+		
+		/**
+		 * Memory the pool of direct segments holding large envelopes may retain between responses.
+		 */
+		private DataSize directBufferPoolSize = DataSize.ofBytes(BufferPool.DEFAULT_MAX_RETAINED_BYTES);
+		
+		/**
+		 * Largest heap buffer an envelope is written into; larger envelopes are held in direct memory and written through NIO.
+		 */
+		private DataSize offHeapThreshold = DataSize.ofBytes(StateServiceResponseHttpMessageConverter.DEFAULT_OFF_HEAP_THRESHOLD);
+		
+		/**
+		 * Direct memory an envelope may take up; larger envelopes spill to a temporary file and are streamed from it.
+		 */
+		private DataSize memoryBudget = DataSize.ofBytes(StateServiceResponseHttpMessageConverter.DEFAULT_MEMORY_BUDGET);
+		
+		/**
+		 * Directory of the spill files, the default temporary directory if not set.
+		 */
+		private File spillDirectory;
+		
+		private final Compression compression = new Compression();
+		
+		private final Etag etag = new Etag();
+		
+		private final Cache cache = new Cache();
+		
+	}
+	
+	@Getter
+	@Setter
+	public static class Cache {
+		
+		/**
+		 * Whether FETCHED envelopes of handlers annotated with @CachedResponse are cached and replayed.
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * Memory the cached envelopes may take up, least recently used ones being evicted past it.
+		 */
+		private DataSize maxSize = DataSize.ofMegabytes(16);
+		
+	}
+	
+	@Getter
+	@Setter
+	public static class Etag {
+		
+		/**
+		 * Whether FETCHED envelopes are tagged with an ETag and conditional requests answered with 304 Not Modified.
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * Number of paths whose last ETag is remembered.
+		 */
+		private int cacheSize = 10_000;
+		
+		/**
+		 * Time a remembered ETag answers conditional requests before the handler runs, 0 to always run it.
+		 */
+		private Duration cacheTtl = Duration.ofSeconds(5);
+		
+	}
+	
+	@Getter
+	@Setter
+	public static class Compression {
+		
+		/**
+		 * Whether the converter compresses envelopes with the coding the client accepts.
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * Size in bytes from which envelopes are compressed.
+		 */
+		private int minSize = ResponseCompressor.DEFAULT_MIN_SIZE;
+		
+		/**
+		 * Codings offered, by order of preference. Codings whose library is missing are skipped.
+		 */
+		private List<ContentCoding> codings = Arrays.asList(ContentCoding.ZSTD, ContentCoding.GZIP, ContentCoding.DEFLATE);
+		
+		private final Dictionary dictionary = new Dictionary();
+		
+	}
+	
+	@Getter
+	@Setter
+	public static class Dictionary {
+		
+		/**
+		 * Location of a zstd dictionary trained on captured envelopes, offered to the clients opting in.
+		 */
+		private Resource location;
+		
+		/**
+		 * Size in bytes from which envelopes are compressed against the dictionary.
+		 */
+		private int minSize = 64;
+		
+		/**
+		 * Path of the endpoint serving the dictionary.
+		 */
+		private String path = "/zstd-dictionary";
+		
+	}
+	
+	@Getter
+	@Setter
+	public static class Batch {
+		
+		/**
+		 * Whether the batch endpoint is registered.
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * Path of the batch endpoint.
+		 */
+		private String path = "/batch";
+		
+		/**
+		 * Maximum number of sub-requests of a batch.
+		 */
+		private int maxRequests = 50;
+		
+		/**
+		 * Maximum number of sub-requests of a batch dispatched at once.
+		 */
+		private int concurrency = 8;
+		
+		/**
+		 * Number of threads dispatching sub-requests, shared by all batches. Virtual threads are used instead when available.
+		 */
+		private int threads = 32;
+		
+		/**
+		 * Time after which a batch is answered with the sub-requests completed so far.
+		 */
+		private Duration timeout = Duration.ofSeconds(10);
+		
+		/**
+		 * Whether sub-requests may be dispatched when neither the springSecurityFilterChain filter nor a single WebInvocationPrivilegeEvaluator is there to secure them.
+		 */
+		private boolean allowUnsecured = false;
+		
+	}
+
+}
@@ -40,6 +40,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartException;
@@ -48,12 +49,12 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import com.accessgatelabs.oss.builder.models.ApiServiceResponse;
 import com.accessgatelabs.oss.builder.models.ExceptionResponseBuilder;
 import com.accessgatelabs.oss.builder.models.HttpResponse;
 import com.accessgatelabs.oss.builder.models.ServiceResponse;
 import com.accessgatelabs.oss.builder.models.StateServiceResponse;
 import com.accessgatelabs.oss.builder.models.ViolationType;
+import com.accessgatelabs.oss.builder.web.PrerenderedResponses;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -112,8 +113,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         				null, ex.getParameterName(), null, ViolationType.Missing_Key, ex.getParameterType(), "PARAMETER", ex.getMessage()));
         
         stateServiceResponse.setApiServiceResponse(
-        		new ApiServiceResponse(ServiceResponse.REQUIRED_REQUEST_URI_PARAMETER_MISSING.value(), 
-        				ServiceResponse.REQUIRED_REQUEST_URI_PARAMETER_MISSING));
+        		ServiceResponse.REQUIRED_REQUEST_URI_PARAMETER_MISSING.getApiServiceResponse());
         
         return buildResponseEntity(stateServiceResponse);
     }
@@ -171,7 +171,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     public ResponseEntity<?> handleAccessDeniedException(HttpServletRequest request, HttpServletResponse response,
             AccessDeniedException ex) throws IOException, ServletException {
     	StateServiceResponse stateServiceResponse = new StateServiceResponse(
-    			new ApiServiceResponse(ServiceResponse.INVALID_AUTHENTICATION.value(), ServiceResponse.INVALID_AUTHENTICATION), 
+    			ServiceResponse.INVALID_AUTHENTICATION.getApiServiceResponse(), 
 	    		"Not authorized to access this call");
     	return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(stateServiceResponse);
     	
@@ -228,7 +228,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         stateServiceResponse.setErrorCount(ex.getBindingResult().getErrorCount());
         stateServiceResponse.setPath(uriPath(request));
         stateServiceResponse.setApiServiceResponse(
-        		new ApiServiceResponse(ServiceResponse.VALIDATION_EXCEPTION.value(), ServiceResponse.VALIDATION_EXCEPTION));
+        		ServiceResponse.VALIDATION_EXCEPTION.getApiServiceResponse());
         
         return buildResponseEntity(stateServiceResponse);
     }
@@ -246,7 +246,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     protected ResponseEntity<Object> handleEntityNotFound(
             EntityNotFoundException ex) {
     	StateServiceResponse stateServiceResponse = new StateServiceResponse(
-    			new ApiServiceResponse(ServiceResponse.ENTITY_NOT_FOUND.value(), ServiceResponse.ENTITY_NOT_FOUND));
+    			ServiceResponse.ENTITY_NOT_FOUND.getApiServiceResponse());
         stateServiceResponse.setMessage(ex.getMessage());
         return buildResponseEntity(stateServiceResponse);
     }
@@ -272,7 +272,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         stateServiceResponse.setPath(uriPath(request));
         
         stateServiceResponse.setApiServiceResponse(
-        		new ApiServiceResponse(ServiceResponse.MALFORMED_JSON_PAYLOAD.value(), ServiceResponse.MALFORMED_JSON_PAYLOAD));
+        		ServiceResponse.MALFORMED_JSON_PAYLOAD.getApiServiceResponse());
         return buildResponseEntity(stateServiceResponse);
     }
     
@@ -320,6 +320,42 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     
     
     
+    /**
+     * Handle @see AsyncRequestTimeoutException. Triggered when an asynchronous request times out.
+     *
+     * <p>
+     * 		A timeout is typically raised for many requests at once, when a downstream service stalls.
+     * 		The pre-rendered @see ServiceResponse#ASYNC_REQUEST_TIMEOUT body is written straight to
+     * 		the response by @see PrerenderedResponses, nothing is built nor serialized per request.
+     * </p>
+     *
+     * @param ex	AsyncRequestTimeoutException @see AsyncRequestTimeoutException
+     * @param headers	HttpHeaders @see HttpHeaders
+     * @param status	HttpStatus @see HttpStatus
+     * @param webRequest	WebRequest @see WebRequest
+     * @return null, the response being written or already committed
+     */
+    @Override
+    protected ResponseEntity<Object> handleAsyncRequestTimeoutException(
+            AsyncRequestTimeoutException ex, HttpHeaders headers, HttpStatus status, WebRequest webRequest) {
+    	HttpServletResponse response = webRequest instanceof ServletWebRequest
+    			? ((ServletWebRequest) webRequest).getResponse() : null;
+    	if (response == null) {
+    		return new ResponseEntity<>(ServiceResponse.ASYNC_REQUEST_TIMEOUT.build(), ServiceResponse.ASYNC_REQUEST_TIMEOUT.getHttpStatus());
+    	}
+    	if (!response.isCommitted()) {
+    		try {
+    			PrerenderedResponses.write(ServiceResponse.ASYNC_REQUEST_TIMEOUT, response);
+    		} catch (IOException writeFailure) {
+    			log.debug("Could not write async request timeout response", writeFailure);
+    		}
+    	}
+    	return null;
+    }
+    
+    
+    
+    
     /**
      * Handle Exception, handle generic Exception.class
      *
@@ -59,4 +59,31 @@ public class ApiServiceResponse {
 	private int serviceResponseCode;
 	@JsonProperty("response")
 	private ServiceResponse serviceResponse;
+	
+	
+	/**
+	 * Immutable @see ApiServiceResponse owned by a @see ServiceResponse constant.
+	 * 
+	 * <p>
+	 * 		The code and identity of a constant never change, so a single instance is
+	 * 		shared by every @see StateServiceResponse built for that constant.
+	 * 		Setters are rejected to keep the shared instance intact.
+	 * </p>
+	 */
+	static final class Constant extends ApiServiceResponse {
+		
+		Constant(int serviceResponseCode, ServiceResponse serviceResponse) {
+			super(serviceResponseCode, serviceResponse);
+		}
+		
+		@Override
+		public void setServiceResponseCode(int serviceResponseCode) {
+			throw new UnsupportedOperationException("ApiServiceResponse of " + getServiceResponse() + " is shared and cannot be modified, set a new ApiServiceResponse on the response instead");
+		}
+		
+		@Override
+		public void setServiceResponse(ServiceResponse serviceResponse) {
+			throw new UnsupportedOperationException("ApiServiceResponse of " + getServiceResponse() + " is shared and cannot be modified, set a new ApiServiceResponse on the response instead");
+		}
+	}
 }
@@ -59,4 +59,30 @@ public class HttpResponse {
 	private int statusCode;
 	@JsonProperty("status")
 	private HttpStatus status;
+	
+	
+	/**
+	 * Immutable @see HttpResponse owned by a @see ServiceResponse constant.
+	 * 
+	 * <p>
+	 * 		Mirrors the @see HttpStatus mapped to the constant and is shared by every
+	 * 		response built for it. Setters are rejected to keep the shared instance intact.
+	 * </p>
+	 */
+	static final class Constant extends HttpResponse {
+		
+		Constant(HttpStatus status) {
+			super(status.value(), status);
+		}
+		
+		@Override
+		public void setStatusCode(int statusCode) {
+			throw new UnsupportedOperationException("HttpResponse of " + getStatus() + " is shared and cannot be modified, set a new HttpResponse on the response instead");
+		}
+		
+		@Override
+		public void setStatus(HttpStatus status) {
+			throw new UnsupportedOperationException("HttpResponse of " + getStatus() + " is shared and cannot be modified, set a new HttpResponse on the response instead");
+		}
+	}
 }
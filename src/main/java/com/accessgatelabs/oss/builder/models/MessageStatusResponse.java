@@ -18,6 +18,7 @@ package com.accessgatelabs.oss.builder.models;
 
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
@@ -61,6 +62,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+@JsonPropertyOrder({ "type", "receipients", "ttd", "sent", "delivered" })
 public class MessageStatusResponse {
 	private String type;
 	private boolean isSent;
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of one item of a bulk operation, within a @see MultiStatusResult.
+ *
+ * <p>
+ * 		Only carries the index of the item in the request, the code of its @see ServiceResponse
+ * 		and, when set, the @see HttpResponse of a dispatched sub-request and its payload or the
+ * 		error that failed it:
+ * </p>
+ *
+ * <pre>
+ * {"index":3,"code":3430,"error":"User 42 not found"}
+ * </pre>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "index", "code", "http", "result", "error" })
+public class MultiStatusItem {
+	
+	private final int index;
+	
+	private final int code;
+	
+	private final HttpResponse http;
+	
+	private final Object result;
+	
+	private final String error;
+	
+	
+	public static MultiStatusItem of(int index, ServiceResponse serviceResponse) {
+		return new MultiStatusItem(index, serviceResponse.value(), null, null, null);
+	}
+	
+	public static MultiStatusItem of(int index, ServiceResponse serviceResponse, Object result) {
+		return new MultiStatusItem(index, serviceResponse.value(), null, result, null);
+	}
+	
+	public static MultiStatusItem of(int index, ServiceResponse serviceResponse, HttpResponse http, Object result) {
+		return new MultiStatusItem(index, serviceResponse.value(), http, result, null);
+	}
+	
+	public static MultiStatusItem failed(int index, ServiceResponse serviceResponse, String error) {
+		return new MultiStatusItem(index, serviceResponse.value(), null, null, error);
+	}
+	
+	public static MultiStatusItem failed(int index, ServiceResponse serviceResponse, HttpResponse http, String error) {
+		return new MultiStatusItem(index, serviceResponse.value(), http, null, error);
+	}
+	
+	public static MultiStatusItem failed(int index, ServiceResponse serviceResponse, Throwable ex) {
+		return failed(index, serviceResponse,
+				ex.getLocalizedMessage() != null ? ex.getLocalizedMessage() : ex.getClass().getSimpleName());
+	}
+	
+	
+	/**
+	 * Return the @see ServiceResponse of the item.
+	 * @return the constant matching the code, or null if it is unknown
+	 */
+	@JsonIgnore
+	public ServiceResponse getServiceResponse() {
+		return ServiceResponse.resolve(code);
+	}
+	
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.models;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Per-item outcomes of a bulk operation, written as the result of a
+ * @see ServiceResponse#MULTI_STATUS envelope:
+ *
+ * <pre>
+ * return ServiceResponse.MULTI_STATUS.buildResponse(MultiStatusResult.of(items));
+ * </pre>
+ *
+ * <p>
+ * 		Instead of one full envelope per item, each with its own timestamp, <code>http</code>
+ * 		block and null fields, the items are @see MultiStatusItem entries followed by the number
+ * 		of items per code:
+ * </p>
+ *
+ * <pre>
+ * "result":{"items":[{"index":0,"code":2010},{"index":1,"code":3430,"error":"..."}],"counts":{"2010":1,"3430":1}}
+ * </pre>
+ *
+ * <p>
+ * 		The counts are tallied while the items are written, so a result built from a
+ * 		@see Stream or an @see Iterator is written as its items complete, like a
+ * 		@see StreamingResult, and is closed once written. If the source fails, the
+ * 		<code>items</code> array ends early and the counts are followed by the <code>error</code>.
+ * 		A result built from a @see List can be written any number of times.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class MultiStatusResult implements AutoCloseable {
+	
+	private final List<MultiStatusItem> items;
+	
+	private final StreamingResult<MultiStatusItem> streamingItems;
+	
+	private MultiStatusResult(List<MultiStatusItem> items, StreamingResult<MultiStatusItem> streamingItems) {
+		this.items = items;
+		this.streamingItems = streamingItems;
+	}
+	
+	
+	public static MultiStatusResult of(List<MultiStatusItem> items) {
+		return new MultiStatusResult(items, null);
+	}
+	
+	public static MultiStatusResult of(Stream<MultiStatusItem> items) {
+		return new MultiStatusResult(null, StreamingResult.of(items));
+	}
+	
+	public static MultiStatusResult of(Iterator<MultiStatusItem> items) {
+		return new MultiStatusResult(null, StreamingResult.of(items));
+	}
+	
+	
+	/**
+	 * Return the items to write.
+	 * 
+	 * @return the iterator over the items
+	 * @throws IllegalStateException	If the result is streamed and was already written
+	 */
+	public Iterator<MultiStatusItem> iterator() {
+		return items != null ? items.iterator() : streamingItems.iterator();
+	}
+	
+	@Override
+	public void close() throws Exception {
+		if (streamingItems != null) {
+			streamingItems.close();
+		}
+	}
+	
+}
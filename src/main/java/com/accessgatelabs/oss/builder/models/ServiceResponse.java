@@ -16,7 +16,11 @@
 
 package com.accessgatelabs.oss.builder.models;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -291,6 +295,13 @@ public enum ServiceResponse {
 			HttpStatus.OK
 	),
 	
+	MULTI_STATUS
+	(
+			2290, 
+			"Multi Status", 
+			HttpStatus.MULTI_STATUS
+	),
+	
 	
 	/*
 	 * Non severe Information/Error Responses 
@@ -833,19 +844,72 @@ public enum ServiceResponse {
 			5210,
 			"Token Generate Error",
 			HttpStatus.INTERNAL_SERVER_ERROR
+	),
+	
+	ASYNC_REQUEST_TIMEOUT
+	(
+			5230,
+			"Async Request Timeout",
+			HttpStatus.SERVICE_UNAVAILABLE
 	)
 	
 	;
 	
 	
+	/*
+	 * Stateless builder shared by every constant.
+	 */
+	private static final StateServiceResponseBuilder STATE_SERVICE_RESPONSE_BUILDER = new StateServiceResponseBuilder();
+	
+	/*
+	 * Index of the constants by numeric value, built once at class initialization.
+	 * Slot i holds the constant whose value is CODE_INDEX_OFFSET + i * CODE_INDEX_STRIDE.
+	 */
+	private static final int CODE_INDEX_OFFSET;
+	private static final int CODE_INDEX_STRIDE;
+	private static final ServiceResponse[] CODE_INDEX;
+	
+	static {
+		ServiceResponse[] constants = values();
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (ServiceResponse serviceResponse : constants) {
+			min = Math.min(min, serviceResponse.value);
+			max = Math.max(max, serviceResponse.value);
+		}
+		
+		// Codes are spaced by a common step (10 today), the table only needs one slot per step
+		int stride = 0;
+		for (ServiceResponse serviceResponse : constants) {
+			stride = greatestCommonDivisor(stride, serviceResponse.value - min);
+		}
+		stride = Math.max(stride, 1);
+		
+		ServiceResponse[] index = new ServiceResponse[(max - min) / stride + 1];
+		for (ServiceResponse serviceResponse : constants) {
+			int slot = (serviceResponse.value - min) / stride;
+			// keep the first declared constant for a duplicated code, like a linear scan would
+			if (index[slot] == null) {
+				index[slot] = serviceResponse;
+			}
+		}
+		CODE_INDEX_OFFSET = min;
+		CODE_INDEX_STRIDE = stride;
+		CODE_INDEX = index;
+	}
+	
 	private final int value;
 	private final String reasonPhrase;
 	private final HttpStatus httpStatus;
+	private final ApiServiceResponse apiServiceResponse;
+	private final HttpResponse httpResponse;
 
 	ServiceResponse(int value, String reasonPhrase, HttpStatus httpStatus) {
 		this.value = value;
 		this.reasonPhrase = reasonPhrase;
 		this.httpStatus = httpStatus;
+		this.apiServiceResponse = new ApiServiceResponse.Constant(value, this);
+		this.httpResponse = new HttpResponse.Constant(httpStatus);
 	}
 
 
@@ -873,6 +937,27 @@ public enum ServiceResponse {
 		return this.httpStatus;
 	}
 	
+	/**
+	 * Return the shared @see ApiServiceResponse of this status code.
+	 * The instance is immutable and reused by every response built for this constant:
+	 * its setters throw @see UnsupportedOperationException. Set a new @see ApiServiceResponse
+	 * on a response to change it.
+	 * @return ApiServiceResponse of this status code
+	 */
+	public ApiServiceResponse getApiServiceResponse() {
+		return this.apiServiceResponse;
+	}
+	
+	/**
+	 * Return the shared @see HttpResponse of this status code.
+	 * The instance is immutable and mirrors @see #getHttpStatus(): its setters throw
+	 * @see UnsupportedOperationException. Set a new @see HttpResponse on a response to change it.
+	 * @return HttpResponse of this status code
+	 */
+	public HttpResponse getHttpResponse() {
+		return this.httpResponse;
+	}
+	
 	/**
 	 * Return a string representation of this status code.
 	 * @return String representation
@@ -896,9 +981,9 @@ public enum ServiceResponse {
 	 * @see StateServiceResponse
 	 */
 	public StateServiceResponse build() {
-		return new StateServiceResponseBuilder().build(
+		return STATE_SERVICE_RESPONSE_BUILDER.build(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()));
+				this);
 	}
 	
 	/**
@@ -912,9 +997,9 @@ public enum ServiceResponse {
 	 * @see ServiceResponse
 	 */
 	public ResponseEntity<?> buildResponse() {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()));
+				this);
 	}
 	
 	/**
@@ -931,9 +1016,9 @@ public enum ServiceResponse {
 	 * for @see StateServiceResponse
 	 */
 	public ResponseEntity<?> buildResponse(String message) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				message);
 	}
 	
@@ -953,9 +1038,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(Object objectAsResponse) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				objectAsResponse
 				);
 	}
@@ -977,9 +1062,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(Object objectAsResponse, String message) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				objectAsResponse,
 				message);
 	}
@@ -1001,9 +1086,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(List<FileUploadResponse> fileUploadResponse, String message) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				fileUploadResponse,
 				message);
 	}
@@ -1023,9 +1108,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(List<FileUploadResponse> fileUploadResponse) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				fileUploadResponse);
 	}
 	
@@ -1047,9 +1132,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(List<FileUploadResponse> fileUploadResponse, Object objectAsResponse, String message) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				fileUploadResponse,
 				objectAsResponse,
 				message);
@@ -1073,9 +1158,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(List<FileUploadResponse> fileUploadResponse, Object objectAsResponse) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				fileUploadResponse,
 				objectAsResponse);
 	}
@@ -1097,9 +1182,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(MessageStatusResponse messageStatusResponse, String message) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				messageStatusResponse,
 				message);
 	}
@@ -1119,9 +1204,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(MessageStatusResponse messageStatusResponse) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				messageStatusResponse);
 	}
 	
@@ -1143,9 +1228,9 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(MessageStatusResponse messageStatusResponse, Object objectAsResponse, String message) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				messageStatusResponse,
 				objectAsResponse,
 				message);
@@ -1168,13 +1253,114 @@ public enum ServiceResponse {
 	 * @see ResponseEntity
 	 */
 	public ResponseEntity<?> buildResponse(MessageStatusResponse messageStatusResponse, Object objectAsResponse) {
-		return new StateServiceResponseBuilder().buildResponse(
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponse(
 				this.getHttpStatus(), 
-				ServiceResponse.valueOf(this.name()),
+				this,
 				messageStatusResponse,
 				objectAsResponse);
 	}
 	
+	/**
+	 * Call the @see StateServiceBuilder 
+	 * buildStreamingResponse() method
+	 * and returns @see ResponseEntity 
+	 * object whose result is written
+	 * element by element from the @see Stream,
+	 * which is closed once written.
+	 * 
+	 * @param <T>		element type
+	 * @param result	Stream of the result elements
+	 * 
+	 * @return status @see HttpStatus
+	 * @see ServiceResponse
+	 * and @see StreamingResult result
+	 * for 
+	 * @see ResponseEntity
+	 */
+	public <T> ResponseEntity<?> buildStreamingResponse(Stream<T> result) {
+		return STATE_SERVICE_RESPONSE_BUILDER.buildStreamingResponse(
+				this.getHttpStatus(), 
+				this,
+				StreamingResult.of(result));
+	}
+	
+	/**
+	 * Call the @see StateServiceBuilder 
+	 * buildStreamingResponse() method
+	 * and returns @see ResponseEntity 
+	 * object whose result is written
+	 * element by element from the @see Iterator.
+	 * 
+	 * @param <T>		element type
+	 * @param result	Iterator over the result elements
+	 * 
+	 * @return status @see HttpStatus
+	 * @see ServiceResponse
+	 * and @see StreamingResult result
+	 * for 
+	 * @see ResponseEntity
+	 */
+	public <T> ResponseEntity<?> buildStreamingResponse(Iterator<T> result) {
+		return STATE_SERVICE_RESPONSE_BUILDER.buildStreamingResponse(
+				this.getHttpStatus(), 
+				this,
+				StreamingResult.of(result));
+	}
+	
+	
+	
+	
+	/**
+	 * Call the @see StateServiceBuilder 
+	 * buildResponseAsync() method
+	 * and returns a @see CompletableFuture 
+	 * of the @see ResponseEntity, completed
+	 * once the result completes. A failed
+	 * result is built with its matching
+	 * error constant.
+	 * 
+	 * @param result	CompletionStage of the result
+	 * 
+	 * @return status @see HttpStatus
+	 * @see ServiceResponse
+	 * and the result
+	 * for 
+	 * @see ResponseEntity
+	 */
+	public CompletableFuture<ResponseEntity<?>> buildResponseAsync(CompletionStage<?> result) {
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponseAsync(
+				this.getHttpStatus(), 
+				this,
+				result,
+				null);
+	}
+	
+	/**
+	 * Call the @see StateServiceBuilder 
+	 * buildResponseAsync() method
+	 * and returns a @see CompletableFuture 
+	 * of the @see ResponseEntity, completed
+	 * once the result completes. A failed
+	 * result is built with its matching
+	 * error constant.
+	 * 
+	 * @param result	CompletionStage of the result
+	 * @param message	the response message
+	 * 
+	 * @return status @see HttpStatus
+	 * @see ServiceResponse
+	 * the result and @see String message 
+	 * for 
+	 * @see ResponseEntity
+	 */
+	public CompletableFuture<ResponseEntity<?>> buildResponseAsync(CompletionStage<?> result, String message) {
+		return STATE_SERVICE_RESPONSE_BUILDER.buildResponseAsync(
+				this.getHttpStatus(), 
+				this,
+				result,
+				message);
+	}
+	
 	
 	
 	
@@ -1194,17 +1380,27 @@ public enum ServiceResponse {
 
 	/**
 	 * Resolve the given Service Response code to an @see ServiceResponse, if possible.
+	 * The lookup is a single array access into an index built at class initialization.
 	 * @param serviceResponseCode the service response code @see ServiceResponse code (potentially non-standard)
 	 * @return the corresponding @see ServiceResponse or null if not found
 	 */
 	@Nullable
 	public static ServiceResponse resolve(int serviceResponseCode) {
-		for (ServiceResponse serviceResponse : values()) {
-			if (serviceResponse.value == serviceResponseCode) {
-				return serviceResponse;
-			}
+		long offset = (long) serviceResponseCode - CODE_INDEX_OFFSET;
+		if (offset < 0 || offset % CODE_INDEX_STRIDE != 0) {
+			return null;
+		}
+		long slot = offset / CODE_INDEX_STRIDE;
+		return slot < CODE_INDEX.length ? CODE_INDEX[(int) slot] : null;
+	}
+	
+	private static int greatestCommonDivisor(int a, int b) {
+		while (b != 0) {
+			int remainder = a % b;
+			a = b;
+			b = remainder;
 		}
-		return null;
+		return a;
 	}
 	
 }
\ No newline at end of file
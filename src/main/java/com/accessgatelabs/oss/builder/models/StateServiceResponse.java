@@ -7,6 +7,7 @@ import java.util.List;
 import org.springframework.validation.FieldError;
 
 import com.accessgatelabs.oss.builder.exceptions.LowerCamelCaseClassNameResolver;
+import com.accessgatelabs.oss.builder.time.ResponseClock;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
@@ -43,10 +44,16 @@ import lombok.Setter;
 @JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
 public class StateServiceResponse {
 	
+	/**
+	 * Pattern of the @see LocalDateTime timestamp on the wire.
+	 * Every formatted value has the same width, 19 characters.
+	 */
+	public static final String TIMESTAMP_PATTERN = "dd-MM-yyyy hh:mm:ss";
+	
 	@JsonProperty("http")
 	private HttpResponse httpResponse;
 	
-	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy hh:mm:ss")
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = TIMESTAMP_PATTERN)
     private LocalDateTime timestamp;
     
 	private String path;
@@ -80,10 +87,11 @@ public class StateServiceResponse {
 	/**
 	 * Constructor for initializing @see LocalDateTime
 	 * @see LocalDateTime is returned on every response by default. 
+	 * It is read from the current @see ResponseClock.
 	 *
 	 */
 	private StateServiceResponse() {
-        timestamp = LocalDateTime.now();
+        timestamp = ResponseClock.current().now();
     }
     
 	
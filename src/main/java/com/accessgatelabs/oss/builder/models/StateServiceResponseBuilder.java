@@ -17,14 +17,29 @@
 package com.accessgatelabs.oss.builder.models;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.accessgatelabs.oss.builder.exceptions.BadRequestException;
+import com.accessgatelabs.oss.builder.exceptions.EntityNotFoundException;
+import com.accessgatelabs.oss.builder.exceptions.ResourceNotFoundException;
+
 
 /**
  * A base class for building standard Responses.
  * 
+ * <p>
+ * 		The builder holds no state. The @see ApiServiceResponse of each response is the
+ * 		shared instance owned by its @see ServiceResponse constant, so the only objects
+ * 		allocated per call are the @see StateServiceResponse and its @see ResponseEntity.
+ * </p>
+ * 
  * @author Ekansh Tiwari
  * @version 1.0.0
  * @since   2020-06-02
@@ -60,8 +75,7 @@ public class StateServiceResponseBuilder {
 	 * @see HttpResponse @see ApiServiceResponse and @see String message. 
 	 */
     public StateServiceResponse build(HttpStatus httpStatus, ServiceResponse serviceResponse, String message) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), message);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), message);
     	return response;
     }
     
@@ -77,8 +91,7 @@ public class StateServiceResponseBuilder {
 	 *  @see HttpResponse and @see ApiServiceResponse. 
 	 */
     public StateServiceResponse build(HttpStatus httpStatus, ServiceResponse serviceResponse) {
-    	int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse));
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse());
     	return response;
     }
     
@@ -99,8 +112,7 @@ public class StateServiceResponseBuilder {
 	 */
     public StateServiceResponse build(HttpStatus httpStatus, ServiceResponse serviceResponse, 
     		List<FileUploadResponse> fileUploadResponse, String message) {
-    	int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), fileUploadResponse, message);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), fileUploadResponse, message);
     	return response;
     }
     
@@ -134,8 +146,7 @@ public class StateServiceResponseBuilder {
 	 *   
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse));
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse());
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -153,8 +164,7 @@ public class StateServiceResponseBuilder {
 	 *   
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse, String message) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), message);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), message);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -173,8 +183,7 @@ public class StateServiceResponseBuilder {
 	 *   
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse, Object objectAsResponse, String message) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), objectAsResponse, message);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), objectAsResponse, message);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -192,8 +201,7 @@ public class StateServiceResponseBuilder {
 	 *   
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse, Object objectAsResponse) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), objectAsResponse);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), objectAsResponse);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -213,8 +221,7 @@ public class StateServiceResponseBuilder {
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse,
     		List<FileUploadResponse> fileUploadResponse, Object objectAsResponse) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), fileUploadResponse, objectAsResponse);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), fileUploadResponse, objectAsResponse);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -236,8 +243,7 @@ public class StateServiceResponseBuilder {
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse,
     		List<FileUploadResponse> fileUploadResponse, Object objectAsResponse, String message) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), fileUploadResponse, objectAsResponse, message);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), fileUploadResponse, objectAsResponse, message);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -257,8 +263,7 @@ public class StateServiceResponseBuilder {
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse, 
     		List<FileUploadResponse> fileUploadResponse, String message) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), fileUploadResponse, message);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), fileUploadResponse, message);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -279,8 +284,7 @@ public class StateServiceResponseBuilder {
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse, 
     		List<FileUploadResponse> fileUploadResponse, Throwable ex) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), fileUploadResponse, ex.getLocalizedMessage());
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), fileUploadResponse, ex.getLocalizedMessage());
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -301,8 +305,27 @@ public class StateServiceResponseBuilder {
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse,
     		MessageStatusResponse messageStatusResponse, Object objectAsResponse) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), messageStatusResponse, objectAsResponse);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), messageStatusResponse, objectAsResponse);
+    	return ResponseEntity.status(httpStatus).body(response);
+    }
+    
+    /**
+	 * Methods to Build and Return @see StateServiceResponse as an Object
+	 * wrapped in a @see ResponseEntity body
+	 * along with standard @see HttpStatus status.
+	 * The result is written element by element, followed by a trailer.
+	 * 
+	 * @param httpStatus 				HttpStatus @see HttpStatus
+	 * @param serviceResponse 			ServcieResponse @see ServiceResponse
+	 * @param streamingResult 			StreamingResult @see StreamingResult
+	 * 
+	 *  @return an object of @see ResponseEntity containing
+	 *  an object of @see HttpStatus, @see ServiceResponse and @see StreamingResult as response.
+	 *   
+	 */
+    public ResponseEntity<?> buildStreamingResponse(HttpStatus httpStatus, ServiceResponse serviceResponse,
+    		StreamingResult<?> streamingResult) {
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), streamingResult);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -324,8 +347,7 @@ public class StateServiceResponseBuilder {
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse,
     		MessageStatusResponse messageStatusResponse, Object objectAsResponse, String message) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), messageStatusResponse, objectAsResponse, message);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), messageStatusResponse, objectAsResponse, message);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -345,8 +367,7 @@ public class StateServiceResponseBuilder {
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse, 
     		MessageStatusResponse messageStatusResponse, String message) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), messageStatusResponse, message);
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), messageStatusResponse, message);
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
@@ -367,10 +388,79 @@ public class StateServiceResponseBuilder {
 	 */
     public ResponseEntity<?> buildResponse(HttpStatus httpStatus, ServiceResponse serviceResponse, 
     		MessageStatusResponse messageStatusResponse, Throwable ex) {
-		int serviceResponseValue = serviceResponse.value();
-    	StateServiceResponse response = new StateServiceResponse(new ApiServiceResponse(serviceResponseValue, serviceResponse), messageStatusResponse, ex.getLocalizedMessage());
+    	StateServiceResponse response = new StateServiceResponse(serviceResponse.getApiServiceResponse(), messageStatusResponse, ex.getLocalizedMessage());
     	return ResponseEntity.status(httpStatus).body(response);
     }
     
+    
+    /**
+	 * Methods to Build and Return @see StateServiceResponse as an Object
+	 * wrapped in a @see ResponseEntity body once the result completes,
+	 * without waiting on the calling thread. 
+	 * 
+	 * <p>
+	 * 		A failed result is built with the error constant matching its cause,
+	 * 		see @see #failureOf(Throwable).
+	 * </p>
+	 * 
+	 * @param httpStatus 		HttpStatus @see HttpStatus
+	 * @param serviceResponse 	ServiceResponse @see ServiceResponse
+	 * @param result 			CompletionStage of the result @see CompletionStage
+	 * @param message 			the response message @see String, may be null
+	 * 
+	 *  @return a @see CompletableFuture of @see ResponseEntity containing
+	 *  an object of @see HttpStatus, @see ServiceResponse, the result and @see String message.
+	 *   
+	 */
+    public CompletableFuture<ResponseEntity<?>> buildResponseAsync(HttpStatus httpStatus, ServiceResponse serviceResponse,
+    		CompletionStage<?> result, String message) {
+    	return result.<ResponseEntity<?>>handle((objectAsResponse, ex) -> {
+    		if (ex != null) {
+    			Throwable cause = unwrap(ex);
+    			ServiceResponse failure = failureOf(cause);
+    			return ResponseEntity.status(failure.getHttpStatus())
+    					.body(new StateServiceResponse(failure.getApiServiceResponse(), cause));
+    		}
+    		StateServiceResponse response = message != null
+    				? new StateServiceResponse(serviceResponse.getApiServiceResponse(), objectAsResponse, message)
+    				: new StateServiceResponse(serviceResponse.getApiServiceResponse(), objectAsResponse);
+    		return ResponseEntity.status(httpStatus).body(response);
+    	}).toCompletableFuture();
+    }
+    
+    /**
+	 * Return the error constant matching the failure of an asynchronous result.
+	 * 
+	 * @param ex Exception @see Throwable
+	 * 
+	 *  @return @see ServiceResponse#ASYNC_REQUEST_TIMEOUT for a @see TimeoutException,
+	 *  @see ServiceResponse#ENTITY_NOT_FOUND, @see ServiceResponse#NOT_FOUND or
+	 *  @see ServiceResponse#MALFORMED_REQUEST for the library exceptions, 
+	 *  @see ServiceResponse#SERVER_ERROR otherwise.
+	 */
+    static ServiceResponse failureOf(Throwable ex) {
+    	if (ex instanceof TimeoutException) {
+    		return ServiceResponse.ASYNC_REQUEST_TIMEOUT;
+    	}
+    	if (ex instanceof EntityNotFoundException) {
+    		return ServiceResponse.ENTITY_NOT_FOUND;
+    	}
+    	if (ex instanceof ResourceNotFoundException) {
+    		return ServiceResponse.NOT_FOUND;
+    	}
+    	if (ex instanceof BadRequestException) {
+    		return ServiceResponse.MALFORMED_REQUEST;
+    	}
+    	return ServiceResponse.SERVER_ERROR;
+    }
+    
+    private static Throwable unwrap(Throwable ex) {
+    	Throwable cause = ex;
+    	while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+    		cause = cause.getCause();
+    	}
+    	return cause;
+    }
+    
 	
 }
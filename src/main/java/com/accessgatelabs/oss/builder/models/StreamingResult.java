@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.models;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * A result whose elements are written one by one while the envelope is serialized,
+ * instead of being held in heap as a fully materialized collection.
+ *
+ * <p>
+ * 		Built by @see ServiceResponse#buildStreamingResponse(Stream) and
+ * 		@see ServiceResponse#buildStreamingResponse(Iterator). The elements are written as the
+ * 		<code>result</code> array of the envelope, which is followed by a <code>trailer</code>
+ * 		object telling whether the stream completed, how many elements were written and the
+ * 		error that interrupted it, if any. The status line and headers are already sent when
+ * 		such an error happens, so the trailer is the only place it can be reported.
+ * </p>
+ *
+ * <p>
+ * 		A streaming result can only be written once. The underlying @see Stream, or an
+ * 		@see Iterator that is also @see AutoCloseable, is closed once written. If the response
+ * 		is never written, call @see #close().
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class StreamingResult<T> implements AutoCloseable {
+	
+	private final Iterator<T> iterator;
+	
+	private final AutoCloseable resource;
+	
+	private boolean consumed;
+	
+	private StreamingResult(Iterator<T> iterator, AutoCloseable resource) {
+		this.iterator = iterator;
+		this.resource = resource;
+	}
+	
+	
+	public static <T> StreamingResult<T> of(Stream<T> stream) {
+		return new StreamingResult<>(stream.iterator(), stream);
+	}
+	
+	public static <T> StreamingResult<T> of(Iterator<T> iterator) {
+		return new StreamingResult<>(iterator, iterator instanceof AutoCloseable ? (AutoCloseable) iterator : null);
+	}
+	
+	
+	/**
+	 * Return the elements to write.
+	 * 
+	 * @return the iterator over the elements
+	 * @throws IllegalStateException	If the result was already written
+	 */
+	public synchronized Iterator<T> iterator() {
+		if (consumed) {
+			throw new IllegalStateException("StreamingResult can only be written once");
+		}
+		consumed = true;
+		return iterator;
+	}
+	
+	@Override
+	public void close() throws Exception {
+		if (resource != null) {
+			resource.close();
+		}
+	}
+	
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a @see StreamingResult once written: whether the source completed,
+ * how many elements were written and the error that stopped it, if any.
+ *
+ * <p>
+ * 		Written as the <code>trailer</code> of a streamed JSON envelope, and as the
+ * 		<code>result</code> of the summary line of an NDJSON response.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StreamingSummary {
+	
+	private final boolean complete;
+	
+	private final long count;
+	
+	private final String error;
+	
+	
+	public static StreamingSummary of(long count, Exception error) {
+		if (error == null) {
+			return new StreamingSummary(true, count, null);
+		}
+		return new StreamingSummary(false, count,
+				error.getLocalizedMessage() != null ? error.getLocalizedMessage() : error.getClass().getSimpleName());
+	}
+	
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.reactive;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import org.springframework.web.server.WebExceptionHandler;
+
+import com.accessgatelabs.oss.builder.exceptions.EntityNotFoundException;
+import com.accessgatelabs.oss.builder.exceptions.RestExceptionHandler;
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of @see RestExceptionHandler.
+ *
+ * <p>
+ * 		Writes the same @see StateServiceResponse envelopes for the exceptions WebFlux raises
+ * 		in place of their Spring MVC equivalents, and for @see EntityNotFoundException and
+ * 		@see AccessDeniedException. Other exceptions are left to the next handler.
+ * </p>
+ *
+ * <p>
+ * 		Ordered ahead of the Spring Boot error handler, so that the envelope is written
+ * 		instead of the default error attributes.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class ReactiveExceptionHandler implements WebExceptionHandler, Ordered {
+
+	/**
+	 * Order of the handler, ahead of the Spring Boot <code>ErrorWebExceptionHandler</code> at -1.
+	 */
+	public static final int ORDER = -2;
+
+	private final ObjectMapper objectMapper;
+
+	public ReactiveExceptionHandler(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+	@Override
+	public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+		ServerHttpResponse response = exchange.getResponse();
+		if (response.isCommitted()) {
+			return Mono.error(ex);
+		}
+		ResponseEntity<StateServiceResponse> entity = handleException(ex, exchange);
+		if (entity == null) {
+			return Mono.error(ex);
+		}
+		response.setStatusCode(entity.getStatusCode());
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return response.writeWith(Mono.fromCallable(
+				() -> response.bufferFactory().wrap(objectMapper.writeValueAsBytes(entity.getBody()))));
+	}
+
+	/**
+	 * Map an exception to its envelope.
+	 *
+	 * @param ex		Throwable @see Throwable
+	 * @param exchange	ServerWebExchange @see ServerWebExchange
+	 * @return the envelope and its status, or null to leave the exception to the next handler
+	 */
+	protected ResponseEntity<StateServiceResponse> handleException(Throwable ex, ServerWebExchange exchange) {
+		if (ex instanceof WebExchangeBindException) {
+			return handleWebExchangeBind((WebExchangeBindException) ex, exchange);
+		}
+		if (ex instanceof ServerWebInputException) {
+			return handleServerWebInput((ServerWebInputException) ex, exchange);
+		}
+		if (ex instanceof UnsupportedMediaTypeStatusException) {
+			return handleUnsupportedMediaType((UnsupportedMediaTypeStatusException) ex);
+		}
+		if (ex instanceof ResponseStatusException) {
+			return handleResponseStatus((ResponseStatusException) ex, exchange);
+		}
+		if (ex instanceof EntityNotFoundException) {
+			return handleEntityNotFound((EntityNotFoundException) ex);
+		}
+		if (ex instanceof AccessDeniedException) {
+			return handleAccessDenied((AccessDeniedException) ex);
+		}
+		return null;
+	}
+
+	/**
+	 * Handle @see WebExchangeBindException. Triggered when an object fails validation.
+	 *
+	 * @param ex		WebExchangeBindException @see WebExchangeBindException
+	 * @param exchange	ServerWebExchange @see ServerWebExchange
+	 * @return StateServiceResponse Object @see StateServiceResponse
+	 */
+	protected ResponseEntity<StateServiceResponse> handleWebExchangeBind(WebExchangeBindException ex,
+			ServerWebExchange exchange) {
+		StateServiceResponse stateServiceResponse = new StateServiceResponse(new HttpResponse(ex.getStatus().value(), BAD_REQUEST));
+		stateServiceResponse.setMessage("Validation error");
+		stateServiceResponse.addValidationExceptions(ex.getBindingResult().getFieldErrors());
+		stateServiceResponse.setErrorCount(ex.getBindingResult().getErrorCount());
+		stateServiceResponse.setPath(uriPath(exchange));
+		stateServiceResponse.setApiServiceResponse(
+				ServiceResponse.VALIDATION_EXCEPTION.getApiServiceResponse());
+		return ResponseEntity.status(ex.getStatus()).body(stateServiceResponse);
+	}
+
+	/**
+	 * Handle @see ServerWebInputException. Happens when the request body cannot be decoded
+	 * or a request parameter is missing or cannot be converted.
+	 *
+	 * @param ex		ServerWebInputException @see ServerWebInputException
+	 * @param exchange	ServerWebExchange @see ServerWebExchange
+	 * @return StateServiceResponse Object @see StateServiceResponse
+	 */
+	protected ResponseEntity<StateServiceResponse> handleServerWebInput(ServerWebInputException ex,
+			ServerWebExchange exchange) {
+		StateServiceResponse stateServiceResponse = new StateServiceResponse(new HttpResponse(ex.getStatus().value(), BAD_REQUEST));
+		stateServiceResponse.setPath(uriPath(exchange));
+		if (ex.getCause() instanceof DecodingException) {
+			stateServiceResponse.setMessage(NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+			stateServiceResponse.setApiServiceResponse(
+					ServiceResponse.MALFORMED_JSON_PAYLOAD.getApiServiceResponse());
+		} else {
+			stateServiceResponse.setMessage(ex.getReason());
+			stateServiceResponse.setDebugMessage(ex.getMessage());
+		}
+		return ResponseEntity.status(ex.getStatus()).body(stateServiceResponse);
+	}
+
+	/**
+	 * Handle @see UnsupportedMediaTypeStatusException.
+	 *
+	 * @param ex	UnsupportedMediaTypeStatusException @see UnsupportedMediaTypeStatusException
+	 * @return StateServiceResponse Object @see StateServiceResponse
+	 */
+	protected ResponseEntity<StateServiceResponse> handleUnsupportedMediaType(UnsupportedMediaTypeStatusException ex) {
+		StringBuilder builder = new StringBuilder();
+		builder.append(ex.getContentType());
+		builder.append(" media type is not supported. Supported media types are ");
+		ex.getSupportedMediaTypes().forEach(t -> builder.append(t).append(", "));
+		return ResponseEntity.status(ex.getStatus()).body(new StateServiceResponse(
+				builder.substring(0, builder.length() - 2), ex));
+	}
+
+	/**
+	 * Handle @see ResponseStatusException, such as a request matching no handler.
+	 *
+	 * @param ex		ResponseStatusException @see ResponseStatusException
+	 * @param exchange	ServerWebExchange @see ServerWebExchange
+	 * @return StateServiceResponse Object @see StateServiceResponse
+	 */
+	protected ResponseEntity<StateServiceResponse> handleResponseStatus(ResponseStatusException ex,
+			ServerWebExchange exchange) {
+		StateServiceResponse stateServiceResponse = new StateServiceResponse(new HttpResponse(ex.getStatus().value(), ex.getStatus()));
+		stateServiceResponse.setMessage(ex.getReason() != null ? ex.getReason() : ex.getStatus().getReasonPhrase());
+		stateServiceResponse.setDebugMessage(ex.getMessage());
+		stateServiceResponse.setPath(uriPath(exchange));
+		return ResponseEntity.status(ex.getStatus()).body(stateServiceResponse);
+	}
+
+	/**
+	 * Handle @see EntityNotFoundException.
+	 *
+	 * @param ex	EntityNotFoundException @see EntityNotFoundException
+	 * @return StateServiceResponse Object @see StateServiceResponse
+	 */
+	protected ResponseEntity<StateServiceResponse> handleEntityNotFound(EntityNotFoundException ex) {
+		StateServiceResponse stateServiceResponse = new StateServiceResponse(
+				ServiceResponse.ENTITY_NOT_FOUND.getApiServiceResponse());
+		stateServiceResponse.setMessage(ex.getMessage());
+		return ResponseEntity.status(ServiceResponse.ENTITY_NOT_FOUND.getHttpStatus()).body(stateServiceResponse);
+	}
+
+	/**
+	 * Handle @see AccessDeniedException. Triggered when an 'unauthorized' call is performed.
+	 *
+	 * @param ex	AccessDeniedException @see AccessDeniedException
+	 * @return StateServiceResponse Object @see StateServiceResponse
+	 */
+	protected ResponseEntity<StateServiceResponse> handleAccessDenied(AccessDeniedException ex) {
+		StateServiceResponse stateServiceResponse = new StateServiceResponse(
+				ServiceResponse.INVALID_AUTHENTICATION.getApiServiceResponse(),
+				"Not authorized to access this call");
+		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(stateServiceResponse);
+	}
+
+	/**
+	 * Returns the path of the request, context path included.
+	 *
+	 * @param exchange	ServerWebExchange @see ServerWebExchange
+	 * @return path URI path @see String
+	 */
+	public static String uriPath(ServerWebExchange exchange) {
+		return exchange.getRequest().getPath().value();
+	}
+
+}
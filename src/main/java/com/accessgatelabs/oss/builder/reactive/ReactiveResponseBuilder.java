@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.reactive;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.EnvelopeStreamWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the <code>buildResponse</code> methods of @see ServiceResponse,
+ * for WebFlux applications.
+ *
+ * <pre>
+ * &#64;GetMapping("/{id}")
+ * public Mono&lt;ResponseEntity&lt;StateServiceResponse&gt;&gt; find(&#64;PathVariable long id) {
+ *     return responses.buildResponse(ServiceResponse.FETCHED, repository.findById(id));
+ * }
+ *
+ * &#64;GetMapping
+ * public ResponseEntity&lt;Flux&lt;DataBuffer&gt;&gt; export() {
+ *     return responses.buildStreamingResponse(ServiceResponse.FETCHED, repository.findAll());
+ * }
+ * </pre>
+ *
+ * <p>
+ * 		@see #buildStreamingResponse(ServiceResponse, Publisher) writes the envelope around the
+ * 		elements as they are published, with the same <code>trailer</code> as
+ * 		@see ServiceResponse#buildStreamingResponse(java.util.stream.Stream). Elements are
+ * 		requested from the source as the connection asks for more bytes, so a slow client
+ * 		slows the source down instead of filling the heap.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class ReactiveResponseBuilder {
+
+	private final ObjectMapper objectMapper;
+
+	private final DataBufferFactory bufferFactory;
+
+	public ReactiveResponseBuilder(ObjectMapper objectMapper) {
+		this(objectMapper, new DefaultDataBufferFactory());
+	}
+
+	public ReactiveResponseBuilder(ObjectMapper objectMapper, DataBufferFactory bufferFactory) {
+		this.objectMapper = objectMapper;
+		this.bufferFactory = bufferFactory;
+	}
+
+
+	public Mono<ResponseEntity<StateServiceResponse>> buildResponse(ServiceResponse serviceResponse) {
+		return Mono.fromSupplier(() -> entity(serviceResponse, serviceResponse.build()));
+	}
+
+	public Mono<ResponseEntity<StateServiceResponse>> buildResponse(ServiceResponse serviceResponse, String message) {
+		return Mono.fromSupplier(() -> entity(serviceResponse,
+				new StateServiceResponse(serviceResponse.getApiServiceResponse(), message)));
+	}
+
+	/**
+	 * Build the envelope once the result is published. An empty result gives an envelope without result.
+	 *
+	 * @param serviceResponse	ServiceResponse @see ServiceResponse
+	 * @param result			Mono of the result
+	 * @return the response entity
+	 */
+	public Mono<ResponseEntity<StateServiceResponse>> buildResponse(ServiceResponse serviceResponse, Mono<?> result) {
+		return result.map(objectAsResponse -> entity(serviceResponse,
+						new StateServiceResponse(serviceResponse.getApiServiceResponse(), (Object) objectAsResponse)))
+				.switchIfEmpty(buildResponse(serviceResponse));
+	}
+
+	public Mono<ResponseEntity<StateServiceResponse>> buildResponse(ServiceResponse serviceResponse, Mono<?> result,
+			String message) {
+		return result.map(objectAsResponse -> entity(serviceResponse,
+						new StateServiceResponse(serviceResponse.getApiServiceResponse(), (Object) objectAsResponse, message)))
+				.switchIfEmpty(buildResponse(serviceResponse, message));
+	}
+
+	/**
+	 * Build the envelope once all the elements are published, with the list of elements as result.
+	 * Use @see #buildStreamingResponse(ServiceResponse, Publisher) for large results.
+	 *
+	 * @param serviceResponse	ServiceResponse @see ServiceResponse
+	 * @param result			Flux of the result elements
+	 * @return the response entity
+	 */
+	public Mono<ResponseEntity<StateServiceResponse>> buildResponse(ServiceResponse serviceResponse, Flux<?> result) {
+		return buildResponse(serviceResponse, result.collectList());
+	}
+
+	/**
+	 * Stream the envelope, writing each element of the result as it is published.
+	 * An error of the source ends the <code>result</code> array and is reported in the trailer.
+	 *
+	 * @param serviceResponse	ServiceResponse @see ServiceResponse
+	 * @param result			Publisher of the result elements
+	 * @return the response entity, whose body is the encoded envelope
+	 */
+	public ResponseEntity<Flux<DataBuffer>> buildStreamingResponse(ServiceResponse serviceResponse, Publisher<?> result) {
+		Flux<DataBuffer> body = Flux.using(
+				() -> new EnvelopeStreamWriter(objectMapper, serviceResponse.build()),
+				writer -> {
+					AtomicReference<Exception> error = new AtomicReference<>();
+					return Flux.concat(
+							Mono.fromCallable(writer::head),
+							Flux.from(result)
+									.map(element -> writeElement(writer, element))
+									.onErrorResume(ex -> ex instanceof Exception && !(ex instanceof ElementWriteException),
+											ex -> {
+												error.set((Exception) ex);
+												return Mono.empty();
+											}),
+							Mono.fromCallable(() -> writer.tail(error.get())))
+							.map(bufferFactory::wrap);
+				},
+				ReactiveResponseBuilder::close);
+		return ResponseEntity.status(serviceResponse.getHttpStatus())
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(body);
+	}
+
+
+	private static ResponseEntity<StateServiceResponse> entity(ServiceResponse serviceResponse,
+			StateServiceResponse response) {
+		return ResponseEntity.status(serviceResponse.getHttpStatus()).body(response);
+	}
+
+	private static void close(EnvelopeStreamWriter writer) {
+		try {
+			writer.close();
+		} catch (IOException ex) {
+			// Nothing left to write to, the buffers already handed out are complete
+		}
+	}
+
+	private static byte[] writeElement(EnvelopeStreamWriter writer, Object element) {
+		try {
+			return writer.element(element);
+		} catch (IOException ex) {
+			throw new ElementWriteException(ex);
+		}
+	}
+
+
+	/*
+	 * A failure to write an element, which cannot be reported in the trailer
+	 * as the envelope may be left half-written.
+	 */
+	private static final class ElementWriteException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		ElementWriteException(IOException cause) {
+			super(cause.getMessage(), cause);
+		}
+	}
+
+}
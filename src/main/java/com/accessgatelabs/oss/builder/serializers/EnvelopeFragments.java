@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import org.springframework.http.HttpStatus;
+
+import com.accessgatelabs.oss.builder.models.ApiServiceResponse;
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Pre-serialized JSON fragments of the constant parts of a @see StateServiceResponse.
+ *
+ * <p>
+ * 		Property names are kept as @see SerializedString so their quoted UTF-8 bytes are
+ * 		computed once. The <code>api</code> block of every @see ServiceResponse and the
+ * 		<code>http</code> block of every @see HttpStatus are rendered once at class
+ * 		initialization, byte-for-byte as Jackson would write them.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class EnvelopeFragments {
+
+	/*
+	 * Property names of StateServiceResponse, as written on the wire.
+	 */
+	static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+	static final SerializedString MESSAGE = new SerializedString("message");
+	static final SerializedString ERROR_COUNT = new SerializedString("error_count");
+	static final SerializedString PATH = new SerializedString("path");
+	static final SerializedString API = new SerializedString("api");
+	static final SerializedString DEBUG_MESSAGE = new SerializedString("debug_message");
+	static final SerializedString HTTP = new SerializedString("http");
+	static final SerializedString EXCEPTIONS = new SerializedString("exceptions");
+	static final SerializedString RESULT = new SerializedString("result");
+	static final SerializedString FILE_RESPONSE = new SerializedString("fileResponse");
+	static final SerializedString MESSAGE_RESPONSE = new SerializedString("messageResponse");
+	static final SerializedString EXCEPTION = new SerializedString("exception");
+	static final SerializedString TRAILER = new SerializedString("trailer");
+
+	private static final SerializedString[] API_BLOCKS;
+	private static final SerializedString[] HTTP_BLOCKS;
+
+	static {
+		ServiceResponse[] serviceResponses = ServiceResponse.values();
+		API_BLOCKS = new SerializedString[serviceResponses.length];
+		for (ServiceResponse serviceResponse : serviceResponses) {
+			API_BLOCKS[serviceResponse.ordinal()] = new SerializedString(
+					"{\"responseCode\":" + serviceResponse.value() + ",\"response\":\"" + serviceResponse.name() + "\"}");
+		}
+
+		HttpStatus[] statuses = HttpStatus.values();
+		HTTP_BLOCKS = new SerializedString[statuses.length];
+		for (HttpStatus status : statuses) {
+			HTTP_BLOCKS[status.ordinal()] = new SerializedString(
+					"{\"code\":" + status.value() + ",\"status\":\"" + status.name() + "\"}");
+		}
+	}
+
+	private EnvelopeFragments() {
+	}
+
+
+	/**
+	 * Return the pre-serialized <code>api</code> block for an @see ApiServiceResponse.
+	 *
+	 * @param apiServiceResponse	the api block of the envelope
+	 * @return the cached fragment, or null when the block does not match its constant
+	 */
+	static SerializableString apiBlock(ApiServiceResponse apiServiceResponse) {
+		ServiceResponse serviceResponse = apiServiceResponse.getServiceResponse();
+		if (serviceResponse == null || apiServiceResponse.getServiceResponseCode() != serviceResponse.value()) {
+			return null;
+		}
+		return API_BLOCKS[serviceResponse.ordinal()];
+	}
+
+	/**
+	 * Return the pre-serialized <code>http</code> block for an @see HttpResponse.
+	 *
+	 * @param httpResponse	the http block of the envelope
+	 * @return the cached fragment, or null when the code does not match the status
+	 */
+	static SerializableString httpBlock(HttpResponse httpResponse) {
+		HttpStatus status = httpResponse.getStatus();
+		if (status == null || httpResponse.getStatusCode() != status.value()) {
+			return null;
+		}
+		return HTTP_BLOCKS[status.ordinal()];
+	}
+
+	/**
+	 * Whether cached fragments can be copied as-is into the generator output.
+	 *
+	 * <p>
+	 * 		Fragments are compact JSON text. They are not used for binary formats, for
+	 * 		filtering or pretty printing generators, or when the mapper is configured to
+	 * 		write numbers or enums differently than the fragments do.
+	 * </p>
+	 *
+	 * @param gen		the generator being written to
+	 * @param provider	the serializer provider of the write
+	 * @return true if fragments may be written with @see JsonGenerator#writeRawValue(SerializableString)
+	 */
+	@SuppressWarnings("deprecation")
+	static boolean canWriteRaw(JsonGenerator gen, SerializerProvider provider) {
+		return gen instanceof JsonGeneratorImpl
+				&& gen.getPrettyPrinter() == null
+				&& !gen.isEnabled(JsonGenerator.Feature.WRITE_NUMBERS_AS_STRINGS)
+				&& !provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+				&& !provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX);
+	}
+
+}
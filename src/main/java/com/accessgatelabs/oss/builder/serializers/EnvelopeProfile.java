@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+/**
+ * How much of a @see com.accessgatelabs.oss.builder.models.StateServiceResponse is written
+ * by @see StateServiceResponseSerializer.
+ *
+ * <p>
+ * 		A success envelope written in full carries <code>"debug_message":null</code>,
+ * 		<code>"exceptions":null</code>, <code>"fileResponse":null</code> and so on, which
+ * 		often outweigh the result of a small response. Each profile fixes, once, which of
+ * 		these properties the serializer writes:
+ * </p>
+ *
+ * <ul>
+ * 		<li>@see #VERBOSE writes every property, leaving null and empty values to the
+ * 		default property inclusion of the mapper. This is the output of the reflective
+ * 		serialization.</li>
+ * 		<li>@see #STANDARD leaves out null properties.</li>
+ * 		<li>@see #MINIMAL leaves out null and empty properties, the <code>debug_message</code>
+ * 		and the <code>http</code> block, whose status is already the one of the response.</li>
+ * </ul>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public enum EnvelopeProfile {
+
+	MINIMAL(true, true, false, false),
+
+	STANDARD(true, false, true, true),
+
+	VERBOSE(false, false, true, true);
+
+	final boolean skipNulls;
+	final boolean skipEmpty;
+	final boolean debugMessage;
+	final boolean http;
+
+	EnvelopeProfile(boolean skipNulls, boolean skipEmpty, boolean debugMessage, boolean http) {
+		this.skipNulls = skipNulls;
+		this.skipEmpty = skipEmpty;
+		this.debugMessage = debugMessage;
+		this.http = http;
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.io.IOException;
+
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.models.StreamingSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Writes a @see StateServiceResponse envelope in steps, for producers that are called back
+ * with each element of the result instead of iterating over it, such as a reactive publisher.
+ *
+ * <p>
+ * 		Each step returns the bytes it produced, which the caller sends on before the next
+ * 		step. The output is the same as serializing the envelope with a
+ * 		@see com.accessgatelabs.oss.builder.models.StreamingResult as its result: the leading
+ * 		properties, the <code>result</code> array, the trailing properties and the
+ * 		<code>trailer</code>.
+ * </p>
+ *
+ * <pre>
+ * EnvelopeStreamWriter writer = new EnvelopeStreamWriter(objectMapper, envelope);
+ * send(writer.head());
+ * for each element: send(writer.element(element));
+ * send(writer.tail(null));
+ * </pre>
+ *
+ * <p>
+ * 		A writer is used by one producer at a time and is not thread-safe.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class EnvelopeStreamWriter implements AutoCloseable {
+
+	private static final StateServiceResponseSerializer DEFAULT_SERIALIZER = new StateServiceResponseSerializer();
+
+	private final StateServiceResponse envelope;
+
+	private final StateServiceResponseSerializer serializer;
+
+	private final SerializerProvider provider;
+
+	private final ByteArrayBuilder buffer;
+
+	private final JsonGenerator generator;
+
+	private Class<?> elementType;
+
+	private JsonSerializer<Object> elementSerializer;
+
+	private long count;
+
+	public EnvelopeStreamWriter(ObjectMapper objectMapper, StateServiceResponse envelope) throws IOException {
+		this.envelope = envelope;
+		this.provider = objectMapper.getSerializerProviderInstance();
+		JsonSerializer<?> envelopeSerializer = provider.findValueSerializer(StateServiceResponse.class);
+		// Same profile as the module registered on the mapper, if any
+		this.serializer = envelopeSerializer instanceof StateServiceResponseSerializer
+				? (StateServiceResponseSerializer) envelopeSerializer : DEFAULT_SERIALIZER;
+		this.buffer = new ByteArrayBuilder();
+		this.generator = objectMapper.getFactory().createGenerator(buffer);
+		if (objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+			this.generator.useDefaultPrettyPrinter();
+		}
+	}
+
+
+	/**
+	 * @return the start of the envelope, up to the opening of the <code>result</code> array
+	 * @throws IOException	If the generator fails to write
+	 */
+	public byte[] head() throws IOException {
+		generator.writeStartObject(envelope);
+		serializer.serializeLeadingFields(envelope, generator, provider);
+		generator.writeFieldName(EnvelopeFragments.RESULT);
+		generator.writeStartArray();
+		return drain();
+	}
+
+	/**
+	 * @param element	the next element of the result
+	 * @return the element, with its separator
+	 * @throws IOException	If the generator fails to write
+	 */
+	public byte[] element(Object element) throws IOException {
+		if (element == null) {
+			provider.defaultSerializeNull(generator);
+		} else {
+			if (element.getClass() != elementType) {
+				elementType = element.getClass();
+				elementSerializer = provider.findValueSerializer(elementType, null);
+			}
+			elementSerializer.serialize(element, generator, provider);
+		}
+		count++;
+		return drain();
+	}
+
+	/**
+	 * @param error	the error that stopped the source, or null if it completed
+	 * @return the end of the envelope, from the closing of the <code>result</code> array
+	 * @throws IOException	If the generator fails to write
+	 */
+	public byte[] tail(Exception error) throws IOException {
+		generator.writeEndArray();
+		serializer.serializeTrailingFields(envelope, StreamingSummary.of(count, error), generator, provider);
+		generator.writeEndObject();
+		return drain();
+	}
+
+	@Override
+	public void close() throws IOException {
+		generator.close();
+		buffer.release();
+	}
+
+	private byte[] drain() throws IOException {
+		generator.flush();
+		byte[] bytes = buffer.toByteArray();
+		buffer.reset();
+		return bytes;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.accessgatelabs.oss.builder.models.ExceptionResponseBuilder;
+import com.accessgatelabs.oss.builder.models.ViolationType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Straight-line serializer for @see ExceptionResponseBuilder.
+ *
+ * <p>
+ * 		The model is annotated <code>@JsonInclude(NON_ABSENT)</code>, so null properties are
+ * 		left out unless the mapper overrides the inclusion of the type.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class ExceptionResponseBuilderSerializer extends ModelSerializer<ExceptionResponseBuilder> {
+
+	private static final long serialVersionUID = 1L;
+
+	static final List<String> PROPERTIES = Arrays.asList("location", "key", "rejected_value", "violation",
+			"data_type", "type", "message");
+
+	private static final SerializedString LOCATION = new SerializedString("location");
+	private static final SerializedString KEY = new SerializedString("key");
+	private static final SerializedString REJECTED_VALUE = new SerializedString("rejected_value");
+	private static final SerializedString VIOLATION = new SerializedString("violation");
+	private static final SerializedString DATA_TYPE = new SerializedString("data_type");
+	private static final SerializedString TYPE = new SerializedString("type");
+	private static final SerializedString MESSAGE = new SerializedString("message");
+
+	private JsonSerializer<Object> violationSerializer;
+
+	ExceptionResponseBuilderSerializer(JsonSerializer<Object> fallback, boolean suppressNulls) {
+		super(ExceptionResponseBuilder.class, fallback, suppressNulls);
+	}
+
+
+	@Override
+	public void resolve(SerializerProvider provider) throws JsonMappingException {
+		super.resolve(provider);
+		violationSerializer = provider.findValueSerializer(ViolationType.class, null);
+	}
+
+	@Override
+	protected void serializeFields(ExceptionResponseBuilder value, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+		writeString(LOCATION, value.getLocation(), gen, provider);
+		writeString(KEY, value.getKey(), gen, provider);
+		writeValue(REJECTED_VALUE, value.getRejectedValue(), gen, provider);
+		writeValue(VIOLATION, value.getViolation(), violationSerializer, gen, provider);
+		writeString(DATA_TYPE, value.getDataType(), gen, provider);
+		writeString(TYPE, value.getType(), gen, provider);
+		writeString(MESSAGE, value.getMessage(), gen, provider);
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.accessgatelabs.oss.builder.models.FileUploadResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Straight-line serializer for @see FileUploadResponse.
+ *
+ * <p>
+ * 		The <code>public_access_allowed</code> property comes from the <code>isPublicAccessAllowed()</code>
+ * 		getter, which Jackson orders after the properties backed by a field of the same name.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class FileUploadResponseSerializer extends ModelSerializer<FileUploadResponse> {
+
+	private static final long serialVersionUID = 1L;
+
+	static final List<String> PROPERTIES = Arrays.asList("file_name", "url", "file_type", "file_size", "public_access_allowed");
+
+	private static final SerializedString FILE_NAME = new SerializedString("file_name");
+	private static final SerializedString URL = new SerializedString("url");
+	private static final SerializedString FILE_TYPE = new SerializedString("file_type");
+	private static final SerializedString FILE_SIZE = new SerializedString("file_size");
+	private static final SerializedString PUBLIC_ACCESS_ALLOWED = new SerializedString("public_access_allowed");
+
+	FileUploadResponseSerializer(JsonSerializer<Object> fallback, boolean suppressNulls) {
+		super(FileUploadResponse.class, fallback, suppressNulls);
+	}
+
+
+	@Override
+	protected void serializeFields(FileUploadResponse value, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+		writeString(FILE_NAME, value.getFileName(), gen, provider);
+		writeString(URL, value.getUrl(), gen, provider);
+		writeString(FILE_TYPE, value.getFileType(), gen, provider);
+		gen.writeFieldName(FILE_SIZE);
+		gen.writeNumber(value.getFileSize());
+		gen.writeFieldName(PUBLIC_ACCESS_ALLOWED);
+		gen.writeBoolean(value.isPublicAccessAllowed());
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Straight-line serializer for @see HttpResponse.
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class HttpResponseSerializer extends ModelSerializer<HttpResponse> {
+
+	private static final long serialVersionUID = 1L;
+
+	static final List<String> PROPERTIES = Arrays.asList("code", "status");
+
+	private static final SerializedString CODE = new SerializedString("code");
+	private static final SerializedString STATUS = new SerializedString("status");
+
+	private JsonSerializer<Object> statusSerializer;
+
+	HttpResponseSerializer(JsonSerializer<Object> fallback, boolean suppressNulls) {
+		super(HttpResponse.class, fallback, suppressNulls);
+	}
+
+
+	@Override
+	public void resolve(SerializerProvider provider) throws JsonMappingException {
+		super.resolve(provider);
+		statusSerializer = provider.findValueSerializer(HttpStatus.class, null);
+	}
+
+	@Override
+	protected void serializeFields(HttpResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeFieldName(CODE);
+		gen.writeNumber(value.getStatusCode());
+		writeValue(STATUS, value.getStatus(), statusSerializer, gen, provider);
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.accessgatelabs.oss.builder.models.MessageStatusResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Straight-line serializer for @see MessageStatusResponse.
+ *
+ * <p>
+ * 		<code>sent</code> and <code>delivered</code> come from the <code>isSent()</code> and
+ * 		<code>isDelivered()</code> getters. Jackson would order them as the JVM lists the
+ * 		methods, which may change from one run to the next, so the model pins its order.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class MessageStatusResponseSerializer extends ModelSerializer<MessageStatusResponse> {
+
+	private static final long serialVersionUID = 1L;
+
+	static final List<String> PROPERTIES = Arrays.asList("type", "receipients", "ttd", "sent", "delivered");
+
+	private static final SerializedString TYPE = new SerializedString("type");
+	private static final SerializedString RECEIPIENTS = new SerializedString("receipients");
+	private static final SerializedString TTD = new SerializedString("ttd");
+	private static final SerializedString SENT = new SerializedString("sent");
+	private static final SerializedString DELIVERED = new SerializedString("delivered");
+
+	private JsonSerializer<Object> receipientsSerializer;
+
+	MessageStatusResponseSerializer(JsonSerializer<Object> fallback, boolean suppressNulls) {
+		super(MessageStatusResponse.class, fallback, suppressNulls);
+	}
+
+
+	@Override
+	public void resolve(SerializerProvider provider) throws JsonMappingException {
+		super.resolve(provider);
+		receipientsSerializer = provider.findValueSerializer(String[].class, null);
+	}
+
+	@Override
+	protected void serializeFields(MessageStatusResponse value, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+		writeString(TYPE, value.getType(), gen, provider);
+		writeValue(RECEIPIENTS, value.getReceipients(), receipientsSerializer, gen, provider);
+		gen.writeFieldName(TTD);
+		gen.writeNumber(value.getTtd());
+		gen.writeFieldName(SENT);
+		gen.writeBoolean(value.isSent());
+		gen.writeFieldName(DELIVERED);
+		gen.writeBoolean(value.isDelivered());
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base of the straight-line serializers of the response models.
+ *
+ * <p>
+ * 		A subclass writes the properties of its model in the order of the reflective
+ * 		@see com.fasterxml.jackson.databind.ser.BeanSerializer it replaces, through the getters
+ * 		directly. @see ModelSerializerModifier only installs it when that bean serializer has
+ * 		exactly the expected properties, so the output stays byte-for-byte the same. The bean
+ * 		serializer is kept as the fallback for the rare calls a model serializer does not
+ * 		handle, such as an active view that excludes unannotated properties, and for
+ * 		properties whose annotations change how the model is written.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+abstract class ModelSerializer<T> extends StdSerializer<T> implements ResolvableSerializer, ContextualSerializer {
+
+	private static final long serialVersionUID = 1L;
+
+	private final JsonSerializer<Object> fallback;
+
+	/*
+	 * Whether null values are left out, as the bean serializer was configured to.
+	 */
+	protected final boolean suppressNulls;
+
+	protected ModelSerializer(Class<T> type, JsonSerializer<Object> fallback, boolean suppressNulls) {
+		super(type);
+		this.fallback = fallback;
+		this.suppressNulls = suppressNulls;
+	}
+
+
+	@Override
+	public void resolve(SerializerProvider provider) throws JsonMappingException {
+		if (fallback instanceof ResolvableSerializer) {
+			((ResolvableSerializer) fallback).resolve(provider);
+		}
+	}
+
+	/**
+	 * Hand over to the bean serializer when the annotations of the property, such as
+	 * <code>@JsonIgnoreProperties</code> or <code>@JsonFormat</code>, produce a different one.
+	 */
+	@Override
+	public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+			throws JsonMappingException {
+		if (fallback instanceof ContextualSerializer) {
+			JsonSerializer<?> contextual = ((ContextualSerializer) fallback).createContextual(provider, property);
+			if (contextual != fallback) {
+				return contextual;
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		if (useFallback(provider)) {
+			fallback.serialize(value, gen, provider);
+			return;
+		}
+		gen.writeStartObject(value);
+		serializeFields(value, gen, provider);
+		gen.writeEndObject();
+	}
+
+	@Override
+	public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider,
+			TypeSerializer typeSer) throws IOException {
+		if (useFallback(provider)) {
+			fallback.serializeWithType(value, gen, provider, typeSer);
+			return;
+		}
+		WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+		serializeFields(value, gen, provider);
+		typeSer.writeTypeSuffix(gen, typeId);
+	}
+
+	/**
+	 * Write all the properties of the model, in wire order.
+	 *
+	 * @param value		the model
+	 * @param gen		JsonGenerator @see JsonGenerator
+	 * @param provider	SerializerProvider @see SerializerProvider
+	 * @throws IOException	If the generator fails to write
+	 */
+	protected abstract void serializeFields(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+
+	protected void writeString(SerializableString name, String value, JsonGenerator gen,
+			SerializerProvider provider) throws IOException {
+		if (value == null) {
+			writeNull(name, gen, provider);
+			return;
+		}
+		gen.writeFieldName(name);
+		gen.writeString(value);
+	}
+
+	/**
+	 * Write a property with the serializer resolved for its declared type.
+	 */
+	protected void writeValue(SerializableString name, Object value, JsonSerializer<Object> serializer,
+			JsonGenerator gen, SerializerProvider provider) throws IOException {
+		if (value == null) {
+			writeNull(name, gen, provider);
+			return;
+		}
+		gen.writeFieldName(name);
+		serializer.serialize(value, gen, provider);
+	}
+
+	/**
+	 * Write a property whose serializer depends on the runtime type of its value.
+	 */
+	protected void writeValue(SerializableString name, Object value, JsonGenerator gen,
+			SerializerProvider provider) throws IOException {
+		if (value == null) {
+			writeNull(name, gen, provider);
+			return;
+		}
+		gen.writeFieldName(name);
+		provider.findValueSerializer(value.getClass(), null).serialize(value, gen, provider);
+	}
+
+	private void writeNull(SerializableString name, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		if (!suppressNulls) {
+			gen.writeFieldName(name);
+			provider.defaultSerializeNull(gen);
+		}
+	}
+
+	private static boolean useFallback(SerializerProvider provider) {
+		return provider.getActiveView() != null && !provider.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import com.accessgatelabs.oss.builder.models.ApiServiceResponse;
+import com.accessgatelabs.oss.builder.models.ExceptionResponseBuilder;
+import com.accessgatelabs.oss.builder.models.FileUploadResponse;
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.accessgatelabs.oss.builder.models.MessageStatusResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+/**
+ * Replaces the reflective bean serializers of the response models with their
+ * @see ModelSerializer.
+ *
+ * <p>
+ * 		A model serializer is only installed when the bean serializer built by Jackson
+ * 		writes exactly the expected properties, in the expected order, with null values
+ * 		either all written or all left out. Anything else, such as a mix-in, alphabetic
+ * 		sorting, a subclass adding properties or a <code>NON_EMPTY</code> inclusion, keeps the
+ * 		bean serializer, so the output never differs from the reflective one.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class ModelSerializerModifier extends BeanSerializerModifier {
+
+	private static final Map<Class<?>, Model> MODELS = new LinkedHashMap<>();
+
+	static {
+		MODELS.put(HttpResponse.class, new Model(HttpResponseSerializer.PROPERTIES, HttpResponseSerializer::new));
+		MODELS.put(ApiServiceResponse.class, new Model(ApiServiceResponseSerializer.PROPERTIES, ApiServiceResponseSerializer::new));
+		MODELS.put(FileUploadResponse.class, new Model(FileUploadResponseSerializer.PROPERTIES, FileUploadResponseSerializer::new));
+		MODELS.put(MessageStatusResponse.class, new Model(MessageStatusResponseSerializer.PROPERTIES, MessageStatusResponseSerializer::new));
+		MODELS.put(ExceptionResponseBuilder.class, new Model(ExceptionResponseBuilderSerializer.PROPERTIES, ExceptionResponseBuilderSerializer::new));
+	}
+
+	@Override
+	public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+			JsonSerializer<?> serializer) {
+		Model model = model(beanDesc.getBeanClass());
+		if (model == null || !(serializer instanceof BeanSerializerBase)) {
+			return serializer;
+		}
+		BeanSerializerBase beanSerializer = (BeanSerializerBase) serializer;
+		Boolean suppressNulls = suppressNulls(config, beanDesc);
+		if (suppressNulls == null || beanSerializer.usesObjectId()
+				|| !matches(beanSerializer, model.properties, suppressNulls)) {
+			return serializer;
+		}
+		@SuppressWarnings("unchecked")
+		JsonSerializer<Object> fallback = (JsonSerializer<Object>) serializer;
+		return model.factory.apply(fallback, suppressNulls);
+	}
+
+
+	/*
+	 * The model of a class, or of the shared constants subclassing it.
+	 */
+	private static Model model(Class<?> type) {
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			Model model = MODELS.get(current);
+			if (model != null) {
+				return model;
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * Resolve the value inclusion the way Jackson does for a bean: mapper default,
+	 * overridden by the class annotation, overridden by the mapper config of the type.
+	 * Returns null for inclusions that also leave out non-null values.
+	 */
+	private static Boolean suppressNulls(SerializationConfig config, BeanDescription beanDesc) {
+		JsonInclude.Value perType = JsonInclude.Value.merge(beanDesc.findPropertyInclusion(JsonInclude.Value.empty()),
+				config.getConfigOverride(beanDesc.getBeanClass()).getInclude());
+		JsonInclude.Include inclusion = JsonInclude.Value.merge(config.getDefaultPropertyInclusion(), perType)
+				.getValueInclusion();
+		switch (inclusion) {
+		case ALWAYS:
+		case USE_DEFAULTS:
+			return Boolean.FALSE;
+		case NON_NULL:
+		case NON_ABSENT:
+			return Boolean.TRUE;
+		default:
+			return null;
+		}
+	}
+
+	private static boolean matches(BeanSerializerBase serializer, List<String> properties, boolean suppressNulls) {
+		Iterator<PropertyWriter> writers = serializer.properties();
+		for (String property : properties) {
+			if (!writers.hasNext()) {
+				return false;
+			}
+			PropertyWriter writer = writers.next();
+			if (!(writer instanceof BeanPropertyWriter) || !property.equals(writer.getName())
+					|| ((BeanPropertyWriter) writer).willSuppressNulls() != suppressNulls) {
+				return false;
+			}
+		}
+		return !writers.hasNext();
+	}
+
+
+	private static final class Model {
+
+		final List<String> properties;
+		final BiFunction<JsonSerializer<Object>, Boolean, JsonSerializer<?>> factory;
+
+		Model(List<String> properties, BiFunction<JsonSerializer<Object>, Boolean, JsonSerializer<?>> factory) {
+			this.properties = properties;
+			this.factory = factory;
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.accessgatelabs.oss.builder.models.MultiStatusItem;
+import com.accessgatelabs.oss.builder.models.MultiStatusResult;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Serializer of @see MultiStatusResult.
+ *
+ * <p>
+ * 		Writes the <code>items</code> array one @see MultiStatusItem at a time, tallying
+ * 		the items per code in an array indexed by @see ServiceResponse ordinal, then the
+ * 		<code>counts</code> object in declaration order of the constants. Items are written
+ * 		straight-line, with their null <code>http</code>, <code>result</code> and <code>error</code> left out.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class MultiStatusResultSerializer extends StdSerializer<MultiStatusResult> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializedString ITEMS = new SerializedString("items");
+	private static final SerializedString COUNTS = new SerializedString("counts");
+	private static final SerializedString ERROR = new SerializedString("error");
+	private static final SerializedString INDEX = new SerializedString("index");
+	private static final SerializedString CODE = new SerializedString("code");
+	private static final SerializedString HTTP = new SerializedString("http");
+	private static final SerializedString RESULT = new SerializedString("result");
+
+	private static final ServiceResponse[] SERVICE_RESPONSES = ServiceResponse.values();
+
+	MultiStatusResultSerializer() {
+		super(MultiStatusResult.class);
+	}
+
+
+	@Override
+	public void serialize(MultiStatusResult value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		long[] counts = new long[SERVICE_RESPONSES.length];
+		Exception error = null;
+		gen.writeStartObject(value);
+		gen.writeFieldName(ITEMS);
+		gen.writeStartArray();
+		try {
+			Iterator<MultiStatusItem> items = value.iterator();
+			Class<?> resultType = null;
+			JsonSerializer<Object> resultSerializer = null;
+			while (true) {
+				MultiStatusItem item;
+				try {
+					if (!items.hasNext()) {
+						break;
+					}
+					item = items.next();
+				} catch (RuntimeException ex) {
+					error = ex;
+					break;
+				}
+				if (item == null) {
+					continue;
+				}
+				gen.writeStartObject();
+				gen.writeFieldName(INDEX);
+				gen.writeNumber(item.getIndex());
+				gen.writeFieldName(CODE);
+				gen.writeNumber(item.getCode());
+				if (item.getHttp() != null) {
+					gen.writeFieldName(HTTP);
+					provider.findValueSerializer(HttpResponse.class, null).serialize(item.getHttp(), gen, provider);
+				}
+				Object result = item.getResult();
+				if (result != null) {
+					if (result.getClass() != resultType) {
+						resultType = result.getClass();
+						resultSerializer = provider.findValueSerializer(resultType, null);
+					}
+					gen.writeFieldName(RESULT);
+					resultSerializer.serialize(result, gen, provider);
+				}
+				if (item.getError() != null) {
+					gen.writeFieldName(ERROR);
+					gen.writeString(item.getError());
+				}
+				gen.writeEndObject();
+				ServiceResponse serviceResponse = ServiceResponse.resolve(item.getCode());
+				if (serviceResponse != null) {
+					counts[serviceResponse.ordinal()]++;
+				}
+			}
+		} finally {
+			try {
+				value.close();
+			} catch (Exception ex) {
+				if (error == null) {
+					error = ex;
+				}
+			}
+		}
+		gen.writeEndArray();
+
+		gen.writeFieldName(COUNTS);
+		gen.writeStartObject();
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] != 0) {
+				gen.writeFieldName(Integer.toString(SERVICE_RESPONSES[i].value()));
+				gen.writeNumber(counts[i]);
+			}
+		}
+		gen.writeEndObject();
+
+		if (error != null) {
+			gen.writeFieldName(ERROR);
+			gen.writeString(error.getLocalizedMessage() != null ? error.getLocalizedMessage() : error.getClass().getSimpleName());
+		}
+		gen.writeEndObject();
+	}
+
+}
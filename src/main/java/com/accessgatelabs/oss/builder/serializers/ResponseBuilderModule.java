@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import com.accessgatelabs.oss.builder.models.MultiStatusResult;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson @see com.fasterxml.jackson.databind.Module registering the
+ * serializers of the response models.
+ *
+ * <p>
+ * 		@see StateServiceResponse is written by @see StateServiceResponseSerializer. The nested
+ * 		models (@see com.accessgatelabs.oss.builder.models.HttpResponse, @see com.accessgatelabs.oss.builder.models.ApiServiceResponse,
+ * 		@see com.accessgatelabs.oss.builder.models.FileUploadResponse, @see com.accessgatelabs.oss.builder.models.MessageStatusResponse
+ * 		and @see com.accessgatelabs.oss.builder.models.ExceptionResponseBuilder) are written by
+ * 		straight-line serializers instead of reflective bean serializers, see @see ModelSerializerModifier.
+ * 		The per-item outcomes of a bulk operation are written by @see MultiStatusResultSerializer.
+ * </p>
+ *
+ * <p>
+ * 		Spring Boot applications get the module registered on their @see com.fasterxml.jackson.databind.ObjectMapper
+ * 		through @see com.accessgatelabs.oss.builder.config.ResponseBuilderAutoConfiguration.
+ * 		Other applications can register it by hand:
+ * </p>
+ *
+ * <pre>
+ * objectMapper.registerModule(new ResponseBuilderModule());
+ * </pre>
+ *
+ * <p>
+ * 		Envelopes are written in full unless another @see EnvelopeProfile is given.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class ResponseBuilderModule extends SimpleModule {
+
+	private static final long serialVersionUID = 1L;
+
+	public ResponseBuilderModule() {
+		this(EnvelopeProfile.VERBOSE);
+	}
+
+	/**
+	 * @param profile	EnvelopeProfile @see EnvelopeProfile of the envelopes written
+	 */
+	public ResponseBuilderModule(EnvelopeProfile profile) {
+		super(ResponseBuilderModule.class.getSimpleName(), Version.unknownVersion());
+		addSerializer(StateServiceResponse.class, new StateServiceResponseSerializer(profile));
+		addSerializer(MultiStatusResult.class, new MultiStatusResultSerializer());
+		setSerializerModifier(new ModelSerializerModifier());
+	}
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.serializers;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+import com.accessgatelabs.oss.builder.models.ApiServiceResponse;
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.models.StreamingResult;
+import com.accessgatelabs.oss.builder.models.StreamingSummary;
+import com.accessgatelabs.oss.builder.time.ResponseClock;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Serializer for @see StateServiceResponse that writes the constant
+ * <code>api</code> and <code>http</code> blocks from cached fragments.
+ *
+ * <p>
+ * 		Both blocks are fully determined by their @see com.accessgatelabs.oss.builder.models.ServiceResponse
+ * 		and @see org.springframework.http.HttpStatus, so they are copied from @see EnvelopeFragments
+ * 		instead of being resolved and written property by property. Only the dynamic fields
+ * 		(timestamp, message, result ...) are serialized on each write.
+ * </p>
+ *
+ * <p>
+ * 		The output is identical to the reflective serialization of @see StateServiceResponse:
+ * 		same property names, same order and the same <code>dd-MM-yyyy hh:mm:ss</code> timestamp.
+ * 		The default property inclusion of the mapper is honoured for null and empty values.
+ * </p>
+ *
+ * <p>
+ * 		With an @see EnvelopeProfile other than @see EnvelopeProfile#VERBOSE, null and empty
+ * 		properties, the debug message and the <code>http</code> block are left out as the
+ * 		profile sets, on top of the inclusion of the mapper.
+ * </p>
+ *
+ * <p>
+ * 		A timestamp taken from the current @see ResponseClock reuses the text it was
+ * 		formatted to, instead of being formatted again.
+ * </p>
+ *
+ * <p>
+ * 		A @see StreamingResult is written element by element as the <code>result</code> array,
+ * 		and the envelope then ends with a <code>trailer</code> object reporting whether the
+ * 		stream completed, how many elements were written and the error that stopped it.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class StateServiceResponseSerializer extends StdSerializer<StateServiceResponse> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final EnvelopeProfile profile;
+
+	public StateServiceResponseSerializer() {
+		this(EnvelopeProfile.VERBOSE);
+	}
+
+	public StateServiceResponseSerializer(EnvelopeProfile profile) {
+		super(StateServiceResponse.class);
+		this.profile = profile;
+	}
+
+
+	public EnvelopeProfile getProfile() {
+		return profile;
+	}
+
+
+	@Override
+	public void serialize(StateServiceResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeStartObject(value);
+		serializeFields(value, gen, provider);
+		gen.writeEndObject();
+	}
+
+	/**
+	 * @see StateServiceResponse declares an existing-property @see com.fasterxml.jackson.annotation.JsonTypeInfo,
+	 * so the type prefix only opens the object and no type id is written.
+	 */
+	@Override
+	public void serializeWithType(StateServiceResponse value, JsonGenerator gen, SerializerProvider provider,
+			TypeSerializer typeSer) throws IOException {
+		WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+		serializeFields(value, gen, provider);
+		typeSer.writeTypeSuffix(gen, typeId);
+	}
+
+
+	/**
+	 * Write all the properties of the envelope, in wire order.
+	 *
+	 * @param value		StateServiceResponse @see StateServiceResponse
+	 * @param gen		JsonGenerator @see JsonGenerator
+	 * @param provider	SerializerProvider @see SerializerProvider
+	 * @throws IOException	If the generator fails to write
+	 */
+	protected void serializeFields(StateServiceResponse value, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+		serializeLeadingFields(value, gen, provider);
+		StreamingSummary trailer = null;
+		if (value.getObjectAsResponse() instanceof StreamingResult) {
+			trailer = writeStreamingResult((StreamingResult<?>) value.getObjectAsResponse(), gen, provider);
+		} else {
+			JsonInclude.Include inclusion = inclusion(provider);
+			writeValue(EnvelopeFragments.RESULT, value.getObjectAsResponse(), gen, provider, skipNulls(inclusion), skipEmpty(inclusion));
+		}
+		serializeTrailingFields(value, trailer, gen, provider);
+	}
+
+	/**
+	 * Write the properties of the envelope preceding <code>result</code>.
+	 */
+	void serializeLeadingFields(StateServiceResponse value, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+		boolean raw = EnvelopeFragments.canWriteRaw(gen, provider);
+		JsonInclude.Include inclusion = inclusion(provider);
+		boolean skipNulls = skipNulls(inclusion);
+		boolean skipEmpty = skipEmpty(inclusion);
+
+		writeTimestamp(value.getTimestamp(), gen, skipNulls);
+		writeString(EnvelopeFragments.MESSAGE, value.getMessage(), gen, skipNulls, skipEmpty);
+		writeValue(EnvelopeFragments.ERROR_COUNT, value.getErrorCount(), gen, provider, skipNulls, skipEmpty);
+		writeString(EnvelopeFragments.PATH, value.getPath(), gen, skipNulls, skipEmpty);
+		writeApi(value.getApiServiceResponse(), gen, provider, raw, skipNulls);
+		if (profile.debugMessage) {
+			writeString(EnvelopeFragments.DEBUG_MESSAGE, value.getDebugMessage(), gen, skipNulls, skipEmpty);
+		}
+		if (profile.http) {
+			writeHttp(value.getHttpResponse(), gen, provider, raw, skipNulls);
+		}
+		writeValue(EnvelopeFragments.EXCEPTIONS, value.getSubErrors(), gen, provider, skipNulls, skipEmpty);
+	}
+
+	/**
+	 * Write the properties of the envelope following <code>result</code>, then the
+	 * trailer of a streamed result, if any.
+	 */
+	void serializeTrailingFields(StateServiceResponse value, StreamingSummary trailer, JsonGenerator gen,
+			SerializerProvider provider) throws IOException {
+		JsonInclude.Include inclusion = inclusion(provider);
+		boolean skipNulls = skipNulls(inclusion);
+		boolean skipEmpty = skipEmpty(inclusion);
+
+		writeValue(EnvelopeFragments.FILE_RESPONSE, value.getFileUploadResponse(), gen, provider, skipNulls, skipEmpty);
+		writeValue(EnvelopeFragments.MESSAGE_RESPONSE, value.getMessageStatusResponse(), gen, provider, skipNulls, skipEmpty);
+		writeValue(EnvelopeFragments.EXCEPTION, value.getExceptionResponseBuilder(), gen, provider, skipNulls, skipEmpty);
+		if (trailer != null) {
+			gen.writeFieldName(EnvelopeFragments.TRAILER);
+			provider.findValueSerializer(StreamingSummary.class, null).serialize(trailer, gen, provider);
+		}
+	}
+
+
+	private static JsonInclude.Include inclusion(SerializerProvider provider) {
+		return provider.getConfig().getDefaultPropertyInclusion(StateServiceResponse.class).getValueInclusion();
+	}
+
+	private boolean skipNulls(JsonInclude.Include inclusion) {
+		return profile.skipNulls || (inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS);
+	}
+
+	private boolean skipEmpty(JsonInclude.Include inclusion) {
+		return profile.skipEmpty || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+	}
+
+	private static void writeTimestamp(LocalDateTime timestamp, JsonGenerator gen, boolean skipNulls) throws IOException {
+		if (timestamp == null) {
+			if (!skipNulls) {
+				gen.writeFieldName(EnvelopeFragments.TIMESTAMP);
+				gen.writeNull();
+			}
+			return;
+		}
+		gen.writeFieldName(EnvelopeFragments.TIMESTAMP);
+		gen.writeString(ResponseClock.current().format(timestamp));
+	}
+
+	/**
+	 * Write the elements of a streaming result as they are produced, then close it.
+	 * A failure of the source ends the array early and is reported in the trailer;
+	 * a failure to write an element cannot be recovered from and is thrown.
+	 */
+	private static StreamingSummary writeStreamingResult(StreamingResult<?> result, JsonGenerator gen,
+			SerializerProvider provider) throws IOException {
+		long count = 0;
+		Exception error = null;
+		gen.writeFieldName(EnvelopeFragments.RESULT);
+		gen.writeStartArray();
+		try {
+			Iterator<?> elements = result.iterator();
+			Class<?> elementType = null;
+			JsonSerializer<Object> serializer = null;
+			while (true) {
+				Object element;
+				try {
+					if (!elements.hasNext()) {
+						break;
+					}
+					element = elements.next();
+				} catch (RuntimeException ex) {
+					error = ex;
+					break;
+				}
+				if (element == null) {
+					provider.defaultSerializeNull(gen);
+				} else {
+					if (element.getClass() != elementType) {
+						elementType = element.getClass();
+						serializer = provider.findValueSerializer(elementType, null);
+					}
+					serializer.serialize(element, gen, provider);
+				}
+				count++;
+			}
+		} finally {
+			try {
+				result.close();
+			} catch (Exception ex) {
+				if (error == null) {
+					error = ex;
+				}
+			}
+		}
+		gen.writeEndArray();
+		return StreamingSummary.of(count, error);
+	}
+
+	private static void writeApi(ApiServiceResponse apiServiceResponse, JsonGenerator gen, SerializerProvider provider,
+			boolean raw, boolean skipNulls) throws IOException {
+		SerializableString fragment = raw && apiServiceResponse != null ? EnvelopeFragments.apiBlock(apiServiceResponse) : null;
+		if (fragment == null) {
+			writeValue(EnvelopeFragments.API, apiServiceResponse, gen, provider, skipNulls, false);
+			return;
+		}
+		gen.writeFieldName(EnvelopeFragments.API);
+		gen.writeRawValue(fragment);
+	}
+
+	private static void writeHttp(HttpResponse httpResponse, JsonGenerator gen, SerializerProvider provider,
+			boolean raw, boolean skipNulls) throws IOException {
+		SerializableString fragment = raw && httpResponse != null ? EnvelopeFragments.httpBlock(httpResponse) : null;
+		if (fragment == null) {
+			writeValue(EnvelopeFragments.HTTP, httpResponse, gen, provider, skipNulls, false);
+			return;
+		}
+		gen.writeFieldName(EnvelopeFragments.HTTP);
+		gen.writeRawValue(fragment);
+	}
+
+	private static void writeString(SerializableString name, String value, JsonGenerator gen,
+			boolean skipNulls, boolean skipEmpty) throws IOException {
+		if (value == null) {
+			if (!skipNulls) {
+				gen.writeFieldName(name);
+				gen.writeNull();
+			}
+			return;
+		}
+		if (skipEmpty && value.isEmpty()) {
+			return;
+		}
+		gen.writeFieldName(name);
+		gen.writeString(value);
+	}
+
+	/**
+	 * Write a property whose serializer depends on the runtime type of its value,
+	 * the same way a bean property declared with a non-final type is written.
+	 */
+	private static void writeValue(SerializableString name, Object value, JsonGenerator gen, SerializerProvider provider,
+			boolean skipNulls, boolean skipEmpty) throws IOException {
+		if (value == null) {
+			if (!skipNulls) {
+				gen.writeFieldName(name);
+				provider.defaultSerializeNull(gen);
+			}
+			return;
+		}
+		JsonSerializer<Object> serializer = provider.findValueSerializer(value.getClass(), null);
+		if (skipEmpty && serializer.isEmpty(provider, value)) {
+			return;
+		}
+		gen.writeFieldName(name);
+		serializer.serialize(value, gen, provider);
+	}
+
+}
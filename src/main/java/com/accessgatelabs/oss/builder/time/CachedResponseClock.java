@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @see ResponseClock serving a per-second @see ResponseTimestamp, refreshed by one background ticker.
+ *
+ * <p>
+ * 		The ticker reads the underlying @see Clock on every tick and only formats a new
+ * 		timestamp when the second has changed. Ticking more often than once a second keeps
+ * 		the served timestamp at most one tick behind the wall clock; the default tick of
+ * 		100 milliseconds trades ten cheap clock reads per second for that accuracy.
+ * </p>
+ *
+ * <p>
+ * 		Reading the clock is a volatile read: no allocation, no time-zone lookup and no
+ * 		formatting on the request path. The ticker runs on a daemon thread until @see #close().
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class CachedResponseClock extends ResponseClock implements AutoCloseable {
+
+	public static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+
+	private final Clock clock;
+
+	private final ScheduledExecutorService ticker;
+
+	private volatile ResponseTimestamp timestamp;
+
+	public CachedResponseClock() {
+		this(Clock.systemDefaultZone(), DEFAULT_TICK);
+	}
+
+	/**
+	 * @param clock	Clock @see Clock read by the ticker
+	 * @param tick	Duration @see Duration between two reads of the clock
+	 */
+	public CachedResponseClock(Clock clock, Duration tick) {
+		if (tick.isNegative() || tick.isZero()) {
+			throw new IllegalArgumentException("Tick must be positive: " + tick);
+		}
+		this.clock = clock;
+		this.timestamp = read();
+		this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "response-clock");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long nanos = tick.toNanos();
+		this.ticker.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+	}
+
+
+	@Override
+	public ResponseTimestamp timestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Refresh the timestamp if the second has changed.
+	 */
+	void tick() {
+		LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+		if (!now.equals(timestamp.getDateTime())) {
+			timestamp = ResponseTimestamp.of(now);
+		}
+	}
+
+	/**
+	 * Stop the ticker. If this clock is in use, responses are stamped by @see ResponseClock#system() again.
+	 */
+	@Override
+	public void close() {
+		ticker.shutdownNow();
+		if (current() == this) {
+			use(null);
+		}
+	}
+
+	private ResponseTimestamp read() {
+		return ResponseTimestamp.of(LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS));
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.time;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deterministic @see ResponseClock that stays on a given date-time until it is moved.
+ *
+ * <pre>
+ * FixedResponseClock clock = new FixedResponseClock(LocalDateTime.of(2020, 6, 2, 10, 0));
+ * ResponseClock.use(clock);
+ * ...
+ * clock.advance(Duration.ofSeconds(1));
+ * ...
+ * ResponseClock.use(null);
+ * </pre>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class FixedResponseClock extends ResponseClock {
+
+	private volatile ResponseTimestamp timestamp;
+
+	public FixedResponseClock(LocalDateTime dateTime) {
+		setTo(dateTime);
+	}
+
+
+	@Override
+	public ResponseTimestamp timestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Move the clock to a date-time.
+	 *
+	 * @param dateTime	LocalDateTime @see LocalDateTime
+	 */
+	public void setTo(LocalDateTime dateTime) {
+		this.timestamp = ResponseTimestamp.of(dateTime);
+	}
+
+	/**
+	 * Move the clock forward.
+	 *
+	 * @param duration	Duration @see Duration
+	 */
+	public synchronized void advance(Duration duration) {
+		setTo(timestamp.getDateTime().plus(duration));
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.time;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Source of the timestamps stamped on every @see com.accessgatelabs.oss.builder.models.StateServiceResponse.
+ *
+ * <p>
+ * 		The timestamp only has a one-second resolution on the wire. A clock can therefore
+ * 		hand out the same @see ResponseTimestamp for a whole second, saving the time-zone lookup,
+ * 		the @see LocalDateTime allocation and the formatting otherwise done for every response.
+ * </p>
+ *
+ * <ul>
+ * 		<li>@see #system() reads the system clock on every call, the default.</li>
+ * 		<li>@see CachedResponseClock serves a per-second timestamp refreshed by one background ticker.</li>
+ * 		<li>@see FixedResponseClock returns a settable timestamp, for tests.</li>
+ * </ul>
+ *
+ * <pre>
+ * ResponseClock.use(new FixedResponseClock(LocalDateTime.of(2020, 6, 2, 10, 0)));
+ * </pre>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public abstract class ResponseClock {
+
+	private static final ResponseClock SYSTEM = new SystemResponseClock();
+
+	private static volatile ResponseClock current = SYSTEM;
+
+
+	/**
+	 * @return the clock used to stamp responses
+	 */
+	public static ResponseClock current() {
+		return current;
+	}
+
+	/**
+	 * Use a clock to stamp responses from now on.
+	 *
+	 * @param clock	ResponseClock @see ResponseClock, or null for @see #system()
+	 */
+	public static void use(ResponseClock clock) {
+		current = clock != null ? clock : SYSTEM;
+	}
+
+	/**
+	 * @return the clock reading the system clock on every call
+	 */
+	public static ResponseClock system() {
+		return SYSTEM;
+	}
+
+
+	/**
+	 * @return the current timestamp
+	 */
+	public abstract ResponseTimestamp timestamp();
+
+	/**
+	 * @return the current date-time
+	 */
+	public LocalDateTime now() {
+		return timestamp().getDateTime();
+	}
+
+	/**
+	 * Return the wire text of a date-time, reusing the text of the current timestamp
+	 * when the date-time is the one it holds.
+	 *
+	 * @param dateTime	LocalDateTime @see LocalDateTime
+	 * @return the formatted date-time
+	 */
+	public SerializableString format(LocalDateTime dateTime) {
+		ResponseTimestamp timestamp = timestamp();
+		if (timestamp.getDateTime().equals(dateTime)) {
+			return timestamp.getText();
+		}
+		return new SerializedString(ResponseTimestamp.FORMATTER.format(dateTime));
+	}
+
+
+	private static final class SystemResponseClock extends ResponseClock {
+
+		@Override
+		public ResponseTimestamp timestamp() {
+			return ResponseTimestamp.of(LocalDateTime.now());
+		}
+
+		@Override
+		public LocalDateTime now() {
+			return LocalDateTime.now();
+		}
+
+		@Override
+		public SerializableString format(LocalDateTime dateTime) {
+			return new SerializedString(ResponseTimestamp.FORMATTER.format(dateTime));
+		}
+
+	}
+
+}
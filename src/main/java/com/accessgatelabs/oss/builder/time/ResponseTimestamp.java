@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.time;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * A response timestamp together with its wire representation.
+ *
+ * <p>
+ * 		The text is formatted once with @see StateServiceResponse#TIMESTAMP_PATTERN and kept
+ * 		as a @see SerializedString, which caches its quoted and unquoted UTF-8 bytes. Every
+ * 		response stamped with the same instance shares that text.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class ResponseTimestamp {
+
+	static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(StateServiceResponse.TIMESTAMP_PATTERN);
+
+	private final LocalDateTime dateTime;
+
+	private final SerializedString text;
+
+	private ResponseTimestamp(LocalDateTime dateTime) {
+		this.dateTime = dateTime;
+		this.text = new SerializedString(FORMATTER.format(dateTime));
+	}
+
+
+	/**
+	 * Format a @see LocalDateTime into a timestamp.
+	 *
+	 * @param dateTime	LocalDateTime @see LocalDateTime
+	 * @return the timestamp
+	 */
+	public static ResponseTimestamp of(LocalDateTime dateTime) {
+		return new ResponseTimestamp(dateTime);
+	}
+
+	public LocalDateTime getDateTime() {
+		return dateTime;
+	}
+
+	/**
+	 * @return the formatted timestamp, ready for @see com.fasterxml.jackson.core.JsonGenerator#writeString(SerializableString)
+	 */
+	public SerializableString getText() {
+		return text;
+	}
+
+	/**
+	 * @return the unquoted UTF-8 bytes of the formatted timestamp. The array is shared and must not be modified.
+	 */
+	public byte[] getBytes() {
+		return text.asUnquotedUTF8();
+	}
+
+	@Override
+	public String toString() {
+		return text.getValue();
+	}
+
+}
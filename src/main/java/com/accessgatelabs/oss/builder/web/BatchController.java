@@ -0,0 +1,468 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.util.UriUtils;
+
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.accessgatelabs.oss.builder.models.MultiStatusItem;
+import com.accessgatelabs.oss.builder.models.MultiStatusResult;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batch endpoint dispatching the sub-requests of a @see BatchRequest in parallel and
+ * answering with one @see ServiceResponse#MULTI_STATUS envelope.
+ *
+ * <p>
+ * 		Registered by the auto-configuration when <code>accessgatelabs.response-builder.batch.enabled=true</code>,
+ * 		at <code>accessgatelabs.response-builder.batch.path</code>. Each sub-request is dispatched
+ * 		in-process to the @see org.springframework.web.servlet.DispatcherServlet as a
+ * 		@see BatchSubRequest, never over the network. It carries the scheme, addresses, session
+ * 		and principal of the batch call, its <code>Authorization</code>, <code>Cookie</code>,
+ * 		<code>Accept-Language</code> and <code>Host</code> headers, and of its own headers only
+ * 		<code>Accept-Language</code>, the conditional ones and @see SparseFieldset#HEADER; others,
+ * 		such as <code>X-Forwarded-For</code>, are ignored.
+ * </p>
+ *
+ * <p>
+ * 		With a security filter, the <code>springSecurityFilterChain</code> set up by the
+ * 		auto-configuration, each sub-request runs through it before reaching the dispatcher, so
+ * 		the URL rules, CSRF protection and authentication filters of Spring Security apply to
+ * 		it. The CSRF token the batch call presented is passed on to its sub-requests. With a
+ * 		@see WebInvocationPrivilegeEvaluator, the URL rules are also checked before dispatching,
+ * 		so that refused sub-requests never reach the chain. The authentication of the batch
+ * 		call is set on the dispatching threads, so method security and interceptors apply as
+ * 		usual. Other servlet filters, such as ones resolving a tenant, do not run.
+ * </p>
+ *
+ * <p>
+ * 		Asynchronous handlers, such as ones returning a @see CompletableFuture or a
+ * 		@see org.springframework.web.context.request.async.DeferredResult, hold a dispatching
+ * 		thread until they complete, see @see BatchSubRequest.
+ * </p>
+ *
+ * <p>
+ * 		Paths are checked before dispatching: they must stay within the application, with
+ * 		no encoded separators, dot segments or path parameters, and may not reach the batch
+ * 		endpoint itself, whatever its spelling. Sub-requests are also flagged with
+ * 		@see BatchSubRequest#SUB_REQUEST_ATTRIBUTE, and a batch dispatched from a batch is refused.
+ * </p>
+ *
+ * <p>
+ * 		Sub-requests are dispatched on a thread pool shared by all batches, or on virtual threads
+ * 		when the JVM has them, at most <code>concurrency</code> at a time per batch. Each item of the
+ * 		result carries the <code>http</code> block of its sub-request and the code of the
+ * 		<code>api</code> block of its envelope; the <code>result</code> is the envelope result, or
+ * 		the whole body when the endpoint does not answer with an envelope. Once <code>timeout</code>
+ * 		elapses, the batch is answered with the sub-requests completed so far and the others are
+ * 		reported as @see ServiceResponse#ASYNC_REQUEST_TIMEOUT. Sub-requests already running are
+ * 		not interrupted, their handlers could be left half done; they complete and are discarded.
+ * </p>
+ *
+ * <p>
+ * 		The class is mapped with @see RequestMapping rather than declared as a controller component,
+ * 		so that it is only registered through the auto-configuration, never by component scanning.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@Slf4j
+@RequestMapping
+public class BatchController implements AutoCloseable {
+
+	private static final String[] FORWARDED_HEADERS = { HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE,
+			HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.HOST };
+
+	private static final String[] SUB_REQUEST_HEADERS = { HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.IF_MATCH,
+			HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_UNMODIFIED_SINCE, SparseFieldset.HEADER };
+
+	/*
+	 * Encoded characters a path could hide a separator, dot segment or path parameter behind.
+	 */
+	private static final String[] ENCODED_DELIMITERS = { "%2f", "%2e", "%3b", "%5c", "%25", "%00" };
+
+	private final ObjectMapper objectMapper;
+
+	private final Servlet dispatcher;
+
+	private final ExecutorService executor;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final String path;
+
+	private final int maxRequests;
+
+	private final int concurrency;
+
+	private final long timeoutMillis;
+
+	private WebInvocationPrivilegeEvaluator privilegeEvaluator;
+
+	private Filter securityFilter;
+
+	/**
+	 * @param objectMapper		ObjectMapper @see ObjectMapper reading the bodies of sub-responses
+	 * @param dispatcher		the servlet sub-requests are dispatched to, the @see org.springframework.web.servlet.DispatcherServlet
+	 * @param path				path of the batch endpoint
+	 * @param maxRequests		maximum number of sub-requests of a batch
+	 * @param concurrency		maximum number of sub-requests of a batch dispatched at once
+	 * @param threads			number of dispatching threads, when virtual threads are not available
+	 * @param timeoutMillis		time in milliseconds after which a batch is answered
+	 */
+	public BatchController(ObjectMapper objectMapper, Servlet dispatcher, String path, int maxRequests, int concurrency,
+			int threads, long timeoutMillis) {
+		this.objectMapper = objectMapper;
+		this.dispatcher = dispatcher;
+		this.path = path;
+		this.maxRequests = maxRequests;
+		this.concurrency = Math.max(concurrency, 1);
+		this.timeoutMillis = timeoutMillis;
+		this.executor = createExecutor(threads);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("batch-timeout-"));
+	}
+
+
+	/**
+	 * Check sub-requests against the URL rules of Spring Security before dispatching them.
+	 *
+	 * @param privilegeEvaluator	WebInvocationPrivilegeEvaluator @see WebInvocationPrivilegeEvaluator, null not to check
+	 */
+	public void setPrivilegeEvaluator(WebInvocationPrivilegeEvaluator privilegeEvaluator) {
+		this.privilegeEvaluator = privilegeEvaluator;
+	}
+
+	/**
+	 * Run sub-requests through a filter before dispatching them, such as the
+	 * <code>springSecurityFilterChain</code> of Spring Security.
+	 *
+	 * @param securityFilter	Filter @see Filter, null to dispatch sub-requests straight to the dispatcher
+	 */
+	public void setSecurityFilter(Filter securityFilter) {
+		this.securityFilter = securityFilter;
+	}
+
+	@PostMapping(path = "${accessgatelabs.response-builder.batch.path:/batch}", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public CompletableFuture<ResponseEntity<?>> batch(@RequestBody BatchRequest batchRequest, HttpServletRequest request) {
+		if (request.getAttribute(BatchSubRequest.SUB_REQUEST_ATTRIBUTE) != null) {
+			return CompletableFuture.completedFuture(ServiceResponse.MALFORMED_REQUEST.buildResponse(
+					"A batch cannot be sent from a batch"));
+		}
+		List<BatchRequest.SubRequest> subRequests = batchRequest.getRequests();
+		if (subRequests == null || subRequests.isEmpty() || subRequests.size() > maxRequests) {
+			return CompletableFuture.completedFuture(ServiceResponse.MALFORMED_REQUEST.buildResponse(
+					"A batch holds between 1 and " + maxRequests + " sub-requests"));
+		}
+
+		// The servlet request cannot be used from the dispatching threads, read what they need now
+		BatchSubRequest.Origin origin = BatchSubRequest.Origin.of(request);
+		HttpHeaders forwarded = new HttpHeaders();
+		for (String header : FORWARDED_HEADERS) {
+			String value = request.getHeader(header);
+			if (value != null) {
+				forwarded.set(header, value);
+			}
+		}
+		// Only a token the batch call presented, so that an endpoint exempt from CSRF protection does not lend it
+		Object csrfToken = request.getAttribute(CsrfToken.class.getName());
+		if (csrfToken instanceof CsrfToken) {
+			CsrfToken token = (CsrfToken) csrfToken;
+			String presented = request.getHeader(token.getHeaderName());
+			if (presented == null) {
+				presented = request.getParameter(token.getParameterName());
+			}
+			if (token.getToken().equals(presented)) {
+				forwarded.set(token.getHeaderName(), token.getToken());
+			}
+		}
+
+		int size = subRequests.size();
+		AtomicReferenceArray<MultiStatusItem> items = new AtomicReferenceArray<>(size);
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger remaining = new AtomicInteger(size);
+		CompletableFuture<Void> done = new CompletableFuture<>();
+
+		List<Future<?>> workers = new ArrayList<>();
+		for (int w = 0; w < Math.min(concurrency, size); w++) {
+			workers.add(executor.submit(() -> {
+				int index;
+				while (!done.isDone() && (index = next.getAndIncrement()) < size) {
+					items.set(index, dispatch(index, subRequests.get(index), origin, forwarded));
+					if (remaining.decrementAndGet() == 0) {
+						done.complete(null);
+					}
+				}
+			}));
+		}
+		ScheduledFuture<?> timeout = scheduler.schedule(() -> done.complete(null), timeoutMillis, TimeUnit.MILLISECONDS);
+
+		return done.thenApply(ignored -> {
+			timeout.cancel(false);
+			// Workers stop taking sub-requests, the ones running complete and are discarded
+			workers.forEach(worker -> worker.cancel(false));
+			List<MultiStatusItem> result = new ArrayList<>(size);
+			int timedOut = 0;
+			for (int i = 0; i < size; i++) {
+				MultiStatusItem item = items.get(i);
+				if (item == null) {
+					item = MultiStatusItem.failed(i, ServiceResponse.ASYNC_REQUEST_TIMEOUT, "Sub-request did not complete in time");
+					timedOut++;
+				}
+				result.add(item);
+			}
+			return timedOut == 0
+					? ServiceResponse.MULTI_STATUS.buildResponse(MultiStatusResult.of(result))
+					: ServiceResponse.MULTI_STATUS.buildResponse(MultiStatusResult.of(result),
+							timedOut + " of " + size + " sub-requests did not complete in time");
+		});
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+		scheduler.shutdownNow();
+	}
+
+
+	/**
+	 * Dispatch one sub-request and turn its response into an item.
+	 */
+	MultiStatusItem dispatch(int index, BatchRequest.SubRequest subRequest, BatchSubRequest.Origin origin,
+			HttpHeaders forwarded) {
+		String target = subRequest.getPath();
+		HttpMethod method = subRequest.getMethod() != null
+				? HttpMethod.resolve(subRequest.getMethod().toUpperCase(Locale.ROOT)) : null;
+		int query = target != null ? target.indexOf('?') : -1;
+		String subPath = query < 0 ? target : target.substring(0, query);
+		String lookupPath = method != null ? lookupPath(subPath, origin) : null;
+		if (lookupPath == null) {
+			return MultiStatusItem.failed(index, ServiceResponse.MALFORMED_REQUEST, "Invalid sub-request " + subRequest.getMethod() + " " + target);
+		}
+		Authentication authentication = origin.authentication;
+		if (privilegeEvaluator != null
+				&& !privilegeEvaluator.isAllowed(origin.contextPath, lookupPath, method.name(), authentication)) {
+			HttpStatus status = authentication == null || authentication instanceof AnonymousAuthenticationToken
+					? HttpStatus.UNAUTHORIZED : HttpStatus.FORBIDDEN;
+			return MultiStatusItem.failed(index, ServiceResponse.INVALID_AUTHENTICATION, new HttpResponse(status.value(), status),
+					"Access denied to " + method + " " + subPath);
+		}
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(authentication);
+		SecurityContextHolder.setContext(context);
+		try {
+			HttpHeaders headers = new HttpHeaders();
+			headers.addAll(forwarded);
+			if (subRequest.getHeaders() != null) {
+				for (Map.Entry<String, String> header : subRequest.getHeaders().entrySet()) {
+					if (isSubRequestHeader(header.getKey())) {
+						headers.set(header.getKey(), header.getValue());
+					}
+				}
+			}
+			headers.set(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+			byte[] body = null;
+			if (subRequest.getBody() != null) {
+				headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+				body = objectMapper.writeValueAsBytes(subRequest.getBody());
+			}
+			BatchSubResponse response = new BatchSubResponse();
+			BatchSubRequest request = new BatchSubRequest(origin, method.name(), subPath,
+					query < 0 ? null : target.substring(query + 1), headers, body);
+			FilterChain chain = dispatcher::service;
+			if (securityFilter != null) {
+				FilterChain servlet = chain;
+				chain = (req, res) -> securityFilter.doFilter(req, res, servlet);
+			}
+			request.process(chain, response, timeoutMillis);
+			return item(index, response.getStatus(), response.getContentAsByteArray(), response.getErrorMessage());
+		} catch (Exception ex) {
+			log.debug("Sub-request {} {} failed", method, subPath, ex);
+			return MultiStatusItem.failed(index, ServiceResponse.SERVER_ERROR, ex);
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	/*
+	 * Decoded path of a sub-request within the application, or null when it could leave the
+	 * application or reach the batch endpoint. Encoded delimiters are refused rather than decoded.
+	 */
+	private String lookupPath(String subPath, BatchSubRequest.Origin origin) {
+		if (subPath == null || !subPath.startsWith("/") || subPath.contains("//")
+				|| subPath.indexOf(';') >= 0 || subPath.indexOf('\\') >= 0 || subPath.indexOf('#') >= 0) {
+			return null;
+		}
+		String lowerCase = subPath.toLowerCase(Locale.ROOT);
+		for (String delimiter : ENCODED_DELIMITERS) {
+			if (lowerCase.contains(delimiter)) {
+				return null;
+			}
+		}
+		String decoded;
+		try {
+			decoded = UriUtils.decode(subPath, StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+		for (String segment : decoded.split("/")) {
+			if (segment.equals(".") || segment.equals("..")) {
+				return null;
+			}
+		}
+		// The batch endpoint also answers with a trailing slash or a suffix such as .json
+		String handlerPath = decoded;
+		if (origin.servletPrefix != null && handlerPath.startsWith(origin.servletPrefix + "/")) {
+			handlerPath = handlerPath.substring(origin.servletPrefix.length());
+		}
+		if (handlerPath.length() > 1 && handlerPath.endsWith("/")) {
+			handlerPath = handlerPath.substring(0, handlerPath.length() - 1);
+		}
+		handlerPath = handlerPath.toLowerCase(Locale.ROOT);
+		String batchPath = path.toLowerCase(Locale.ROOT);
+		if (handlerPath.equals(batchPath) || handlerPath.startsWith(batchPath + ".")) {
+			return null;
+		}
+		return decoded;
+	}
+
+	private static boolean isSubRequestHeader(String name) {
+		for (String header : SUB_REQUEST_HEADERS) {
+			if (header.equalsIgnoreCase(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private MultiStatusItem item(int index, int statusCode, byte[] content, String error) {
+		HttpStatus status = HttpStatus.resolve(statusCode);
+		if (status == null) {
+			status = HttpStatus.INTERNAL_SERVER_ERROR;
+		}
+		HttpResponse http = new HttpResponse(status.value(), status);
+		JsonNode body = null;
+		if (content.length > 0) {
+			try {
+				body = objectMapper.readTree(content);
+			} catch (Exception ex) {
+				// Not JSON, the item is reported without result
+			}
+		}
+
+		ServiceResponse serviceResponse = null;
+		JsonNode result = body;
+		String message = error;
+		if (body != null && body.has("api")) {
+			serviceResponse = ServiceResponse.resolve(body.path("api").path("responseCode").asInt());
+			result = body.get("result");
+			message = body.path("message").textValue();
+		}
+		if (serviceResponse == null) {
+			serviceResponse = fallback(status);
+		}
+		if (status.isError()) {
+			return MultiStatusItem.failed(index, serviceResponse, http,
+					message != null ? message : status.getReasonPhrase());
+		}
+		return MultiStatusItem.of(index, serviceResponse, http, result != null && !result.isNull() ? result : null);
+	}
+
+	/*
+	 * Code of a response that is not an envelope.
+	 */
+	private static ServiceResponse fallback(HttpStatus status) {
+		if (status == HttpStatus.NOT_FOUND) {
+			return ServiceResponse.NOT_FOUND;
+		}
+		if (status == HttpStatus.UNAUTHORIZED || status == HttpStatus.FORBIDDEN) {
+			return ServiceResponse.INVALID_AUTHENTICATION;
+		}
+		if (status.is4xxClientError()) {
+			return ServiceResponse.MALFORMED_REQUEST;
+		}
+		if (status.is5xxServerError()) {
+			return ServiceResponse.SERVER_ERROR;
+		}
+		return ServiceResponse.FETCHED;
+	}
+
+	/**
+	 * Virtual threads when the JVM has them, a bounded pool of daemon threads otherwise.
+	 */
+	static ExecutorService createExecutor(int threads) {
+		try {
+			Method virtualThreads = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) virtualThreads.invoke(null);
+		} catch (ReflectiveOperationException ex) {
+			return Executors.newFixedThreadPool(Math.max(threads, 1), daemonThreads("batch-"));
+		}
+	}
+
+	private static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Body of a call to the @see BatchController: the sub-requests to dispatch.
+ *
+ * <pre>
+ * {"requests":[
+ *     {"method":"GET","path":"/users/42"},
+ *     {"method":"POST","path":"/orders","body":{"sku":"A-1","quantity":2}}
+ * ]}
+ * </pre>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchRequest {
+	
+	private List<SubRequest> requests = new ArrayList<>();
+	
+	
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	public static class SubRequest {
+		
+		private String method = "GET";
+		
+		/**
+		 * Path of the sub-request within the application, query string included.
+		 */
+		private String path;
+		
+		private Map<String, String> headers = new LinkedHashMap<>();
+		
+		private JsonNode body;
+		
+	}
+	
+}
@@ -0,0 +1,925 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpUpgradeHandler;
+import javax.servlet.http.Part;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Sub-request of a batch, dispatched in-process by @see BatchController.
+ *
+ * <p>
+ * 		Sub-requests run on other threads than the batch request, and may outlive it when the
+ * 		batch times out, so they never call into it: what they take from it, such as the scheme,
+ * 		addresses, session and principal, is copied into an @see Origin on the request thread.
+ * 		The headers and body are the ones @see BatchController built; attributes are the
+ * 		sub-request's own, starting with @see #SUB_REQUEST_ATTRIBUTE. Sub-requests do not
+ * 		support multipart bodies, request dispatchers or creating a session.
+ * </p>
+ *
+ * <p>
+ * 		Asynchronous handlers are supported: @see #process(FilterChain, HttpServletResponse, long)
+ * 		waits on the dispatching thread until the handler dispatches the sub-request again, which
+ * 		then runs through the chain with @see DispatcherType#ASYNC, or completes it. A handler that
+ * 		does neither within the timeout of its @see AsyncContext, bounded by the batch timeout,
+ * 		gets its listeners notified and is answered with a <code>503 Service Unavailable</code>.
+ * 		Dispatching to another path is not supported.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class BatchSubRequest implements HttpServletRequest {
+
+	/**
+	 * Attribute set on every sub-request, so that a batch is never dispatched from a batch.
+	 */
+	static final String SUB_REQUEST_ATTRIBUTE = BatchSubRequest.class.getName() + ".SUB_REQUEST";
+
+	private final Origin origin;
+
+	private final String method;
+
+	private final String requestUri;
+
+	private final String servletPath;
+
+	private final String pathInfo;
+
+	private final String queryString;
+
+	private final Map<String, String[]> parameters;
+
+	private final HttpHeaders headers;
+
+	private final byte[] body;
+
+	private final List<Locale> locales;
+
+	private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+	private String characterEncoding;
+
+	/*
+	 * Asynchronous processing, guarded by the lock as handlers dispatch and complete from their own threads.
+	 */
+	private final Object asyncLock = new Object();
+
+	private volatile DispatcherType dispatcherType = DispatcherType.REQUEST;
+
+	private HttpServletResponse response;
+
+	private SubRequestAsyncContext asyncContext;
+
+	private boolean asyncStarted;
+
+	private AsyncOutcome asyncOutcome;
+
+	/**
+	 * @param origin		Origin @see Origin of the batch request
+	 * @param method		the HTTP method
+	 * @param path			the path within the application, as sent, percent-encoded
+	 * @param queryString	the query string, may be null
+	 * @param headers		the request headers
+	 * @param body			the request body, may be null
+	 */
+	BatchSubRequest(Origin origin, String method, String path, String queryString, HttpHeaders headers, byte[] body) {
+		this.origin = origin;
+		this.method = method;
+		this.requestUri = origin.contextPath + path;
+		String decoded = UriUtils.decode(path, StandardCharsets.UTF_8);
+		String prefix = origin.servletPrefix;
+		if (prefix != null && (decoded.equals(prefix) || decoded.startsWith(prefix + "/"))) {
+			this.servletPath = prefix;
+			this.pathInfo = decoded.length() > prefix.length() ? decoded.substring(prefix.length()) : null;
+		} else {
+			this.servletPath = decoded;
+			this.pathInfo = null;
+		}
+		this.queryString = queryString;
+		this.parameters = parse(queryString);
+		this.headers = headers;
+		this.body = body != null ? body : new byte[0];
+		this.locales = locales(headers);
+		this.characterEncoding = body != null ? StandardCharsets.UTF_8.name() : null;
+		this.attributes.put(SUB_REQUEST_ATTRIBUTE, Boolean.TRUE);
+	}
+
+
+	/**
+	 * Run the sub-request through a chain, and again each time an asynchronous handler dispatches it,
+	 * until it is handled.
+	 *
+	 * @param chain			FilterChain @see FilterChain ending with the servlet
+	 * @param response		HttpServletResponse @see HttpServletResponse of the sub-request
+	 * @param timeoutMillis	longest time in milliseconds to wait for an asynchronous handler
+	 * @throws IOException		If the chain fails to write the response
+	 * @throws ServletException	If the chain fails, or the thread is interrupted while waiting
+	 */
+	void process(FilterChain chain, HttpServletResponse response, long timeoutMillis) throws IOException, ServletException {
+		synchronized (asyncLock) {
+			this.response = response;
+		}
+		try {
+			chain.doFilter(this, response);
+			while (awaitAsync(timeoutMillis)) {
+				chain.doFilter(this, response);
+			}
+		} catch (IOException | ServletException | RuntimeException ex) {
+			notifyListeners(AsyncListener::onError, ex);
+			throw ex;
+		} finally {
+			notifyListeners(AsyncListener::onComplete, null);
+		}
+	}
+
+	/*
+	 * Wait for an asynchronous handler started during the last dispatch, true when it dispatched
+	 * the sub-request again, false when it completed or none was started.
+	 */
+	private boolean awaitAsync(long timeoutMillis) throws IOException, ServletException {
+		synchronized (asyncLock) {
+			if (!asyncStarted) {
+				return false;
+			}
+		}
+		if (!awaitOutcome(timeoutMillis)) {
+			notifyListeners(AsyncListener::onTimeout, null);
+			if (!awaitOutcome(0) && !response.isCommitted()) {
+				response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Asynchronous handler did not complete in time");
+			}
+		}
+		synchronized (asyncLock) {
+			asyncStarted = false;
+			if (asyncOutcome != AsyncOutcome.DISPATCH) {
+				return false;
+			}
+			asyncOutcome = null;
+			dispatcherType = DispatcherType.ASYNC;
+			return true;
+		}
+	}
+
+	private boolean awaitOutcome(long timeoutMillis) throws ServletException {
+		synchronized (asyncLock) {
+			long timeout = asyncContext.timeout > 0 ? Math.min(asyncContext.timeout, timeoutMillis) : timeoutMillis;
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+			try {
+				for (long remaining = timeout; asyncOutcome == null && remaining > 0;
+						remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) {
+					asyncLock.wait(remaining);
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new ServletException("Interrupted while waiting for the asynchronous handler", ex);
+			}
+			return asyncOutcome != null;
+		}
+	}
+
+	private void notifyListeners(AsyncNotification notification, Throwable throwable) throws IOException {
+		List<Registration> listeners;
+		synchronized (asyncLock) {
+			if (asyncContext == null) {
+				return;
+			}
+			listeners = new ArrayList<>(asyncContext.listeners);
+		}
+		for (Registration registration : listeners) {
+			notification.notify(registration.listener,
+					new AsyncEvent(asyncContext, registration.request, registration.response, throwable));
+		}
+	}
+
+
+	@Override
+	public String getMethod() {
+		return method;
+	}
+
+	@Override
+	public String getRequestURI() {
+		return requestUri;
+	}
+
+	@Override
+	public StringBuffer getRequestURL() {
+		StringBuffer url = new StringBuffer(origin.scheme).append("://").append(origin.serverName);
+		if (!("http".equals(origin.scheme) && origin.serverPort == 80) && !("https".equals(origin.scheme) && origin.serverPort == 443)) {
+			url.append(':').append(origin.serverPort);
+		}
+		return url.append(requestUri);
+	}
+
+	@Override
+	public String getContextPath() {
+		return origin.contextPath;
+	}
+
+	@Override
+	public String getServletPath() {
+		return servletPath;
+	}
+
+	@Override
+	public String getPathInfo() {
+		return pathInfo;
+	}
+
+	@Override
+	public String getPathTranslated() {
+		return null;
+	}
+
+	@Override
+	public String getQueryString() {
+		return queryString;
+	}
+
+	@Override
+	public String getParameter(String name) {
+		String[] values = parameters.get(name);
+		return values != null ? values[0] : null;
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return Collections.enumeration(parameters.keySet());
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		String[] values = parameters.get(name);
+		return values != null ? values.clone() : null;
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		return parameters;
+	}
+
+	@Override
+	public String getHeader(String name) {
+		return headers.getFirst(name);
+	}
+
+	@Override
+	public Enumeration<String> getHeaders(String name) {
+		List<String> values = headers.get(name);
+		return Collections.enumeration(values != null ? values : Collections.emptyList());
+	}
+
+	@Override
+	public Enumeration<String> getHeaderNames() {
+		return Collections.enumeration(headers.keySet());
+	}
+
+	@Override
+	public long getDateHeader(String name) {
+		return headers.getFirstDate(name);
+	}
+
+	@Override
+	public int getIntHeader(String name) {
+		String value = headers.getFirst(name);
+		return value != null ? Integer.parseInt(value) : -1;
+	}
+
+	@Override
+	public String getContentType() {
+		return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+	}
+
+	@Override
+	public int getContentLength() {
+		return body.length;
+	}
+
+	@Override
+	public long getContentLengthLong() {
+		return body.length;
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return characterEncoding;
+	}
+
+	@Override
+	public void setCharacterEncoding(String env) throws UnsupportedEncodingException {
+		if (!Charset.isSupported(env)) {
+			throw new UnsupportedEncodingException(env);
+		}
+		this.characterEncoding = env;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream content = new ByteArrayInputStream(body);
+		return new ServletInputStream() {
+
+			@Override
+			public int read() {
+				return content.read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				return content.read(b, off, len);
+			}
+
+			@Override
+			public boolean isFinished() {
+				return content.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				throw new IllegalStateException("Batch sub-requests are read synchronously");
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		Charset charset = characterEncoding != null ? Charset.forName(characterEncoding) : StandardCharsets.ISO_8859_1;
+		return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+	}
+
+	@Override
+	public void setAttribute(String name, Object o) {
+		if (o == null) {
+			attributes.remove(name);
+		} else {
+			attributes.put(name, o);
+		}
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		attributes.remove(name);
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locales.get(0);
+	}
+
+	@Override
+	public Enumeration<Locale> getLocales() {
+		return Collections.enumeration(locales);
+	}
+
+	@Override
+	public String getProtocol() {
+		return origin.protocol;
+	}
+
+	@Override
+	public String getScheme() {
+		return origin.scheme;
+	}
+
+	@Override
+	public String getServerName() {
+		return origin.serverName;
+	}
+
+	@Override
+	public int getServerPort() {
+		return origin.serverPort;
+	}
+
+	@Override
+	public boolean isSecure() {
+		return origin.secure;
+	}
+
+	@Override
+	public String getRemoteAddr() {
+		return origin.remoteAddr;
+	}
+
+	@Override
+	public String getRemoteHost() {
+		return origin.remoteHost;
+	}
+
+	@Override
+	public int getRemotePort() {
+		return origin.remotePort;
+	}
+
+	@Override
+	public String getLocalName() {
+		return origin.localName;
+	}
+
+	@Override
+	public String getLocalAddr() {
+		return origin.localAddr;
+	}
+
+	@Override
+	public int getLocalPort() {
+		return origin.localPort;
+	}
+
+	@Override
+	public ServletContext getServletContext() {
+		return origin.servletContext;
+	}
+
+	@Override
+	public RequestDispatcher getRequestDispatcher(String path) {
+		return null;
+	}
+
+	@Override
+	@Deprecated
+	public String getRealPath(String path) {
+		return null;
+	}
+
+	@Override
+	public String getAuthType() {
+		return origin.authType;
+	}
+
+	@Override
+	public Cookie[] getCookies() {
+		return origin.cookies;
+	}
+
+	@Override
+	public String getRemoteUser() {
+		return origin.principal != null ? origin.principal.getName() : null;
+	}
+
+	@Override
+	public Principal getUserPrincipal() {
+		return origin.principal;
+	}
+
+	@Override
+	public boolean isUserInRole(String role) {
+		if (origin.authentication == null) {
+			return false;
+		}
+		for (GrantedAuthority authority : origin.authentication.getAuthorities()) {
+			if (role.equals(authority.getAuthority()) || ("ROLE_" + role).equals(authority.getAuthority())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public HttpSession getSession(boolean create) {
+		if (origin.session == null && create) {
+			throw new IllegalStateException("Batch sub-requests cannot create a session");
+		}
+		return origin.session;
+	}
+
+	@Override
+	public HttpSession getSession() {
+		return getSession(true);
+	}
+
+	@Override
+	public String changeSessionId() {
+		throw new IllegalStateException("Batch sub-requests cannot change the session ID");
+	}
+
+	@Override
+	public String getRequestedSessionId() {
+		return origin.requestedSessionId;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdValid() {
+		return origin.requestedSessionIdValid;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdFromCookie() {
+		return origin.requestedSessionIdFromCookie;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdFromURL() {
+		return origin.requestedSessionIdFromUrl;
+	}
+
+	@Override
+	@Deprecated
+	public boolean isRequestedSessionIdFromUrl() {
+		return origin.requestedSessionIdFromUrl;
+	}
+
+	@Override
+	public boolean authenticate(HttpServletResponse response) {
+		return origin.principal != null;
+	}
+
+	@Override
+	public void login(String username, String password) throws ServletException {
+		throw new ServletException("Batch sub-requests cannot log in");
+	}
+
+	@Override
+	public void logout() throws ServletException {
+		throw new ServletException("Batch sub-requests cannot log out");
+	}
+
+	@Override
+	public Collection<Part> getParts() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Part getPart(String name) {
+		return null;
+	}
+
+	@Override
+	public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) throws ServletException {
+		throw new ServletException("Batch sub-requests cannot be upgraded");
+	}
+
+	@Override
+	public AsyncContext startAsync() {
+		HttpServletResponse current;
+		synchronized (asyncLock) {
+			current = response;
+		}
+		return startAsync(this, current);
+	}
+
+	@Override
+	public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+		List<Registration> previous;
+		synchronized (asyncLock) {
+			if (response == null) {
+				throw new IllegalStateException("Batch sub-request is not being processed");
+			}
+			if (asyncStarted) {
+				throw new IllegalStateException("Asynchronous processing already started");
+			}
+			if (asyncContext == null) {
+				asyncContext = new SubRequestAsyncContext();
+			}
+			previous = new ArrayList<>(asyncContext.listeners);
+			asyncContext.listeners.clear();
+			asyncContext.request = servletRequest;
+			asyncContext.response = servletResponse;
+			asyncStarted = true;
+			asyncOutcome = null;
+		}
+		// Listeners of the previous cycle register again if they want to be notified of this one
+		for (Registration registration : previous) {
+			try {
+				registration.listener.onStartAsync(new AsyncEvent(asyncContext, servletRequest, servletResponse));
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+		return asyncContext;
+	}
+
+	@Override
+	public boolean isAsyncStarted() {
+		synchronized (asyncLock) {
+			return asyncStarted;
+		}
+	}
+
+	@Override
+	public boolean isAsyncSupported() {
+		return true;
+	}
+
+	@Override
+	public AsyncContext getAsyncContext() {
+		synchronized (asyncLock) {
+			if (!asyncStarted) {
+				throw new IllegalStateException("Asynchronous processing not started");
+			}
+			return asyncContext;
+		}
+	}
+
+	@Override
+	public DispatcherType getDispatcherType() {
+		return dispatcherType;
+	}
+
+	/*
+	 * Query parameters as a servlet container decodes them, '+' standing for a space.
+	 */
+	private static Map<String, String[]> parse(String queryString) {
+		Map<String, List<String>> values = new LinkedHashMap<>();
+		for (String pair : StringUtils.tokenizeToStringArray(queryString, "&")) {
+			int equals = pair.indexOf('=');
+			String name = decode(equals < 0 ? pair : pair.substring(0, equals));
+			String value = equals < 0 ? "" : decode(pair.substring(equals + 1));
+			values.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+		}
+		Map<String, String[]> parameters = new LinkedHashMap<>();
+		values.forEach((name, list) -> parameters.put(name, list.toArray(new String[0])));
+		return Collections.unmodifiableMap(parameters);
+	}
+
+	private static String decode(String value) {
+		return UriUtils.decode(value.replace('+', ' '), StandardCharsets.UTF_8);
+	}
+
+	private static List<Locale> locales(HttpHeaders headers) {
+		try {
+			List<Locale> locales = headers.getAcceptLanguageAsLocales();
+			if (!locales.isEmpty()) {
+				return locales;
+			}
+		} catch (IllegalArgumentException ex) {
+			// Malformed header, the default locale applies
+		}
+		return Collections.singletonList(Locale.getDefault());
+	}
+
+
+	private enum AsyncOutcome {
+		DISPATCH, COMPLETE
+	}
+
+	@FunctionalInterface
+	private interface AsyncNotification {
+
+		void notify(AsyncListener listener, AsyncEvent event) throws IOException;
+	}
+
+	private static final class Registration {
+
+		final AsyncListener listener;
+		final ServletRequest request;
+		final ServletResponse response;
+
+		Registration(AsyncListener listener, ServletRequest request, ServletResponse response) {
+			this.listener = listener;
+			this.request = request;
+			this.response = response;
+		}
+	}
+
+
+	/**
+	 * @see AsyncContext of a sub-request, signalling the dispatching thread waiting in
+	 * @see BatchSubRequest#process(FilterChain, HttpServletResponse, long).
+	 */
+	private final class SubRequestAsyncContext implements AsyncContext {
+
+		final List<Registration> listeners = new ArrayList<>();
+
+		ServletRequest request;
+
+		ServletResponse response;
+
+		long timeout;
+
+		@Override
+		public ServletRequest getRequest() {
+			synchronized (asyncLock) {
+				return request;
+			}
+		}
+
+		@Override
+		public ServletResponse getResponse() {
+			synchronized (asyncLock) {
+				return response;
+			}
+		}
+
+		@Override
+		public boolean hasOriginalRequestAndResponse() {
+			synchronized (asyncLock) {
+				return request == BatchSubRequest.this && response == BatchSubRequest.this.response;
+			}
+		}
+
+		@Override
+		public void dispatch() {
+			signal(AsyncOutcome.DISPATCH);
+		}
+
+		@Override
+		public void dispatch(String path) {
+			throw new UnsupportedOperationException("Batch sub-requests are only dispatched again to their own path");
+		}
+
+		@Override
+		public void dispatch(ServletContext context, String path) {
+			dispatch(path);
+		}
+
+		@Override
+		public void complete() {
+			signal(AsyncOutcome.COMPLETE);
+		}
+
+		@Override
+		public void start(Runnable run) {
+			CompletableFuture.runAsync(run);
+		}
+
+		@Override
+		public void addListener(AsyncListener listener) {
+			addListener(listener, getRequest(), getResponse());
+		}
+
+		@Override
+		public void addListener(AsyncListener listener, ServletRequest servletRequest, ServletResponse servletResponse) {
+			synchronized (asyncLock) {
+				listeners.add(new Registration(listener, servletRequest, servletResponse));
+			}
+		}
+
+		@Override
+		public <T extends AsyncListener> T createListener(Class<T> clazz) throws ServletException {
+			try {
+				return clazz.getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException ex) {
+				throw new ServletException("Cannot create " + clazz.getName(), ex);
+			}
+		}
+
+		@Override
+		public void setTimeout(long timeout) {
+			synchronized (asyncLock) {
+				this.timeout = timeout;
+			}
+		}
+
+		@Override
+		public long getTimeout() {
+			synchronized (asyncLock) {
+				return timeout;
+			}
+		}
+
+		private void signal(AsyncOutcome outcome) {
+			synchronized (asyncLock) {
+				if (!asyncStarted) {
+					throw new IllegalStateException("Asynchronous processing not started");
+				}
+				if (asyncOutcome != null) {
+					throw new IllegalStateException("Asynchronous processing already dispatched or completed");
+				}
+				asyncOutcome = outcome;
+				asyncLock.notifyAll();
+			}
+		}
+	}
+
+
+	/**
+	 * What sub-requests take from the batch request, copied on the request thread.
+	 */
+	static final class Origin {
+
+		final String scheme;
+		final String serverName;
+		final int serverPort;
+		final boolean secure;
+		final String protocol;
+		final String remoteAddr;
+		final String remoteHost;
+		final int remotePort;
+		final String localName;
+		final String localAddr;
+		final int localPort;
+		final String contextPath;
+		final String servletPrefix;
+		final ServletContext servletContext;
+		final HttpSession session;
+		final String requestedSessionId;
+		final boolean requestedSessionIdValid;
+		final boolean requestedSessionIdFromCookie;
+		final boolean requestedSessionIdFromUrl;
+		final Cookie[] cookies;
+		final String authType;
+		final Principal principal;
+		final Authentication authentication;
+
+		private Origin(HttpServletRequest request) {
+			this.scheme = request.getScheme();
+			this.serverName = request.getServerName();
+			this.serverPort = request.getServerPort();
+			this.secure = request.isSecure();
+			this.protocol = request.getProtocol();
+			this.remoteAddr = request.getRemoteAddr();
+			this.remoteHost = request.getRemoteHost();
+			this.remotePort = request.getRemotePort();
+			this.localName = request.getLocalName();
+			this.localAddr = request.getLocalAddr();
+			this.localPort = request.getLocalPort();
+			this.contextPath = request.getContextPath();
+			// A servlet mapped by prefix, such as /api/*, has a servlet path and a path info
+			this.servletPrefix = request.getPathInfo() != null ? request.getServletPath() : null;
+			this.servletContext = request.getServletContext();
+			this.session = request.getSession(false);
+			this.requestedSessionId = request.getRequestedSessionId();
+			this.requestedSessionIdValid = request.isRequestedSessionIdValid();
+			this.requestedSessionIdFromCookie = request.isRequestedSessionIdFromCookie();
+			this.requestedSessionIdFromUrl = request.isRequestedSessionIdFromURL();
+			this.cookies = request.getCookies();
+			this.authType = request.getAuthType();
+			this.principal = request.getUserPrincipal();
+			this.authentication = SecurityContextHolder.getContext().getAuthentication();
+		}
+
+		/**
+		 * @param request	the batch request, on its own thread
+		 * @return what sub-requests need of it
+		 */
+		static Origin of(HttpServletRequest request) {
+			return new Origin(request);
+		}
+	}
+
+}
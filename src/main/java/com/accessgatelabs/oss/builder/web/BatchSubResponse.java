@@ -0,0 +1,372 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Response of a @see BatchSubRequest, kept in memory for @see BatchController to turn into
+ * an item of the batch result.
+ *
+ * <p>
+ * 		@see #sendError(int, String) records the status and message without an error page, as
+ * 		there is no container to render one; the message is reported as the error of the item.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class BatchSubResponse implements HttpServletResponse {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final HttpHeaders headers = new HttpHeaders();
+
+	private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+	private final ServletOutputStream outputStream = new ServletOutputStream() {
+
+		@Override
+		public void write(int b) {
+			body.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			body.write(b, off, len);
+		}
+
+		@Override
+		public void flush() {
+			committed = true;
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			throw new IllegalStateException("Batch sub-responses are written synchronously");
+		}
+	};
+
+	private PrintWriter writer;
+
+	private int status = SC_OK;
+
+	private String errorMessage;
+
+	private String contentType;
+
+	private String characterEncoding;
+
+	private Locale locale = Locale.getDefault();
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	private boolean committed;
+
+
+	/**
+	 * @return the body written so far
+	 */
+	byte[] getContentAsByteArray() {
+		if (writer != null) {
+			writer.flush();
+		}
+		return body.toByteArray();
+	}
+
+	/**
+	 * @return the message given to @see #sendError(int, String), or null
+	 */
+	String getErrorMessage() {
+		return errorMessage;
+	}
+
+	@Override
+	public int getStatus() {
+		return status;
+	}
+
+	@Override
+	public void setStatus(int sc) {
+		if (!committed) {
+			this.status = sc;
+		}
+	}
+
+	@Override
+	@Deprecated
+	public void setStatus(int sc, String sm) {
+		setStatus(sc);
+	}
+
+	@Override
+	public void sendError(int sc, String msg) {
+		if (committed) {
+			throw new IllegalStateException("Cannot send an error after the response is committed");
+		}
+		resetBuffer();
+		this.status = sc;
+		this.errorMessage = msg;
+		this.committed = true;
+	}
+
+	@Override
+	public void sendError(int sc) {
+		sendError(sc, null);
+	}
+
+	@Override
+	public void sendRedirect(String location) {
+		if (committed) {
+			throw new IllegalStateException("Cannot redirect after the response is committed");
+		}
+		resetBuffer();
+		this.status = SC_FOUND;
+		headers.set(HttpHeaders.LOCATION, location);
+		this.committed = true;
+	}
+
+	@Override
+	public boolean containsHeader(String name) {
+		return headers.containsKey(name);
+	}
+
+	@Override
+	public String getHeader(String name) {
+		return headers.getFirst(name);
+	}
+
+	@Override
+	public Collection<String> getHeaders(String name) {
+		List<String> values = headers.get(name);
+		return values != null ? Collections.unmodifiableList(values) : Collections.emptyList();
+	}
+
+	@Override
+	public Collection<String> getHeaderNames() {
+		return Collections.unmodifiableSet(headers.keySet());
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+			setContentType(value);
+		} else {
+			headers.set(name, value);
+		}
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+			setContentType(value);
+		} else {
+			headers.add(name, value);
+		}
+	}
+
+	@Override
+	public void setDateHeader(String name, long date) {
+		headers.set(name, formatDate(date));
+	}
+
+	@Override
+	public void addDateHeader(String name, long date) {
+		headers.add(name, formatDate(date));
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+		headers.set(name, Integer.toString(value));
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+		headers.add(name, Integer.toString(value));
+	}
+
+	@Override
+	public void addCookie(Cookie cookie) {
+		headers.add(HttpHeaders.SET_COOKIE, cookie.getName() + '=' + cookie.getValue());
+	}
+
+	@Override
+	public String encodeURL(String url) {
+		return url;
+	}
+
+	@Override
+	public String encodeRedirectURL(String url) {
+		return url;
+	}
+
+	@Override
+	@Deprecated
+	public String encodeUrl(String url) {
+		return url;
+	}
+
+	@Override
+	@Deprecated
+	public String encodeRedirectUrl(String url) {
+		return url;
+	}
+
+	@Override
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Override
+	public void setContentType(String type) {
+		this.contentType = type;
+		if (type == null) {
+			headers.remove(HttpHeaders.CONTENT_TYPE);
+			return;
+		}
+		headers.set(HttpHeaders.CONTENT_TYPE, type);
+		try {
+			Charset charset = MediaType.parseMediaType(type).getCharset();
+			if (charset != null) {
+				this.characterEncoding = charset.name();
+			}
+		} catch (IllegalArgumentException ex) {
+			// Kept as given, without a charset
+		}
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return characterEncoding != null ? characterEncoding : StandardCharsets.ISO_8859_1.name();
+	}
+
+	@Override
+	public void setCharacterEncoding(String charset) {
+		this.characterEncoding = charset;
+	}
+
+	@Override
+	public void setContentLength(int len) {
+		setContentLengthLong(len);
+	}
+
+	@Override
+	public void setContentLengthLong(long len) {
+		headers.setContentLength(len);
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() {
+		return outputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() {
+		if (writer == null) {
+			writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())));
+		}
+		return writer;
+	}
+
+	@Override
+	public void setBufferSize(int size) {
+		if (committed) {
+			throw new IllegalStateException("Cannot set the buffer size after the response is committed");
+		}
+		this.bufferSize = size;
+	}
+
+	@Override
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	@Override
+	public void flushBuffer() {
+		if (writer != null) {
+			writer.flush();
+		}
+		committed = true;
+	}
+
+	@Override
+	public void resetBuffer() {
+		if (committed) {
+			throw new IllegalStateException("Cannot reset the buffer after the response is committed");
+		}
+		// Flushing the writer would commit the response, what it holds is dropped with it
+		writer = null;
+		body.reset();
+	}
+
+	@Override
+	public boolean isCommitted() {
+		return committed;
+	}
+
+	@Override
+	public void reset() {
+		resetBuffer();
+		headers.clear();
+		status = SC_OK;
+		errorMessage = null;
+		contentType = null;
+		characterEncoding = null;
+	}
+
+	@Override
+	public void setLocale(Locale loc) {
+		this.locale = loc;
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locale;
+	}
+
+	private static String formatDate(long date) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * Binary encodings of the @see com.accessgatelabs.oss.builder.models.StateServiceResponse envelope,
+ * which @see StateServiceResponseHttpMessageConverter can produce besides JSON.
+ *
+ * <p>
+ * 		Each encoding is written by the Jackson data format module named below, which is an
+ * 		optional dependency: add it to the application to enable the encoding.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public enum BinaryEncoding {
+
+	/**
+	 * CBOR, RFC 8949, from <code>com.fasterxml.jackson.dataformat:jackson-dataformat-cbor</code>.
+	 */
+	CBOR
+	(
+			MediaType.APPLICATION_CBOR,
+			"com.fasterxml.jackson.dataformat.cbor.CBORFactory"
+	),
+	
+	/**
+	 * Smile, from <code>com.fasterxml.jackson.dataformat:jackson-dataformat-smile</code>.
+	 */
+	SMILE
+	(
+			new MediaType("application", "x-jackson-smile"),
+			"com.fasterxml.jackson.dataformat.smile.SmileFactory"
+	),
+	
+	/**
+	 * MessagePack, from <code>org.msgpack:jackson-dataformat-msgpack</code>.
+	 */
+	MSGPACK
+	(
+			new MediaType("application", "x-msgpack"),
+			"org.msgpack.jackson.dataformat.MessagePackFactory"
+	)
+	
+	;
+	
+	private final MediaType mediaType;
+	
+	private final String factoryClassName;
+	
+	private BinaryEncoding(MediaType mediaType, String factoryClassName) {
+		this.mediaType = mediaType;
+		this.factoryClassName = factoryClassName;
+	}
+	
+	
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+	
+	/**
+	 * @return whether the data format module of the encoding is on the classpath
+	 */
+	public boolean isAvailable() {
+		return ClassUtils.isPresent(factoryClassName, BinaryEncoding.class.getClassLoader());
+	}
+	
+	/**
+	 * Create the @see JsonFactory writing the encoding.
+	 *
+	 * @return the factory
+	 * @throws IllegalStateException	If the data format module is not on the classpath
+	 */
+	public JsonFactory createFactory() {
+		if (!isAvailable()) {
+			throw new IllegalStateException(name() + " encoding requires " + factoryClassName + " on the classpath");
+		}
+		return (JsonFactory) BeanUtils.instantiateClass(
+				ClassUtils.resolveClassName(factoryClassName, BinaryEncoding.class.getClassLoader()));
+	}
+
+}
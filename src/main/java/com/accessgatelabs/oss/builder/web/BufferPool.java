@@ -0,0 +1,416 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of the byte arrays envelopes are written into, by size class.
+ *
+ * <p>
+ * 		The write path buffers envelopes it compresses, tags or caches, and compresses into
+ * 		output arrays sized for the body. Allocating them per response shows up as young
+ * 		generation churn under load, so they are taken from this pool and handed back once the
+ * 		response is written. Arrays come in four size classes, 8 KiB, 64 KiB, 512 KiB and 4 MiB;
+ * 		larger ones are allocated and dropped.
+ * </p>
+ *
+ * <p>
+ * 		A platform thread keeps one array of each class to itself. Virtual threads are too many
+ * 		and too short-lived for that: they share stripes of slots, picked by thread ID and
+ * 		claimed with a compare-and-set, so they never block. Released arrays beyond
+ * 		<code>maxRetainedBytes</code> pooled in total are left to the garbage collector. The
+ * 		arrays of a thread that ended no longer count toward that limit once the collector
+ * 		has reclaimed them, which a weak reference to the holder of each thread reports.
+ * 		Jackson already recycles the buffers of its generators per thread, see
+ * 		@see com.fasterxml.jackson.core.util.BufferRecycler.
+ * </p>
+ *
+ * <p>
+ * 		Envelopes too large for a heap array to be worth it, which would go straight to the
+ * 		old generation, are written into direct segments of 256 KiB instead, see @see PooledBuffer.
+ * 		Direct memory is slow to allocate and only freed by the collector, so released segments
+ * 		are queued for reuse, up to <code>maxRetainedDirectBytes</code>. Envelopes beyond their
+ * 		memory budget spill to disk, counted by @see #getSpills().
+ * </p>
+ *
+ * <p>
+ * 		The write path uses @see #current(), set by the auto-configuration through @see #use(BufferPool).
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class BufferPool {
+
+	/**
+	 * Default bytes pooled in total.
+	 */
+	public static final long DEFAULT_MAX_RETAINED_BYTES = 64L << 20;
+
+	private static final int[] SIZE_CLASSES = { 8 << 10, 64 << 10, 512 << 10, 4 << 20 };
+
+	private static final int SLOTS_PER_STRIPE = 2;
+
+	/**
+	 * Size of the direct segments large envelopes are written into.
+	 */
+	public static final int SEGMENT_SIZE = 256 << 10;
+
+	private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+
+	private static volatile BufferPool current = new BufferPool(DEFAULT_MAX_RETAINED_BYTES);
+
+	private final long maxRetainedBytes;
+
+	private final int stripeMask;
+
+	private final AtomicReferenceArray<byte[]> slots;
+
+	private final ThreadLocal<Owned> local = ThreadLocal.withInitial(this::own);
+
+	private final Set<OwnedReference> owners = ConcurrentHashMap.newKeySet();
+
+	private final ReferenceQueue<Owned> ended = new ReferenceQueue<>();
+
+	private final AtomicLong retainedBytes = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final long maxRetainedDirectBytes;
+
+	private final Queue<ByteBuffer> segments = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong retainedDirectBytes = new AtomicLong();
+
+	private final LongAdder directHits = new LongAdder();
+
+	private final LongAdder directMisses = new LongAdder();
+
+	private final LongAdder spills = new LongAdder();
+
+	private final LongAdder spilledBytes = new LongAdder();
+
+	/**
+	 * @param maxRetainedBytes	bytes the pool may hold in total, in heap arrays
+	 */
+	public BufferPool(long maxRetainedBytes) {
+		this(maxRetainedBytes, maxRetainedBytes);
+	}
+
+	/**
+	 * @param maxRetainedBytes			bytes the pool may hold in total, in heap arrays
+	 * @param maxRetainedDirectBytes	bytes the pool may hold in total, in direct segments
+	 */
+	public BufferPool(long maxRetainedBytes, long maxRetainedDirectBytes) {
+		this.maxRetainedBytes = maxRetainedBytes;
+		this.maxRetainedDirectBytes = maxRetainedDirectBytes;
+		int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) << 1;
+		this.stripeMask = stripes - 1;
+		this.slots = new AtomicReferenceArray<>(SIZE_CLASSES.length * stripes * SLOTS_PER_STRIPE);
+	}
+
+
+	/**
+	 * @return the pool used by the write path
+	 */
+	public static BufferPool current() {
+		return current;
+	}
+
+	/**
+	 * Use a pool for the write path from now on.
+	 *
+	 * @param pool	BufferPool @see BufferPool, or null for a default one
+	 */
+	public static void use(BufferPool pool) {
+		current = pool != null ? pool : new BufferPool(DEFAULT_MAX_RETAINED_BYTES);
+	}
+
+	/**
+	 * Take an array from the pool, or allocate one.
+	 *
+	 * @param minCapacity	bytes the array must hold
+	 * @return an array of at least <code>minCapacity</code> bytes, whose content is undefined
+	 */
+	public byte[] acquire(int minCapacity) {
+		int sizeClass = sizeClassFor(minCapacity);
+		if (sizeClass < 0) {
+			misses.increment();
+			return new byte[minCapacity];
+		}
+		byte[] array = null;
+		if (!isVirtual()) {
+			Owned owned = local.get();
+			array = owned.arrays[sizeClass];
+			if (array != null) {
+				owned.arrays[sizeClass] = null;
+				owned.bytes.addAndGet(-array.length);
+			}
+		}
+		if (array == null) {
+			int first = slot(sizeClass);
+			for (int i = 0; i < SLOTS_PER_STRIPE && array == null; i++) {
+				array = slots.getAndSet(first + i, null);
+			}
+		}
+		if (array == null) {
+			misses.increment();
+			return new byte[SIZE_CLASSES[sizeClass]];
+		}
+		retainedBytes.addAndGet(-array.length);
+		hits.increment();
+		return array;
+	}
+
+	/**
+	 * Hand an array back to the pool. It must not be used afterwards.
+	 *
+	 * @param array	array returned by @see #acquire(int), may be null
+	 */
+	public void release(byte[] array) {
+		if (array == null) {
+			return;
+		}
+		reclaimEnded();
+		int sizeClass = sizeClassOf(array.length);
+		if (sizeClass < 0 || retainedBytes.get() + array.length > maxRetainedBytes) {
+			return;
+		}
+		if (!isVirtual()) {
+			Owned owned = local.get();
+			if (owned.arrays[sizeClass] == null) {
+				owned.arrays[sizeClass] = array;
+				owned.bytes.addAndGet(array.length);
+				retainedBytes.addAndGet(array.length);
+				return;
+			}
+		}
+		int first = slot(sizeClass);
+		for (int i = 0; i < SLOTS_PER_STRIPE; i++) {
+			if (slots.compareAndSet(first + i, null, array)) {
+				retainedBytes.addAndGet(array.length);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Take a direct segment of @see #SEGMENT_SIZE bytes from the pool, or allocate one.
+	 *
+	 * @return a cleared segment
+	 */
+	public ByteBuffer acquireSegment() {
+		ByteBuffer segment = segments.poll();
+		if (segment == null) {
+			directMisses.increment();
+			return ByteBuffer.allocateDirect(SEGMENT_SIZE);
+		}
+		retainedDirectBytes.addAndGet(-SEGMENT_SIZE);
+		directHits.increment();
+		segment.clear();
+		return segment;
+	}
+
+	/**
+	 * Hand a direct segment back to the pool. It must not be used afterwards.
+	 *
+	 * @param segment	segment returned by @see #acquireSegment()
+	 */
+	public void releaseSegment(ByteBuffer segment) {
+		if (retainedDirectBytes.addAndGet(SEGMENT_SIZE) > maxRetainedDirectBytes) {
+			retainedDirectBytes.addAndGet(-SEGMENT_SIZE);
+			return;
+		}
+		segments.offer(segment);
+	}
+
+	/**
+	 * @return number of arrays taken from the pool
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of arrays allocated for want of a pooled one
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return bytes held by the pool, including the arrays of ended threads not collected yet
+	 */
+	public long getRetainedBytes() {
+		reclaimEnded();
+		return retainedBytes.get();
+	}
+
+	/**
+	 * @return number of direct segments taken from the pool
+	 */
+	public long getDirectHits() {
+		return directHits.sum();
+	}
+
+	/**
+	 * @return number of direct segments allocated for want of a pooled one
+	 */
+	public long getDirectMisses() {
+		return directMisses.sum();
+	}
+
+	/**
+	 * @return bytes held by the pool in direct segments
+	 */
+	public long getRetainedDirectBytes() {
+		return retainedDirectBytes.get();
+	}
+
+	/**
+	 * @return number of envelopes that outgrew their memory budget and spilled to disk
+	 */
+	public long getSpills() {
+		return spills.sum();
+	}
+
+	/**
+	 * @return bytes of the envelopes that spilled to disk
+	 */
+	public long getSpilledBytes() {
+		return spilledBytes.sum();
+	}
+
+	void recordSpill(long bytes) {
+		spills.increment();
+		spilledBytes.add(bytes);
+	}
+
+	/**
+	 * @param minCapacity	bytes an array must hold
+	 * @return the length of the array @see #acquire(int) returns for that capacity
+	 */
+	public static int capacityFor(int minCapacity) {
+		int sizeClass = sizeClassFor(minCapacity);
+		return sizeClass < 0 ? minCapacity : SIZE_CLASSES[sizeClass];
+	}
+
+	private Owned own() {
+		Owned owned = new Owned();
+		owners.add(new OwnedReference(owned, ended));
+		return owned;
+	}
+
+	/*
+	 * Stop counting the arrays of the threads whose holder the collector reclaimed.
+	 */
+	private void reclaimEnded() {
+		for (Reference<? extends Owned> reference; (reference = ended.poll()) != null;) {
+			OwnedReference owner = (OwnedReference) reference;
+			owners.remove(owner);
+			retainedBytes.addAndGet(-owner.bytes.get());
+		}
+	}
+
+	private int slot(int sizeClass) {
+		int stripe = (int) Thread.currentThread().getId() & stripeMask;
+		return ((sizeClass * (stripeMask + 1)) + stripe) * SLOTS_PER_STRIPE;
+	}
+
+	private static int sizeClassFor(int capacity) {
+		for (int i = 0; i < SIZE_CLASSES.length; i++) {
+			if (capacity <= SIZE_CLASSES[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int sizeClassOf(int length) {
+		for (int i = 0; i < SIZE_CLASSES.length; i++) {
+			if (length == SIZE_CLASSES[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isVirtual() {
+		if (IS_VIRTUAL == null) {
+			return false;
+		}
+		try {
+			return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+		} catch (Throwable ex) {
+			return false;
+		}
+	}
+
+	/*
+	 * Thread.isVirtual() only exists from Java 21.
+	 */
+	private static MethodHandle isVirtualHandle() {
+		try {
+			return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+		} catch (ReflectiveOperationException ex) {
+			return null;
+		}
+	}
+
+
+	/*
+	 * Arrays a platform thread keeps to itself, and their bytes.
+	 */
+	private static final class Owned {
+
+		final byte[][] arrays = new byte[SIZE_CLASSES.length][];
+		final AtomicLong bytes = new AtomicLong();
+	}
+
+	/*
+	 * Keeps the bytes of a holder around for when the holder itself is gone.
+	 */
+	private static final class OwnedReference extends WeakReference<Owned> {
+
+		final AtomicLong bytes;
+
+		OwnedReference(Owned owned, ReferenceQueue<Owned> queue) {
+			super(owned, queue);
+			this.bytes = owned.bytes;
+		}
+	}
+
+}
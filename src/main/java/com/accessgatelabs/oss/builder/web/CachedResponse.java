@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Caches the serialized @see com.accessgatelabs.oss.builder.models.ServiceResponse#FETCHED
+ * envelopes of a <code>GET</code> handler in the @see ResponseCache.
+ *
+ * <pre>
+ * &#64;CachedResponse(ttl = 30)
+ * &#64;GetMapping("/{id}")
+ * public ResponseEntity&lt;?&gt; get(&#64;PathVariable long id) {
+ *     return ServiceResponse.FETCHED.buildResponse(service.get(id));
+ * }
+ * </pre>
+ *
+ * <p>
+ * 		Envelopes are cached per path, parameters and values of the @see #headers(), and per
+ * 		user: the name of the authenticated principal or, without one, the <code>Authorization</code>
+ * 		and <code>Cookie</code> headers. A handler whose response depends on anything else must
+ * 		list the header carrying it or not be cached.
+ * </p>
+ *
+ * <p>
+ * 		Cached envelopes are replayed before the handler is invoked, so method-level checks
+ * 		such as <code>&#64;PreAuthorize</code> do not run on a hit. Keyed per user, an envelope
+ * 		only goes back to the user it was written for. A handler that answers every user
+ * 		alike, and has no such checks, may set @see #shared() to cache one envelope for all.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+
+	/**
+	 * @return time a cached envelope is replayed, in @see #timeUnit()
+	 */
+	long ttl() default 60;
+
+	/**
+	 * @return unit of the @see #ttl()
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * @return request headers whose values are part of the cache key
+	 */
+	String[] headers() default { HttpHeaders.ACCEPT, SparseFieldset.HEADER };
+
+	/**
+	 * @return whether envelopes are shared by all users instead of cached per user
+	 */
+	boolean shared() default false;
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Content codings @see ResponseCompressor can apply to a response body, as named in the
+ * <code>Accept-Encoding</code> and <code>Content-Encoding</code> headers.
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public enum ContentCoding {
+
+	/**
+	 * Zstandard, RFC 8878, from <code>com.github.luben:zstd-jni</code>.
+	 */
+	ZSTD
+	(
+			"zstd",
+			"com.github.luben.zstd.ZstdCompressCtx"
+	),
+	
+	/**
+	 * gzip, RFC 1952, from the JDK.
+	 */
+	GZIP
+	(
+			"gzip",
+			null
+	),
+	
+	/**
+	 * zlib deflate, RFC 1950, from the JDK.
+	 */
+	DEFLATE
+	(
+			"deflate",
+			null
+	)
+	
+	;
+	
+	private final String token;
+	
+	private final String requiredClassName;
+	
+	private ContentCoding(String token, String requiredClassName) {
+		this.token = token;
+		this.requiredClassName = requiredClassName;
+	}
+	
+	
+	/**
+	 * @return the name of the coding in HTTP headers
+	 */
+	public String getToken() {
+		return token;
+	}
+	
+	/**
+	 * @return whether the library implementing the coding is on the classpath
+	 */
+	public boolean isAvailable() {
+		return requiredClassName == null || ClassUtils.isPresent(requiredClassName, ContentCoding.class.getClassLoader());
+	}
+	
+	/**
+	 * Return the coding named by an HTTP token.
+	 * 
+	 * @param token	the coding name, case insensitive
+	 * @return the coding, or null if it is not one of these
+	 */
+	public static ContentCoding forToken(String token) {
+		for (ContentCoding coding : values()) {
+			if (coding.token.equalsIgnoreCase(token)) {
+				return coding;
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+
+/**
+ * Strong ETags of @see com.accessgatelabs.oss.builder.models.ServiceResponse#FETCHED envelopes,
+ * and the last ETag sent for each path.
+ *
+ * <p>
+ * 		The ETag is an MD5 digest of the envelope as written, minus the value of its timestamp,
+ * 		which changes every second while the resource does not. The timestamp is the first field
+ * 		of an envelope, pretty printed or not; an envelope without one is digested whole.
+ * 		@see StateServiceResponseHttpMessageConverter computes it over the buffered envelope, not
+ * 		as it is written, and answers a matching <code>If-None-Match</code> with a
+ * 		<code>304 Not Modified</code> carrying no body. A compressed envelope is another
+ * 		representation, so its coding is appended to the ETag, see @see #encoded(String, String).
+ * </p>
+ *
+ * <p>
+ * 		That still runs the handler and serializes the envelope. To spare both, the ETag sent
+ * 		for a request is remembered for <code>ttl</code>, under the key @see #key(HttpServletRequest)
+ * 		builds from its path, parameters, user and the headers that select the representation,
+ * 		and @see NotModifiedInterceptor
+ * 		answers a request presenting it before the handler runs. Within that time a change made
+ * 		elsewhere goes unnoticed, so the TTL should not exceed what clients tolerate; requests of
+ * 		another method on the same path, such as <code>PUT</code> or <code>DELETE</code>, drop its
+ * 		ETags right away. The least recently used paths are evicted past <code>maxEntries</code>.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class EnvelopeEtags {
+
+	/*
+	 * Name of the first field of a JSON envelope, quoted.
+	 */
+	private static final byte[] TIMESTAMP_FIELD = "\"timestamp\"".getBytes(StandardCharsets.US_ASCII);
+
+	/*
+	 * Bytes the timestamp value must end within, leaving room for whitespace.
+	 */
+	private static final int TIMESTAMP_WINDOW = 64 + StateServiceResponse.TIMESTAMP_PATTERN.length();
+
+	/*
+	 * Request headers selecting the representation of an envelope.
+	 */
+	private static final String[] KEY_HEADERS = { HttpHeaders.ACCEPT, SparseFieldset.HEADER, HttpHeaders.ACCEPT_ENCODING,
+			ZstdDictionary.HEADER };
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	});
+
+	private final long ttlNanos;
+
+	private final Map<String, Entry> entries;
+
+	/**
+	 * @param maxEntries	number of paths whose ETag is remembered
+	 * @param ttlMillis		time in milliseconds an ETag is trusted without running the handler, 0 to always run it
+	 */
+	public EnvelopeEtags(int maxEntries, long ttlMillis) {
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+		this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+
+	/**
+	 * Compute the ETag of a JSON envelope.
+	 *
+	 * @param body		the envelope
+	 * @param length	number of bytes of the envelope
+	 * @return the quoted ETag
+	 */
+	public static String compute(byte[] body, int length) {
+		MessageDigest digest = DIGESTS.get();
+		long timestamp = timestamp(body, length);
+		if (timestamp < 0) {
+			digest.update(body, 0, length);
+		} else {
+			int start = (int) (timestamp >>> 32);
+			int end = (int) timestamp;
+			digest.update(body, 0, start);
+			digest.update(body, end, length - end);
+		}
+		return format(digest.digest());
+	}
+
+	/**
+	 * Compute the ETag of a JSON envelope, wherever the buffer holds it.
+	 *
+	 * @param buffer	PooledBuffer @see PooledBuffer holding the envelope
+	 * @return the quoted ETag
+	 * @throws IOException	If the buffer spilled to disk and reading it back fails
+	 */
+	public static String compute(PooledBuffer buffer) throws IOException {
+		if (!buffer.isOffHeap()) {
+			return compute(buffer.array(), buffer.size());
+		}
+		MessageDigest digest = DIGESTS.get();
+		int length = buffer.size();
+		byte[] head = new byte[Math.min(length, TIMESTAMP_WINDOW)];
+		buffer.read(0, head, head.length);
+		long timestamp = timestamp(head, head.length);
+		if (timestamp < 0) {
+			buffer.update(digest, 0, length);
+		} else {
+			int start = (int) (timestamp >>> 32);
+			int end = (int) timestamp;
+			buffer.update(digest, 0, start);
+			buffer.update(digest, end, length - end);
+		}
+		return format(digest.digest());
+	}
+
+	/**
+	 * Tell apart the ETags of the codings an envelope is sent with, as their bodies differ.
+	 *
+	 * @param etag		the quoted ETag of the envelope, see @see #compute(byte[], int)
+	 * @param coding	the content coding applied, null for none
+	 * @return the quoted ETag of the envelope in that coding
+	 */
+	public static String encoded(String etag, String coding) {
+		if (coding == null) {
+			return etag;
+		}
+		return etag.substring(0, etag.length() - 1) + '-' + coding + '"';
+	}
+
+	/**
+	 * @param ifNoneMatch	the <code>If-None-Match</code> header, may be null
+	 * @param etag			the quoted ETag of the current representation
+	 * @return whether the client already holds the representation, by weak comparison
+	 */
+	public static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null || etag == null) {
+			return false;
+		}
+		for (String candidate : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+			candidate = candidate.trim();
+			if (candidate.startsWith("W/")) {
+				candidate = candidate.substring(2);
+			}
+			if (candidate.equals("*") || candidate.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Build the key ETags of a request are remembered under, as @see ResponseCache#key(HttpServletRequest, String[])
+	 * does, from the <code>Accept</code>, <code>Accept-Encoding</code>, @see SparseFieldset#HEADER
+	 * and @see ZstdDictionary#HEADER headers.
+	 *
+	 * @param request	HttpServletRequest @see HttpServletRequest
+	 * @return the key ETags of the request are remembered under
+	 */
+	public static String key(HttpServletRequest request) {
+		return ResponseCache.key(request, KEY_HEADERS);
+	}
+
+	/**
+	 * @return whether ETags are remembered at all
+	 */
+	public boolean isCaching() {
+		return ttlNanos > 0;
+	}
+
+	/**
+	 * @param key	key of the request, see @see #key(HttpServletRequest)
+	 * @return the ETag sent for the key within the TTL, or null
+	 */
+	public String lookup(String key) {
+		synchronized (entries) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (System.nanoTime() - entry.storedAt > ttlNanos) {
+				entries.remove(key);
+				return null;
+			}
+			return entry.etag;
+		}
+	}
+
+	/**
+	 * @param key	key of the request, see @see #key(HttpServletRequest)
+	 * @param etag	the quoted ETag sent
+	 */
+	public void store(String key, String etag) {
+		if (!isCaching()) {
+			return;
+		}
+		Entry entry = new Entry(etag, System.nanoTime());
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	/**
+	 * Forget the ETags of a path, whatever their query string and headers.
+	 *
+	 * @param path	the request URI
+	 */
+	public void invalidate(String path) {
+		if (!isCaching()) {
+			return;
+		}
+		synchronized (entries) {
+			entries.keySet().removeIf(key -> key.startsWith(path)
+					&& (key.length() == path.length() || key.charAt(path.length()) == '?' || key.charAt(path.length()) == '\n'));
+		}
+	}
+
+	/*
+	 * Find the string value of a leading timestamp field, whitespace allowed between the tokens.
+	 * Returns its start and end, quotes excluded, packed in the high and low int, or -1.
+	 */
+	private static long timestamp(byte[] body, int length) {
+		int limit = Math.min(length, TIMESTAMP_WINDOW);
+		int i = skipWhitespace(body, 0, limit);
+		if (i >= limit || body[i] != '{') {
+			return -1;
+		}
+		i = skipWhitespace(body, i + 1, limit);
+		for (int j = 0; j < TIMESTAMP_FIELD.length; j++, i++) {
+			if (i >= limit || body[i] != TIMESTAMP_FIELD[j]) {
+				return -1;
+			}
+		}
+		i = skipWhitespace(body, i, limit);
+		if (i >= limit || body[i] != ':') {
+			return -1;
+		}
+		i = skipWhitespace(body, i + 1, limit);
+		if (i >= limit || body[i] != '"') {
+			return -1;
+		}
+		int start = ++i;
+		while (i < limit && body[i] != '"') {
+			if (body[i] == '\\') {
+				return -1;
+			}
+			i++;
+		}
+		return i < limit ? ((long) start << 32) | i : -1;
+	}
+
+	private static int skipWhitespace(byte[] body, int index, int limit) {
+		while (index < limit) {
+			byte b = body[index];
+			if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+				break;
+			}
+			index++;
+		}
+		return index;
+	}
+
+	private static String format(byte[] hash) {
+		char[] etag = new char[hash.length * 2 + 2];
+		etag[0] = '"';
+		for (int i = 0; i < hash.length; i++) {
+			etag[1 + 2 * i] = HEX[(hash[i] >> 4) & 0xf];
+			etag[2 + 2 * i] = HEX[hash[i] & 0xf];
+		}
+		etag[etag.length - 1] = '"';
+		return new String(etag);
+	}
+
+
+	private static final class Entry {
+
+		final String etag;
+		final long storedAt;
+
+		Entry(String etag, long storedAt) {
+			this.etag = etag;
+			this.storedAt = storedAt;
+		}
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.ObjectUtils;
+
+import com.accessgatelabs.oss.builder.models.ApiServiceResponse;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.models.StreamingResult;
+import com.accessgatelabs.oss.builder.models.StreamingSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes a @see StateServiceResponse as newline-delimited JSON, <code>application/x-ndjson</code>.
+ *
+ * <ol>
+ * 		<li>The first line is a header envelope of @see ServiceResponse#BATCH_PROCESSING_IN_PROGRESS,
+ * 		with its <code>http</code> and <code>api</code> blocks.</li>
+ * 		<li>Each following line is one element of the result, written as soon as it is produced
+ * 		when the result is a @see StreamingResult.</li>
+ * 		<li>The last line is a summary envelope with the code of the response, such as
+ * 		@see ServiceResponse#FETCHED, whose result is a @see StreamingSummary. If the source
+ * 		failed, the summary has the @see ServiceResponse#SERVER_ERROR code instead.</li>
+ * </ol>
+ *
+ * <p>
+ * 		Clients can process the records with constant memory and start before the server
+ * 		has finished.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+final class NdjsonEnvelopeWriter {
+
+	static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson");
+
+	private static final SerializedString LINE_SEPARATOR = new SerializedString("\n");
+
+	private final ObjectMapper objectMapper;
+
+	private final ObjectWriter writer;
+
+	NdjsonEnvelopeWriter(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		this.writer = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+
+	void write(StateServiceResponse response, OutputStream out) throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+			generator.setRootValueSeparator(LINE_SEPARATOR);
+			writer.writeValue(generator, header());
+
+			long count = 0;
+			Exception error = null;
+			Object result = response.getObjectAsResponse();
+			try {
+				Iterator<?> elements = elements(result);
+				while (true) {
+					Object element;
+					try {
+						if (!elements.hasNext()) {
+							break;
+						}
+						element = elements.next();
+					} catch (RuntimeException ex) {
+						error = ex;
+						break;
+					}
+					writer.writeValue(generator, element);
+					count++;
+				}
+			} finally {
+				if (result instanceof StreamingResult) {
+					try {
+						((StreamingResult<?>) result).close();
+					} catch (Exception ex) {
+						if (error == null) {
+							error = ex;
+						}
+					}
+				}
+			}
+
+			writer.writeValue(generator, summary(response, StreamingSummary.of(count, error)));
+			generator.writeRaw('\n');
+		}
+	}
+
+	private static StateServiceResponse header() {
+		StateServiceResponse header = ServiceResponse.BATCH_PROCESSING_IN_PROGRESS.build();
+		header.setHttpResponse(ServiceResponse.BATCH_PROCESSING_IN_PROGRESS.getHttpResponse());
+		return header;
+	}
+
+	private static StateServiceResponse summary(StateServiceResponse response, StreamingSummary streamingSummary) {
+		ApiServiceResponse api = response.getApiServiceResponse();
+		StateServiceResponse summary;
+		if (streamingSummary.isComplete()) {
+			summary = new StateServiceResponse(api, streamingSummary, response.getMessage());
+			summary.setHttpResponse(api != null && api.getServiceResponse() != null
+					? api.getServiceResponse().getHttpResponse() : response.getHttpResponse());
+			summary.setPath(response.getPath());
+		} else {
+			summary = new StateServiceResponse(ServiceResponse.SERVER_ERROR.getApiServiceResponse(), streamingSummary,
+					streamingSummary.getError());
+			summary.setHttpResponse(ServiceResponse.SERVER_ERROR.getHttpResponse());
+			summary.setPath(response.getPath());
+		}
+		return summary;
+	}
+
+	private static Iterator<?> elements(Object result) {
+		if (result == null) {
+			return Collections.emptyIterator();
+		}
+		if (result instanceof StreamingResult) {
+			return ((StreamingResult<?>) result).iterator();
+		}
+		if (result instanceof Iterable) {
+			return ((Iterable<?>) result).iterator();
+		}
+		if (result.getClass().isArray()) {
+			return Arrays.asList(ObjectUtils.toObjectArray(result)).iterator();
+		}
+		return Collections.singleton(result).iterator();
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers <code>GET</code> requests presenting the ETag recently sent for the same path, parameters,
+ * user and representation headers, see @see EnvelopeEtags#key(HttpServletRequest), with a
+ * <code>304 Not Modified</code>, before the handler runs.
+ *
+ * <p>
+ * 		The ETags are the ones @see StateServiceResponseHttpMessageConverter computed for
+ * 		@see com.accessgatelabs.oss.builder.models.ServiceResponse#FETCHED envelopes and
+ * 		remembered in @see EnvelopeEtags, which bounds how long they are trusted.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class NotModifiedInterceptor implements HandlerInterceptor {
+
+	private final EnvelopeEtags etags;
+
+	public NotModifiedInterceptor(EnvelopeEtags etags) {
+		this.etags = etags;
+	}
+
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if (ifNoneMatch == null || !HttpMethod.GET.matches(request.getMethod())) {
+			return true;
+		}
+		String etag = etags.lookup(EnvelopeEtags.key(request));
+		if (etag == null || !EnvelopeEtags.matches(ifNoneMatch, etag)) {
+			return true;
+		}
+		response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+		response.setHeader(HttpHeaders.ETAG, etag);
+		return false;
+	}
+
+}
@@ -0,0 +1,558 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Growable in-memory stream over arrays of a @see BufferPool, whose content is read in place.
+ *
+ * <p>
+ * 		Growing swaps the array for one of the next size class and hands the previous one back.
+ * 		Closing hands the last array back; the buffer must not be used afterwards.
+ * </p>
+ *
+ * <pre>
+ * try (PooledBuffer buffer = PooledBuffer.acquire()) {
+ *     objectMapper.writeValue(buffer, response);
+ *     buffer.writeTo(out);
+ * }
+ * </pre>
+ *
+ * <p>
+ * 		Rather than growing into a heap array larger than an off-heap threshold, the content
+ * 		moves to direct segments of the pool, and @see #array() is no longer available:
+ * 		@see #isOffHeap() tells which. @see #writeTo(OutputStream) hands the segments to the
+ * 		stream through NIO when its class, or a public superclass, has a public
+ * 		<code>write(ByteBuffer[])</code>, gathering them in one write, or a public
+ * 		<code>write(ByteBuffer)</code>, taking one @see ByteBuffer at a time. Other streams get the
+ * 		content copied through a pooled heap chunk.
+ * </p>
+ *
+ * <p>
+ * 		Only the stream given is looked at, not the one it may wrap. Servlet 4 has no
+ * 		<code>write(ByteBuffer)</code>, and Spring Security and other filters wrap the container
+ * 		stream in one of their own, such as the non-public
+ * 		<code>OnCommittedResponseWrapper.SaveContextServletOutputStream</code>, that only
+ * 		forwards byte arrays. Behind such a wrapper the segments are copied, whatever the
+ * 		container stream supports.
+ * </p>
+ *
+ * <p>
+ * 		The direct segments are bounded by a memory budget. Past it, the content spills to a
+ * 		temporary file, deleted on close, and a single segment stages what is written next.
+ * 		The file is read back memory-mapped for NIO streams, and otherwise sent with
+ * 		@see FileChannel#transferTo(long, long, WritableByteChannel). Each spill is logged and
+ * 		counted by the @see BufferPool.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@Slf4j
+public final class PooledBuffer extends OutputStream {
+
+	private static final int INITIAL_CAPACITY = 8 << 10;
+
+	private static final int COPY_CHUNK_SIZE = 8 << 10;
+
+	private static final int MAP_CHUNK_SIZE = 8 << 20;
+
+	/*
+	 * NIO write methods of the stream classes met so far, empty when a class has none.
+	 */
+	private static final ConcurrentMap<Class<?>, Optional<NioWrite>> NIO_WRITES = new ConcurrentHashMap<>();
+
+	private final BufferPool pool;
+
+	private final int offHeapThreshold;
+
+	private final long memoryBudget;
+
+	private final Path spillDirectory;
+
+	private byte[] array;
+
+	private List<ByteBuffer> segments;
+
+	private FileChannel spill;
+
+	private int flushed;
+
+	private int size;
+
+	private PooledBuffer(BufferPool pool, int offHeapThreshold, long memoryBudget, Path spillDirectory) {
+		this.pool = pool;
+		this.offHeapThreshold = offHeapThreshold;
+		this.memoryBudget = memoryBudget;
+		this.spillDirectory = spillDirectory;
+		this.array = pool.acquire(INITIAL_CAPACITY);
+	}
+
+
+	/**
+	 * @return an empty buffer over the current @see BufferPool, kept on the heap
+	 */
+	public static PooledBuffer acquire() {
+		return new PooledBuffer(BufferPool.current(), Integer.MAX_VALUE, Long.MAX_VALUE, null);
+	}
+
+	/**
+	 * @param offHeapThreshold	size in bytes of the largest heap array the content is held in
+	 * @return an empty buffer over the current @see BufferPool
+	 */
+	public static PooledBuffer acquire(int offHeapThreshold) {
+		return new PooledBuffer(BufferPool.current(), offHeapThreshold, Long.MAX_VALUE, null);
+	}
+
+	/**
+	 * @param offHeapThreshold	size in bytes of the largest heap array the content is held in
+	 * @param memoryBudget		bytes of direct segments the content may take up before spilling to disk
+	 * @param spillDirectory	directory of the spill files, null for the default temporary directory
+	 * @return an empty buffer over the current @see BufferPool
+	 */
+	public static PooledBuffer acquire(int offHeapThreshold, long memoryBudget, Path spillDirectory) {
+		return new PooledBuffer(BufferPool.current(), offHeapThreshold, memoryBudget, spillDirectory);
+	}
+
+	/**
+	 * @return whether the content is held in direct segments, or spilled to disk
+	 */
+	public boolean isOffHeap() {
+		return segments != null;
+	}
+
+	/**
+	 * @return whether the content spilled to disk
+	 */
+	public boolean isSpilled() {
+		return spill != null;
+	}
+
+	/**
+	 * @return the backing array, holding @see #size() bytes
+	 * @throws IllegalStateException	If the content is off-heap
+	 */
+	public byte[] array() {
+		if (segments != null) {
+			throw new IllegalStateException("Content is held off-heap");
+		}
+		return array;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void reset() throws IOException {
+		size = 0;
+		if (spill != null) {
+			spill.truncate(0);
+			flushed = 0;
+		}
+		if (segments != null) {
+			for (int i = segments.size() - 1; i > 0; i--) {
+				pool.releaseSegment(segments.remove(i));
+			}
+			segments.get(0).clear();
+		}
+	}
+
+	/**
+	 * @param index	index of a byte, below @see #size()
+	 * @return the byte
+	 * @throws IOException	If the content spilled to disk and reading it back fails
+	 */
+	public byte byteAt(int index) throws IOException {
+		if (segments == null) {
+			return array[index];
+		}
+		if (spill != null) {
+			flushStaging();
+			ByteBuffer one = ByteBuffer.allocate(1);
+			spill.read(one, index);
+			return one.get(0);
+		}
+		return segments.get(index / BufferPool.SEGMENT_SIZE).get(index % BufferPool.SEGMENT_SIZE);
+	}
+
+	/**
+	 * Copy a range of the content, in one read when it spilled to disk.
+	 *
+	 * @param offset	index of the first byte
+	 * @param dst		array the bytes are copied to, from its start
+	 * @param len		number of bytes, at most @see #size() minus <code>offset</code>
+	 * @throws IOException	If the content spilled to disk and reading it back fails
+	 */
+	public void read(int offset, byte[] dst, int len) throws IOException {
+		if (segments == null) {
+			System.arraycopy(array, offset, dst, 0, len);
+			return;
+		}
+		if (spill != null) {
+			flushStaging();
+			ByteBuffer content = ByteBuffer.wrap(dst, 0, len);
+			while (content.hasRemaining()) {
+				if (spill.read(content, (long) offset + content.position()) < 0) {
+					throw new EOFException("Spill file ended before " + (offset + len));
+				}
+			}
+			return;
+		}
+		for (int copied = 0; copied < len;) {
+			int index = offset + copied;
+			int from = index % BufferPool.SEGMENT_SIZE;
+			int length = Math.min(BufferPool.SEGMENT_SIZE - from, len - copied);
+			ByteBuffer range = segments.get(index / BufferPool.SEGMENT_SIZE).duplicate();
+			range.position(from);
+			range.get(dst, copied, length);
+			copied += length;
+		}
+	}
+
+	/**
+	 * @return a copy of the content
+	 * @throws IOException	If the content spilled to disk and reading it back fails
+	 */
+	public byte[] toByteArray() throws IOException {
+		if (segments == null) {
+			return Arrays.copyOf(array, size);
+		}
+		byte[] copy = new byte[size];
+		if (spill != null) {
+			flushStaging();
+			ByteBuffer content = ByteBuffer.wrap(copy);
+			while (content.hasRemaining()) {
+				spill.read(content, content.position());
+			}
+			return copy;
+		}
+		int offset = 0;
+		for (ByteBuffer segment : segments) {
+			ByteBuffer content = (ByteBuffer) segment.duplicate().flip();
+			int length = content.remaining();
+			content.get(copy, offset, length);
+			offset += length;
+		}
+		return copy;
+	}
+
+	/**
+	 * Feed a range of the content to a digest.
+	 *
+	 * @param digest	MessageDigest @see MessageDigest
+	 * @param offset	index of the first byte
+	 * @param length	number of bytes
+	 * @throws IOException	If the content spilled to disk and reading it back fails
+	 */
+	public void update(MessageDigest digest, int offset, int length) throws IOException {
+		if (segments == null) {
+			digest.update(array, offset, length);
+			return;
+		}
+		if (spill != null) {
+			flushStaging();
+			for (long position = offset, end = (long) offset + length; position < end; position += MAP_CHUNK_SIZE) {
+				digest.update(spill.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK_SIZE, end - position)));
+			}
+			return;
+		}
+		int end = offset + length;
+		for (int i = offset / BufferPool.SEGMENT_SIZE; offset < end; i++) {
+			int from = offset % BufferPool.SEGMENT_SIZE;
+			int to = Math.min(BufferPool.SEGMENT_SIZE, from + end - offset);
+			ByteBuffer range = segments.get(i).duplicate();
+			range.limit(to).position(from);
+			digest.update(range);
+			offset += to - from;
+		}
+	}
+
+	/**
+	 * Write the content to a stream, through NIO when it is off-heap and the stream allows it.
+	 *
+	 * @param out	OutputStream @see OutputStream
+	 * @throws IOException	If writing fails
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		if (segments == null) {
+			out.write(array, 0, size);
+			return;
+		}
+		Optional<NioWrite> nioWrite = NIO_WRITES.computeIfAbsent(out.getClass(), NioWrite::find);
+		if (spill != null) {
+			flushStaging();
+			if (nioWrite.isPresent()) {
+				for (long position = 0; position < size; position += MAP_CHUNK_SIZE) {
+					nioWrite.get().write(out, new ByteBuffer[] {
+							spill.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK_SIZE, size - position)) });
+				}
+				return;
+			}
+			WritableByteChannel target = Channels.newChannel(out);
+			for (long position = 0; position < size;) {
+				position += spill.transferTo(position, size - position, target);
+			}
+			return;
+		}
+		ByteBuffer[] contents = new ByteBuffer[segments.size()];
+		for (int i = 0; i < contents.length; i++) {
+			contents[i] = (ByteBuffer) segments.get(i).duplicate().flip();
+		}
+		if (nioWrite.isPresent()) {
+			nioWrite.get().write(out, contents);
+			return;
+		}
+		byte[] chunk = pool.acquire(COPY_CHUNK_SIZE);
+		try {
+			for (ByteBuffer content : contents) {
+				while (content.hasRemaining()) {
+					int length = Math.min(chunk.length, content.remaining());
+					content.get(chunk, 0, length);
+					out.write(chunk, 0, length);
+				}
+			}
+		} finally {
+			pool.release(chunk);
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (segments != null) {
+			segment().put((byte) b);
+			size++;
+			return;
+		}
+		ensureCapacity(size + 1);
+		if (segments != null) {
+			write(b);
+			return;
+		}
+		array[size++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (segments == null) {
+			ensureCapacity(size + len);
+		}
+		if (segments == null) {
+			System.arraycopy(b, off, array, size, len);
+			size += len;
+			return;
+		}
+		if (size + len < 0) {
+			throw new IOException("Envelope larger than 2 GiB");
+		}
+		while (len > 0) {
+			ByteBuffer segment = segment();
+			int written = Math.min(len, segment.remaining());
+			segment.put(b, off, written);
+			off += written;
+			len -= written;
+			size += written;
+		}
+	}
+
+	@Override
+	public void close() {
+		if (segments != null) {
+			for (ByteBuffer segment : segments) {
+				pool.releaseSegment(segment);
+			}
+			segments = null;
+		}
+		if (spill != null) {
+			pool.recordSpill(size);
+			try {
+				spill.close();
+			} catch (IOException ex) {
+				log.debug("Could not delete envelope spill file", ex);
+			}
+			spill = null;
+		}
+		pool.release(array);
+		array = null;
+	}
+
+	private void ensureCapacity(int capacity) throws IOException {
+		if (capacity - array.length <= 0) {
+			return;
+		}
+		if (capacity < 0) {
+			throw new OutOfMemoryError("Envelope larger than 2 GiB");
+		}
+		int target = Math.max(capacity, array.length << 1 > 0 ? array.length << 1 : Integer.MAX_VALUE - 8);
+		if (BufferPool.capacityFor(target) > offHeapThreshold) {
+			moveOffHeap();
+			return;
+		}
+		byte[] grown = pool.acquire(target);
+		System.arraycopy(array, 0, grown, 0, size);
+		pool.release(array);
+		array = grown;
+	}
+
+	private void moveOffHeap() throws IOException {
+		segments = new ArrayList<>();
+		segments.add(pool.acquireSegment());
+		int heapSize = size;
+		size = 0;
+		write(array, 0, heapSize);
+		pool.release(array);
+		array = null;
+	}
+
+	/*
+	 * The last segment, or room in a new one when it is full, or in the emptied staging
+	 * segment once spilled.
+	 */
+	private ByteBuffer segment() throws IOException {
+		ByteBuffer last = segments.get(segments.size() - 1);
+		if (last.hasRemaining()) {
+			return last;
+		}
+		if (spill == null && (long) (segments.size() + 1) * BufferPool.SEGMENT_SIZE > memoryBudget) {
+			spill();
+		}
+		if (spill != null) {
+			flushStaging();
+			return segments.get(0);
+		}
+		ByteBuffer next = pool.acquireSegment();
+		segments.add(next);
+		return next;
+	}
+
+	private void spill() throws IOException {
+		Path file = spillDirectory != null
+				? Files.createTempFile(spillDirectory, "envelope-", ".spill")
+				: Files.createTempFile("envelope-", ".spill");
+		log.warn("Envelope outgrew its in-memory budget of {} bytes, spilling to {}", memoryBudget, file);
+		spill = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+		for (int i = 0; i < segments.size(); i++) {
+			ByteBuffer segment = segments.get(i);
+			segment.flip();
+			while (segment.hasRemaining()) {
+				flushed += spill.write(segment, flushed);
+			}
+			if (i > 0) {
+				pool.releaseSegment(segment);
+			}
+		}
+		ByteBuffer staging = segments.get(0);
+		staging.clear();
+		segments.clear();
+		segments.add(staging);
+	}
+
+	/*
+	 * Write the staging segment of a spilled buffer to the file.
+	 */
+	private void flushStaging() throws IOException {
+		ByteBuffer staging = segments.get(0);
+		staging.flip();
+		while (staging.hasRemaining()) {
+			flushed += spill.write(staging, flushed);
+		}
+		staging.clear();
+	}
+
+
+	/**
+	 * Public <code>write(ByteBuffer[])</code> or <code>write(ByteBuffer)</code> method of a stream class,
+	 * declared by the class or by a public superclass when the class itself is not public.
+	 */
+	private static final class NioWrite {
+
+		private final MethodHandle method;
+		private final boolean gathering;
+
+		private NioWrite(MethodHandle method, boolean gathering) {
+			this.method = method;
+			this.gathering = gathering;
+		}
+
+		static Optional<NioWrite> find(Class<?> streamClass) {
+			for (Class<?> type = streamClass; type != null && type != OutputStream.class; type = type.getSuperclass()) {
+				if (!Modifier.isPublic(type.getModifiers())) {
+					continue;
+				}
+				MethodHandle method = findWrite(type, ByteBuffer[].class);
+				if (method != null) {
+					return Optional.of(new NioWrite(method, true));
+				}
+				method = findWrite(type, ByteBuffer.class);
+				if (method != null) {
+					return Optional.of(new NioWrite(method, false));
+				}
+			}
+			return Optional.empty();
+		}
+
+		private static MethodHandle findWrite(Class<?> type, Class<?> parameterType) {
+			try {
+				return MethodHandles.publicLookup().findVirtual(type, "write", MethodType.methodType(void.class, parameterType));
+			} catch (ReflectiveOperationException | SecurityException ex) {
+				return null;
+			}
+		}
+
+		void write(OutputStream out, ByteBuffer[] contents) throws IOException {
+			try {
+				if (gathering) {
+					method.invoke(out, contents);
+					return;
+				}
+				for (ByteBuffer content : contents) {
+					method.invoke(out, content);
+				}
+			} catch (IOException | RuntimeException | Error ex) {
+				throw ex;
+			} catch (Throwable ex) {
+				throw new IOException(ex);
+			}
+		}
+	}
+
+}
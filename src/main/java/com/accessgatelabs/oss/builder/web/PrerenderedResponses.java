@@ -0,0 +1,245 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.time.ResponseClock;
+import com.accessgatelabs.oss.builder.time.ResponseTimestamp;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pre-rendered bodies of payload-less responses, such as
+ * <code>ServiceResponse.DELETED.buildResponse()</code>.
+ *
+ * <p>
+ * 		Such a body only differs from one call to the next by its timestamp. Each
+ * 		@see ServiceResponse gets one byte template, rendered on first use. Writing a
+ * 		response copies the template straight to the servlet output stream and patches
+ * 		in the current timestamp, which always has the same width. The Content-Length
+ * 		is known up front and neither Jackson nor @see org.springframework.http.ResponseEntity
+ * 		body conversion is involved.
+ * </p>
+ *
+ * <p>
+ * 		The timestamp bytes come from @see ResponseClock#current(). The cached clock set up by
+ * 		the auto-configuration formats them once per second; with @see ResponseClock#system(),
+ * 		the current time is still formatted on every write.
+ * </p>
+ *
+ * <pre>
+ * &#64;DeleteMapping("/{id}")
+ * public void delete(&#64;PathVariable long id, HttpServletResponse response) throws IOException {
+ *     service.delete(id);
+ *     PrerenderedResponses.write(ServiceResponse.DELETED, response);
+ * }
+ * </pre>
+ *
+ * <p>
+ * 		@see StateServiceResponseHttpMessageConverter writes the same templates for the JSON
+ * 		envelopes returned as <code>ServiceResponse.DELETED.buildResponse()</code>, patched with
+ * 		the timestamp of the envelope, when nothing but the constant was set on them.
+ * </p>
+ *
+ * <p>
+ * 		Templates are rendered with the @see ObjectMapper given to @see #configure(ObjectMapper),
+ * 		which the auto-configuration sets to the application mapper.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class PrerenderedResponses {
+
+	/*
+	 * Timestamp rendered into the templates, located afterwards to find where to patch.
+	 */
+	private static final LocalDateTime TIMESTAMP_PLACEHOLDER = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
+	private static final byte[] TIMESTAMP_MARKER = ("\"timestamp\":\"" + ResponseTimestamp.of(TIMESTAMP_PLACEHOLDER) + "\"")
+			.getBytes(StandardCharsets.UTF_8);
+	private static final int TIMESTAMP_WIDTH = StateServiceResponse.TIMESTAMP_PATTERN.length();
+
+	private static volatile ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule());
+
+	private static volatile AtomicReferenceArray<Template> templates = new AtomicReferenceArray<>(ServiceResponse.values().length);
+
+	private PrerenderedResponses() {
+	}
+
+
+	/**
+	 * Set the @see ObjectMapper used to render templates and drop the ones already rendered.
+	 *
+	 * @param objectMapper	ObjectMapper @see ObjectMapper
+	 */
+	public static void configure(ObjectMapper objectMapper) {
+		PrerenderedResponses.objectMapper = objectMapper;
+		PrerenderedResponses.templates = new AtomicReferenceArray<>(ServiceResponse.values().length);
+	}
+
+	/**
+	 * Write the payload-less body of a @see ServiceResponse to the servlet response,
+	 * with the status, content type and length of the response.
+	 *
+	 * @param serviceResponse	ServiceResponse @see ServiceResponse
+	 * @param response			HttpServletResponse @see HttpServletResponse
+	 * @throws IOException	If writing to the response fails
+	 */
+	public static void write(ServiceResponse serviceResponse, HttpServletResponse response) throws IOException {
+		Template template = template(serviceResponse);
+		byte[] timestamp = timestamp();
+		response.setStatus(serviceResponse.getHttpStatus().value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		if (template == null || timestamp.length != TIMESTAMP_WIDTH) {
+			byte[] body = objectMapper.writeValueAsBytes(serviceResponse.build());
+			response.setContentLength(body.length);
+			response.getOutputStream().write(body);
+			return;
+		}
+		response.setContentLength(template.body.length);
+		template.writeTo(response.getOutputStream(), timestamp);
+	}
+
+	/**
+	 * Write an envelope from the template of its @see ServiceResponse, when it holds nothing but
+	 * the shared @see com.accessgatelabs.oss.builder.models.ApiServiceResponse of the constant and
+	 * its timestamp, as built by <code>build()</code> and <code>buildResponse()</code> of the constant.
+	 *
+	 * @param response		StateServiceResponse @see StateServiceResponse
+	 * @param objectMapper	ObjectMapper @see ObjectMapper the envelope would otherwise be written with
+	 * @param out			OutputStream @see OutputStream
+	 * @return true if the envelope was written, false if it has to be serialized
+	 * @throws IOException	If rendering the template or writing fails
+	 */
+	static boolean write(StateServiceResponse response, ObjectMapper objectMapper, OutputStream out) throws IOException {
+		if (objectMapper != PrerenderedResponses.objectMapper || !isConstant(response)) {
+			return false;
+		}
+		Template template = template(response.getApiServiceResponse().getServiceResponse());
+		if (template == null) {
+			return false;
+		}
+		byte[] timestamp = ResponseClock.current().format(response.getTimestamp()).asUnquotedUTF8();
+		if (timestamp.length != TIMESTAMP_WIDTH) {
+			return false;
+		}
+		template.writeTo(out, timestamp);
+		return true;
+	}
+
+	/**
+	 * Return the template of a @see ServiceResponse, rendering it on first use.
+	 *
+	 * @param serviceResponse	ServiceResponse @see ServiceResponse
+	 * @return the template, or null if the rendered body has no patchable timestamp
+	 * @throws IOException	If rendering fails
+	 */
+	static Template template(ServiceResponse serviceResponse) throws IOException {
+		AtomicReferenceArray<Template> cache = templates;
+		Template template = cache.get(serviceResponse.ordinal());
+		if (template == null) {
+			template = render(serviceResponse);
+			cache.compareAndSet(serviceResponse.ordinal(), null, template);
+		}
+		return template == Template.NONE ? null : template;
+	}
+
+	private static Template render(ServiceResponse serviceResponse) throws IOException {
+		StateServiceResponse response = serviceResponse.build();
+		response.setTimestamp(TIMESTAMP_PLACEHOLDER);
+		byte[] body = objectMapper.writeValueAsBytes(response);
+		int marker = indexOf(body, TIMESTAMP_MARKER);
+		if (marker < 0) {
+			return Template.NONE;
+		}
+		return new Template(body, marker + TIMESTAMP_MARKER.length - TIMESTAMP_WIDTH - 1);
+	}
+
+	private static boolean isConstant(StateServiceResponse response) {
+		return response.getClass() == StateServiceResponse.class
+				&& response.getApiServiceResponse() != null
+				&& response.getApiServiceResponse().getServiceResponse() != null
+				&& response.getApiServiceResponse() == response.getApiServiceResponse().getServiceResponse().getApiServiceResponse()
+				&& response.getTimestamp() != null
+				&& response.getHttpResponse() == null
+				&& response.getPath() == null
+				&& response.getMessage() == null
+				&& response.getErrorCount() == null
+				&& response.getDebugMessage() == null
+				&& response.getSubErrors() == null
+				&& response.getObjectAsResponse() == null
+				&& response.getFileUploadResponse() == null
+				&& response.getMessageStatusResponse() == null
+				&& response.getExceptionResponseBuilder() == null;
+	}
+
+	private static byte[] timestamp() {
+		return ResponseClock.current().timestamp().getBytes();
+	}
+
+	private static int indexOf(byte[] body, byte[] marker) {
+		outer:
+		for (int i = 0; i <= body.length - marker.length; i++) {
+			for (int j = 0; j < marker.length; j++) {
+				if (body[i + j] != marker[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+
+	/**
+	 * A rendered body and the offset of its timestamp value.
+	 */
+	static final class Template {
+
+		static final Template NONE = new Template(new byte[0], -1);
+
+		final byte[] body;
+		final int timestampOffset;
+
+		Template(byte[] body, int timestampOffset) {
+			this.body = body;
+			this.timestampOffset = timestampOffset;
+		}
+
+		void writeTo(OutputStream out, byte[] timestamp) throws IOException {
+			out.write(body, 0, timestampOffset);
+			out.write(timestamp, 0, TIMESTAMP_WIDTH);
+			int tail = timestampOffset + TIMESTAMP_WIDTH;
+			out.write(body, tail, body.length - tail);
+		}
+	}
+
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.util.UriUtils;
+
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.time.ResponseClock;
+
+/**
+ * Serialized @see com.accessgatelabs.oss.builder.models.ServiceResponse#FETCHED envelopes of
+ * the handlers annotated with @see CachedResponse, replayed instead of running the handler.
+ *
+ * <p>
+ * 		On a miss, @see ResponseCacheInterceptor lets the handler run and flags the request;
+ * 		@see StateServiceResponseHttpMessageConverter then stores the JSON envelope it writes.
+ * 		On a hit, the stored bytes are written back as @see PrerenderedResponses does, with
+ * 		the current timestamp patched in, and compressed like the converter would.
+ * 		Only the status, content type and body are replayed, not other headers the handler set.
+ * </p>
+ *
+ * <p>
+ * 		The cache is bounded by the bytes it holds, evicting the least recently used envelopes.
+ * 		When the converter writes an @see com.accessgatelabs.oss.builder.models.ServiceResponse#UPDATED
+ * 		or @see com.accessgatelabs.oss.builder.models.ServiceResponse#DELETED envelope, the
+ * 		envelopes cached for that path, the paths under it and the paths above it are dropped,
+ * 		so <code>PUT /users/7</code> drops <code>/users/7</code> as well as <code>/users</code>.
+ * 		Other writes call @see #invalidate(String) themselves.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class ResponseCache {
+
+	/**
+	 * Request attribute holding the @see Pending store of a missed request.
+	 */
+	public static final String PENDING_ATTRIBUTE = ResponseCache.class.getName() + ".PENDING";
+
+	private static final byte[] TIMESTAMP_PREFIX = "{\"timestamp\":\"".getBytes(StandardCharsets.US_ASCII);
+	private static final int TIMESTAMP_WIDTH = StateServiceResponse.TIMESTAMP_PATTERN.length();
+
+	/*
+	 * Approximate footprint of an entry besides its body and key.
+	 */
+	private static final int ENTRY_OVERHEAD = 128;
+
+	private final long maxBytes;
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+	private long bytes;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private ResponseCompressor compressor;
+
+	/**
+	 * @param maxBytes	bytes the cached envelopes and their keys may take up
+	 */
+	public ResponseCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+
+	/**
+	 * Compress replayed envelopes with the coding the client accepts, as the converter does.
+	 *
+	 * @param compressor	ResponseCompressor @see ResponseCompressor, null to replay envelopes uncompressed
+	 */
+	public void setCompressor(ResponseCompressor compressor) {
+		this.compressor = compressor;
+	}
+
+	/**
+	 * Build the key of a request from its path, parameters, the given headers and its user.
+	 *
+	 * @param request	HttpServletRequest @see HttpServletRequest
+	 * @param headers	names of the headers that are part of the key
+	 * @return the key
+	 */
+	public static String key(HttpServletRequest request, String[] headers) {
+		return key(request, headers, false);
+	}
+
+	/**
+	 * Build the key of a request from its path, parameters and the given headers. Parameter
+	 * names and values are percent-encoded, so that no value can pass for another parameter.
+	 * Unless shared, the key also holds the name of the authenticated principal or, without
+	 * one, the <code>Authorization</code> and <code>Cookie</code> headers.
+	 *
+	 * @param request	HttpServletRequest @see HttpServletRequest
+	 * @param headers	names of the headers that are part of the key
+	 * @param shared	whether the envelope is the same for all users
+	 * @return the key
+	 */
+	public static String key(HttpServletRequest request, String[] headers, boolean shared) {
+		StringBuilder key = new StringBuilder(request.getRequestURI());
+		char separator = '?';
+		for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+			for (String value : parameter.getValue()) {
+				key.append(separator).append(encode(parameter.getKey())).append('=').append(encode(value));
+				separator = '&';
+			}
+		}
+		for (String header : headers) {
+			appendHeader(key, header, request.getHeader(header));
+		}
+		if (!shared) {
+			Principal principal = request.getUserPrincipal();
+			if (principal != null) {
+				key.append("\nprincipal:").append(encode(principal.getName()));
+			} else {
+				appendHeader(key, HttpHeaders.AUTHORIZATION, request.getHeader(HttpHeaders.AUTHORIZATION));
+				appendHeader(key, HttpHeaders.COOKIE, request.getHeader(HttpHeaders.COOKIE));
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * @param key	key of the request, see @see #key(HttpServletRequest, String[])
+	 * @return the live entry of the key, or null
+	 */
+	public Entry lookup(String key) {
+		synchronized (entries) {
+			Entry entry = entries.get(key);
+			if (entry != null && System.nanoTime() - entry.expiresAt >= 0) {
+				remove(key);
+				entry = null;
+			}
+			if (entry == null) {
+				misses.increment();
+			} else {
+				hits.increment();
+			}
+			return entry;
+		}
+	}
+
+	/**
+	 * Store a JSON envelope written for a missed request.
+	 *
+	 * @param pending		Pending @see Pending flagged on the request
+	 * @param contentType	the content type the envelope was written with
+	 * @param body			the envelope
+	 * @param length		number of bytes of the envelope
+	 */
+	public void store(Pending pending, String contentType, byte[] body, int length) {
+		int timestampOffset = startsWithTimestamp(body, length) ? TIMESTAMP_PREFIX.length : -1;
+		Entry entry = new Entry(pending.path, contentType, Arrays.copyOf(body, length), timestampOffset,
+				System.nanoTime() + pending.ttlNanos);
+		long weight = weight(pending.key, entry);
+		if (weight > maxBytes) {
+			return;
+		}
+		synchronized (entries) {
+			remove(pending.key);
+			entries.put(pending.key, entry);
+			bytes += weight;
+			Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+			while (bytes > maxBytes && eldest.hasNext()) {
+				Map.Entry<String, Entry> evicted = eldest.next();
+				eldest.remove();
+				bytes -= weight(evicted.getKey(), evicted.getValue());
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Drop the envelopes cached for a path, the paths under it and the paths above it.
+	 *
+	 * @param path	the request URI written to
+	 */
+	public void invalidate(String path) {
+		synchronized (entries) {
+			Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<String, Entry> entry = iterator.next();
+				String cached = entry.getValue().path;
+				if (cached.equals(path) || isUnder(cached, path) || isUnder(path, cached)) {
+					iterator.remove();
+					bytes -= weight(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drop every cached envelope.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+			bytes = 0;
+		}
+	}
+
+	/**
+	 * Write a cached envelope with the current timestamp.
+	 *
+	 * @param entry		Entry @see Entry returned by @see #lookup(String)
+	 * @param request	HttpServletRequest @see HttpServletRequest
+	 * @param response	HttpServletResponse @see HttpServletResponse
+	 * @throws IOException	If writing fails
+	 */
+	public void replay(Entry entry, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(entry.contentType);
+		byte[] timestamp = ResponseClock.current().timestamp().getBytes();
+		ContentCoding coding = null;
+		if (compressor != null) {
+			response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			coding = compressor.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+		}
+		if (coding == null || entry.body.length < compressor.getMinSize()) {
+			response.setContentLength(entry.body.length);
+			entry.writeTo(response.getOutputStream(), timestamp);
+			return;
+		}
+		try (PooledBuffer buffer = PooledBuffer.acquire()) {
+			entry.writeTo(buffer, timestamp);
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+			compressor.compress(buffer.array(), buffer.size(), coding, response.getOutputStream());
+		}
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return bytes taken up by the cached envelopes and their keys
+	 */
+	public long getBytes() {
+		synchronized (entries) {
+			return bytes;
+		}
+	}
+
+	public int getEntries() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private void remove(String key) {
+		Entry removed = entries.remove(key);
+		if (removed != null) {
+			bytes -= weight(key, removed);
+		}
+	}
+
+	private static void appendHeader(StringBuilder key, String name, String value) {
+		if (value != null) {
+			key.append('\n').append(name).append(':').append(encode(value));
+		}
+	}
+
+	private static String encode(String value) {
+		return UriUtils.encode(value, StandardCharsets.UTF_8);
+	}
+
+	private static long weight(String key, Entry entry) {
+		return ENTRY_OVERHEAD + 2L * key.length() + entry.body.length;
+	}
+
+	private static boolean isUnder(String path, String parent) {
+		return path.length() > parent.length() && path.startsWith(parent)
+				&& (parent.endsWith("/") || path.charAt(parent.length()) == '/');
+	}
+
+	private static boolean startsWithTimestamp(byte[] body, int length) {
+		if (length < TIMESTAMP_PREFIX.length + TIMESTAMP_WIDTH) {
+			return false;
+		}
+		for (int i = 0; i < TIMESTAMP_PREFIX.length; i++) {
+			if (body[i] != TIMESTAMP_PREFIX[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Store to make once the handler of a missed request has run.
+	 */
+	public static final class Pending {
+
+		final String key;
+		final String path;
+		final long ttlNanos;
+
+		public Pending(String key, String path, long ttlNanos) {
+			this.key = key;
+			this.path = path;
+			this.ttlNanos = ttlNanos;
+		}
+	}
+
+	/**
+	 * A cached envelope and the offset of its timestamp value, -1 if it has none.
+	 */
+	public static final class Entry {
+
+		final String path;
+		final String contentType;
+		final byte[] body;
+		final int timestampOffset;
+		final long expiresAt;
+
+		Entry(String path, String contentType, byte[] body, int timestampOffset, long expiresAt) {
+			this.path = path;
+			this.contentType = contentType;
+			this.body = body;
+			this.timestampOffset = timestampOffset;
+			this.expiresAt = expiresAt;
+		}
+
+		void writeTo(OutputStream out, byte[] timestamp) throws IOException {
+			if (timestampOffset < 0 || timestamp.length != TIMESTAMP_WIDTH) {
+				out.write(body);
+				return;
+			}
+			out.write(body, 0, timestampOffset);
+			out.write(timestamp, 0, TIMESTAMP_WIDTH);
+			int tail = timestampOffset + TIMESTAMP_WIDTH;
+			out.write(body, tail, body.length - tail);
+		}
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Replays the envelopes the @see ResponseCache holds for <code>GET</code> requests to handlers
+ * annotated with @see CachedResponse, and flags the missed ones for the converter to store.
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+
+	private final ResponseCache cache;
+
+	public ResponseCacheInterceptor(ResponseCache cache) {
+		this.cache = cache;
+	}
+
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+		if (!(handler instanceof HandlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+			return true;
+		}
+		HandlerMethod handlerMethod = (HandlerMethod) handler;
+		CachedResponse cached = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), CachedResponse.class);
+		if (cached == null) {
+			cached = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), CachedResponse.class);
+		}
+		if (cached == null) {
+			return true;
+		}
+		String key = ResponseCache.key(request, cached.headers(), cached.shared());
+		ResponseCache.Entry entry = cache.lookup(key);
+		if (entry != null) {
+			cache.replay(entry, request, response);
+			return false;
+		}
+		request.setAttribute(ResponseCache.PENDING_ATTRIBUTE,
+				new ResponseCache.Pending(key, request.getRequestURI(), cached.timeUnit().toNanos(cached.ttl())));
+		return true;
+	}
+
+}
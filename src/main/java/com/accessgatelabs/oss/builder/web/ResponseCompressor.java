@@ -0,0 +1,368 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.springframework.util.StringUtils;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdOutputStream;
+
+/**
+ * Compression of response bodies, used by @see StateServiceResponseHttpMessageConverter.
+ *
+ * <p>
+ * 		The coding is picked from the <code>Accept-Encoding</code> header of the request, by
+ * 		quality value then by the order of the codings given to the compressor. The choice is
+ * 		cached per distinct header value, as clients send only a handful of them.
+ * </p>
+ *
+ * <p>
+ * 		An envelope is first written to a buffer. Below <code>minSize</code> bytes it is sent as
+ * 		is, with its <code>Content-Length</code>: compressing a few hundred bytes costs more time
+ * 		than it saves on the wire, see the <code>CompressionBenchmark</code>. Above, it is compressed
+ * 		in one go. Streamed results, whose size is unknown, are compressed as they are written.
+ * </p>
+ *
+ * <p>
+ * 		Compressors are expensive to set up, mostly for their native state, so each thread keeps
+ * 		and resets its own @see Deflater, zstd context and output chunk instead of creating them
+ * 		per response. Bodies are buffered, and compressed by zstd, into arrays of the @see BufferPool.
+ * </p>
+ *
+ * <p>
+ * 		With a @see ZstdDictionary, clients holding it get their envelopes compressed against it
+ * 		from a lower minimum size, as the dictionary makes even small envelopes shrink.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class ResponseCompressor {
+
+	public static final int DEFAULT_MIN_SIZE = 1024;
+
+	private static final int ZSTD_LEVEL = 3;
+
+	private static final int CHUNK_SIZE = 8192;
+
+	private static final int NEGOTIATION_CACHE_LIMIT = 64;
+
+	/*
+	 * Header of a gzip member without name, comment nor modification time, as the JDK writes it.
+	 */
+	private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+	private final int minSize;
+
+	private final List<ContentCoding> codings;
+
+	private final ConcurrentMap<String, Optional<ContentCoding>> negotiated = new ConcurrentHashMap<>();
+
+	private final ThreadLocal<Deflater> gzipDeflaters = ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+
+	private final ThreadLocal<Deflater> deflateDeflaters = ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, false));
+
+	private final ThreadLocal<byte[]> chunks = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+	private ZstdDictionary dictionary;
+
+	private int dictionaryMinSize;
+
+	/**
+	 * @param minSize	size in bytes from which bodies are compressed
+	 * @param codings	ContentCoding @see ContentCoding offered, by order of preference; the unavailable ones are ignored
+	 */
+	public ResponseCompressor(int minSize, Collection<ContentCoding> codings) {
+		this.minSize = minSize;
+		this.codings = new ArrayList<>();
+		for (ContentCoding coding : codings) {
+			if (coding.isAvailable()) {
+				this.codings.add(coding);
+			}
+		}
+	}
+
+
+	public int getMinSize() {
+		return minSize;
+	}
+
+	/**
+	 * Compress bodies against a dictionary for the clients holding it, when zstd is the
+	 * coding picked.
+	 *
+	 * @param dictionary	ZstdDictionary @see ZstdDictionary, null for none
+	 * @param minSize		size in bytes from which bodies are compressed against the dictionary
+	 */
+	public void setDictionary(ZstdDictionary dictionary, int minSize) {
+		this.dictionary = dictionary;
+		this.dictionaryMinSize = minSize;
+	}
+
+	public ZstdDictionary getDictionary() {
+		return dictionary;
+	}
+
+	public int getDictionaryMinSize() {
+		return dictionaryMinSize;
+	}
+
+	/**
+	 * @param coding			ContentCoding @see ContentCoding picked by @see #select(String)
+	 * @param dictionaryHeader	the @see ZstdDictionary#HEADER header of the request, may be null
+	 * @return whether the body is compressed against the dictionary
+	 */
+	public boolean usesDictionary(ContentCoding coding, String dictionaryHeader) {
+		return coding == ContentCoding.ZSTD && dictionary != null && dictionary.isHeldBy(dictionaryHeader);
+	}
+
+	/**
+	 * Pick the coding of a response.
+	 *
+	 * @param acceptEncoding	the <code>Accept-Encoding</code> header of the request, may be null
+	 * @return the coding, or null if the client accepts none of the offered ones
+	 */
+	public ContentCoding select(String acceptEncoding) {
+		if (!StringUtils.hasText(acceptEncoding) || codings.isEmpty()) {
+			return null;
+		}
+		Optional<ContentCoding> coding = negotiated.get(acceptEncoding);
+		if (coding == null) {
+			coding = Optional.ofNullable(negotiate(acceptEncoding));
+			if (negotiated.size() < NEGOTIATION_CACHE_LIMIT) {
+				negotiated.putIfAbsent(acceptEncoding, coding);
+			}
+		}
+		return coding.orElse(null);
+	}
+
+	/**
+	 * Compress a body in one go.
+	 *
+	 * @param body		the body
+	 * @param length	number of bytes of the body
+	 * @param coding	ContentCoding @see ContentCoding to apply
+	 * @param out		where to write the compressed body
+	 * @throws IOException	If writing fails
+	 */
+	public void compress(byte[] body, int length, ContentCoding coding, OutputStream out) throws IOException {
+		switch (coding) {
+		case GZIP:
+			CRC32 crc = new CRC32();
+			crc.update(body, 0, length);
+			out.write(GZIP_HEADER);
+			deflate(gzipDeflaters.get(), body, length, out);
+			writeIntLE(out, (int) crc.getValue());
+			writeIntLE(out, length);
+			break;
+		case DEFLATE:
+			deflate(deflateDeflaters.get(), body, length, out);
+			break;
+		case ZSTD:
+			ZstdCodec.compress(body, length, out);
+			break;
+		default:
+			out.write(body, 0, length);
+		}
+	}
+
+	/**
+	 * Wrap a stream so that what is written to it is compressed. Closing the returned
+	 * stream ends the compressed data; for zstd it also closes the given stream.
+	 *
+	 * @param coding	ContentCoding @see ContentCoding to apply
+	 * @param out		where to write the compressed data
+	 * @return the compressing stream
+	 * @throws IOException	If writing fails
+	 */
+	public OutputStream compressing(ContentCoding coding, OutputStream out) throws IOException {
+		switch (coding) {
+		case GZIP:
+			return new GzipStream(out, gzipDeflaters.get());
+		case DEFLATE:
+			return new PooledDeflaterStream(out, deflateDeflaters.get());
+		case ZSTD:
+			return ZstdCodec.compressing(out);
+		default:
+			return out;
+		}
+	}
+
+
+	private ContentCoding negotiate(String acceptEncoding) {
+		ContentCoding best = null;
+		float bestQuality = 0;
+		float wildcard = -1;
+		// The wildcard only speaks for codings the client did not list, q=0 ones included
+		EnumSet<ContentCoding> listed = EnumSet.noneOf(ContentCoding.class);
+		for (String element : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+			String[] parts = StringUtils.tokenizeToStringArray(element, ";");
+			float quality = 1;
+			for (int i = 1; i < parts.length; i++) {
+				if (parts[i].regionMatches(true, 0, "q=", 0, 2)) {
+					try {
+						quality = Float.parseFloat(parts[i].substring(2));
+					} catch (NumberFormatException ex) {
+						quality = 0;
+					}
+				}
+			}
+			if ("*".equals(parts[0])) {
+				wildcard = quality;
+				continue;
+			}
+			ContentCoding coding = ContentCoding.forToken(parts[0]);
+			if (coding != null) {
+				listed.add(coding);
+			}
+			if (coding != null && codings.contains(coding) && (quality > bestQuality
+					|| (quality == bestQuality && best != null && codings.indexOf(coding) < codings.indexOf(best)))) {
+				best = coding;
+				bestQuality = quality;
+			}
+		}
+		if (wildcard > bestQuality) {
+			for (ContentCoding coding : codings) {
+				if (!listed.contains(coding)) {
+					return coding;
+				}
+			}
+		}
+		return best;
+	}
+
+	private void deflate(Deflater deflater, byte[] body, int length, OutputStream out) throws IOException {
+		byte[] chunk = chunks.get();
+		try {
+			deflater.setInput(body, 0, length);
+			deflater.finish();
+			while (!deflater.finished()) {
+				int written = deflater.deflate(chunk);
+				out.write(chunk, 0, written);
+			}
+		} finally {
+			deflater.reset();
+		}
+	}
+
+	private static void writeIntLE(OutputStream out, int value) throws IOException {
+		out.write(value & 0xff);
+		out.write((value >>> 8) & 0xff);
+		out.write((value >>> 16) & 0xff);
+		out.write((value >>> 24) & 0xff);
+	}
+
+
+	/**
+	 * Deflate stream on a pooled @see Deflater, reset instead of ended once finished.
+	 */
+	private static class PooledDeflaterStream extends DeflaterOutputStream {
+
+		private boolean closed;
+
+		PooledDeflaterStream(OutputStream out, Deflater deflater) {
+			super(out, deflater, CHUNK_SIZE, true);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!closed) {
+				closed = true;
+				try {
+					finish();
+					writeTrailer();
+					out.flush();
+				} finally {
+					def.reset();
+				}
+			}
+		}
+
+		void writeTrailer() throws IOException {
+		}
+	}
+
+	/**
+	 * gzip stream on a pooled @see Deflater.
+	 */
+	private static final class GzipStream extends PooledDeflaterStream {
+
+		private final CRC32 crc = new CRC32();
+
+		GzipStream(OutputStream out, Deflater deflater) throws IOException {
+			super(out, deflater);
+			out.write(GZIP_HEADER);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			super.write(b, off, len);
+			crc.update(b, off, len);
+		}
+
+		@Override
+		void writeTrailer() throws IOException {
+			writeIntLE(out, (int) crc.getValue());
+			writeIntLE(out, (int) def.getBytesRead());
+		}
+	}
+
+	/*
+	 * Only loaded when zstd is offered, which requires zstd-jni on the classpath.
+	 */
+	private static final class ZstdCodec {
+
+		private static final ThreadLocal<ZstdCompressCtx> CONTEXTS = ThreadLocal.withInitial(() -> {
+			ZstdCompressCtx context = new ZstdCompressCtx();
+			context.setLevel(ZSTD_LEVEL);
+			return context;
+		});
+
+		static void compress(byte[] body, int length, OutputStream out) throws IOException {
+			BufferPool pool = BufferPool.current();
+			byte[] output = pool.acquire((int) Zstd.compressBound(length));
+			try {
+				int written = CONTEXTS.get().compressByteArray(output, 0, output.length, body, 0, length);
+				out.write(output, 0, written);
+			} finally {
+				pool.release(output);
+			}
+		}
+
+		static OutputStream compressing(OutputStream out) throws IOException {
+			return new ZstdOutputStream(out, ZSTD_LEVEL);
+		}
+	}
+
+}
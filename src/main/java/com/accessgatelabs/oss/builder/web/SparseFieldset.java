@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+
+/**
+ * Client-selected subset of the fields of an envelope, applied while it is written.
+ *
+ * <p>
+ * 		The client lists the fields it reads in the <code>fields</code> query parameter, or the
+ * 		<code>X-Fields</code> header, as comma-separated dotted paths of the wire names:
+ * </p>
+ *
+ * <pre>
+ * GET /users?fields=api.responseCode,result.id,result.name
+ * </pre>
+ *
+ * <p>
+ * 		A path applies to every element of the arrays it goes through, so <code>result.id</code>
+ * 		keeps the id of each user of a list. The expression is compiled into a tree of
+ * 		@see TokenFilter, cached per distinct expression, and the generator writing the envelope is
+ * 		wrapped in a @see FilteringGeneratorDelegate: fields left out are skipped as they are
+ * 		written, the envelope and its result are never built in full and then pruned.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class SparseFieldset {
+
+	public static final String PARAMETER = "fields";
+
+	public static final String HEADER = "X-Fields";
+
+	/*
+	 * Expressions come from clients, past this many distinct ones they are compiled per call.
+	 */
+	private static final int CACHE_LIMIT = 256;
+
+	private static final ConcurrentMap<String, TokenFilter> CACHE = new ConcurrentHashMap<>();
+
+	private SparseFieldset() {
+	}
+
+
+	/**
+	 * Return the filter of the fields requested by the current servlet request.
+	 *
+	 * @return the filter, or null if the request selects no fields or there is no current request
+	 */
+	public static TokenFilter current() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (!(attributes instanceof ServletRequestAttributes)) {
+			return null;
+		}
+		return requested(((ServletRequestAttributes) attributes).getRequest());
+	}
+
+	/**
+	 * Return the filter of the fields requested by a servlet request.
+	 *
+	 * @param request	HttpServletRequest @see HttpServletRequest
+	 * @return the filter, or null if the request selects no fields
+	 */
+	public static TokenFilter requested(HttpServletRequest request) {
+		String expression = request.getParameter(PARAMETER);
+		if (expression == null) {
+			expression = request.getHeader(HEADER);
+		}
+		return compile(expression);
+	}
+
+	/**
+	 * Compile a fields expression.
+	 *
+	 * @param expression	comma-separated dotted paths
+	 * @return the filter, or null if the expression selects no fields
+	 */
+	public static TokenFilter compile(String expression) {
+		if (!StringUtils.hasText(expression)) {
+			return null;
+		}
+		TokenFilter filter = CACHE.get(expression);
+		if (filter == null) {
+			filter = parse(expression);
+			if (CACHE.size() < CACHE_LIMIT) {
+				CACHE.putIfAbsent(expression, filter);
+			}
+		}
+		return filter;
+	}
+
+	/**
+	 * Wrap a generator so that it only writes the fields selected by a filter.
+	 *
+	 * @param generator	JsonGenerator @see JsonGenerator
+	 * @param filter	TokenFilter @see TokenFilter, may be null
+	 * @return the filtering generator, or the generator itself if there is no filter
+	 */
+	public static JsonGenerator filter(JsonGenerator generator, TokenFilter filter) {
+		return filter != null ? new FilteringGeneratorDelegate(generator, filter, true, true) : generator;
+	}
+
+	private static TokenFilter parse(String expression) {
+		FieldsFilter root = new FieldsFilter();
+		for (String path : StringUtils.tokenizeToStringArray(expression, ",")) {
+			FieldsFilter node = root;
+			String[] names = StringUtils.tokenizeToStringArray(path, ".");
+			for (int i = 0; i < names.length; i++) {
+				if (i == names.length - 1) {
+					node.children.put(names[i], TokenFilter.INCLUDE_ALL);
+					break;
+				}
+				TokenFilter child = node.children.get(names[i]);
+				if (child == TokenFilter.INCLUDE_ALL) {
+					// A shorter path already selects the whole field
+					break;
+				}
+				if (child == null) {
+					child = new FieldsFilter();
+					node.children.put(names[i], child);
+				}
+				node = (FieldsFilter) child;
+			}
+		}
+		return root;
+	}
+
+
+	/**
+	 * A node of the compiled tree: the selected properties of an object, applied
+	 * alike to each element of an array.
+	 */
+	static final class FieldsFilter extends TokenFilter {
+
+		final Map<String, TokenFilter> children = new LinkedHashMap<>();
+
+		@Override
+		public TokenFilter includeProperty(String name) {
+			return children.get(name);
+		}
+
+		@Override
+		public TokenFilter includeElement(int index) {
+			return this;
+		}
+
+		@Override
+		public String toString() {
+			return "FieldsFilter" + children.keySet();
+		}
+	}
+
+}
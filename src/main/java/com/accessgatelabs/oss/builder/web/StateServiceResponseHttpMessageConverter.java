@@ -0,0 +1,422 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.models.StreamingResult;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * @see org.springframework.http.converter.HttpMessageConverter writing @see StateServiceResponse
+ * envelopes straight onto the response stream.
+ *
+ * <p>
+ * 		The envelope is written by a @see JsonGenerator opened on the servlet output stream,
+ * 		whose buffers Jackson recycles per thread, through an @see ObjectWriter whose root
+ * 		serializer is resolved once. There is no intermediate byte array and no per-call
+ * 		serializer lookup, view or filter handling, which only the generic
+ * 		@see org.springframework.http.converter.json.MappingJackson2HttpMessageConverter needs.
+ * </p>
+ *
+ * <p>
+ * 		When the request has no <code>Accept</code> header or asks for <code>application/json</code>,
+ * 		the media type is accepted without going through the supported media types. Other JSON
+ * 		media types (<code>application/*+json</code>) are checked as usual. Bodies wrapped for
+ * 		<code>@JsonView</code> are left to the generic converter.
+ * </p>
+ *
+ * <p>
+ * 		Binary encodings of the same envelope, such as CBOR, Smile or MessagePack, are added with
+ * 		@see #addEncoding(MediaType, ObjectMapper) and selected by the <code>Accept</code> header.
+ * 		JSON stays first among the supported media types, so it is the encoding produced when
+ * 		the client accepts anything. The envelope keys are written from pre-encoded
+ * 		@see com.fasterxml.jackson.core.SerializableString names, and Smile additionally
+ * 		back-references repeated keys.
+ * </p>
+ *
+ * <p>
+ * 		Clients asking for <code>application/x-ndjson</code> get the envelope as JSON lines,
+ * 		see @see NdjsonEnvelopeWriter.
+ * </p>
+ *
+ * <p>
+ * 		JSON envelopes holding nothing but a @see ServiceResponse constant, as returned by
+ * 		<code>ServiceResponse.DELETED.buildResponse()</code>, are copied from the template of
+ * 		@see PrerenderedResponses when it was rendered with the same @see ObjectMapper.
+ * </p>
+ *
+ * <p>
+ * 		Every encoding but NDJSON only writes the fields the request selects, see @see SparseFieldset.
+ * </p>
+ *
+ * <p>
+ * 		With a @see ResponseCompressor, envelopes are compressed with the coding named by the
+ * 		<code>Accept-Encoding</code> header of the request, once they reach its minimum size.
+ * 		When the compressor has a @see ZstdDictionary, responses advertise it and envelopes
+ * 		are compressed against it for the clients holding it.
+ * </p>
+ *
+ * <p>
+ * 		With @see EnvelopeEtags, @see ServiceResponse#FETCHED JSON envelopes are buffered to be
+ * 		tagged with an ETag ignoring their timestamp and naming their content coding, and a
+ * 		matching <code>If-None-Match</code> gets a <code>304 Not Modified</code> without body.
+ * 		With a @see ResponseCache, they are also stored when the handler is annotated with
+ * 		@see CachedResponse.
+ * </p>
+ *
+ * <p>
+ * 		Envelopes are buffered into a @see PooledBuffer, which moves them to direct memory rather
+ * 		than into a heap array larger than the off-heap threshold. Such envelopes are neither
+ * 		cached nor compressed against a dictionary, and are compressed as a stream.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public class StateServiceResponseHttpMessageConverter extends AbstractHttpMessageConverter<StateServiceResponse> {
+
+	/**
+	 * Default size of the largest heap buffer envelopes are written into.
+	 */
+	public static final int DEFAULT_OFF_HEAP_THRESHOLD = 1 << 20;
+
+	/**
+	 * Default size of the direct segments an envelope is written into before spilling to disk.
+	 */
+	public static final long DEFAULT_MEMORY_BUDGET = 32L << 20;
+
+	private static final MediaType APPLICATION_ANY_JSON = new MediaType("application", "*+json");
+
+	private final List<Encoding> encodings = new ArrayList<>();
+
+	private final NdjsonEnvelopeWriter ndjsonWriter;
+
+	private ResponseCompressor compressor;
+
+	private EnvelopeEtags etags;
+
+	private ResponseCache responseCache;
+
+	private int offHeapThreshold = DEFAULT_OFF_HEAP_THRESHOLD;
+
+	private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+	private Path spillDirectory;
+
+	public StateServiceResponseHttpMessageConverter(ObjectMapper objectMapper) {
+		super(MediaType.APPLICATION_JSON, APPLICATION_ANY_JSON, NdjsonEnvelopeWriter.APPLICATION_NDJSON);
+		this.encodings.add(new Encoding(APPLICATION_ANY_JSON, objectMapper));
+		this.ndjsonWriter = new NdjsonEnvelopeWriter(objectMapper);
+	}
+
+
+	/**
+	 * Add an encoding of the envelope, written by an @see ObjectMapper whose factory
+	 * produces that encoding.
+	 *
+	 * <pre>
+	 * converter.addEncoding(MediaType.APPLICATION_CBOR, new ObjectMapper(new CBORFactory()));
+	 * </pre>
+	 *
+	 * @param mediaType		MediaType @see MediaType of the encoding
+	 * @param objectMapper	ObjectMapper @see ObjectMapper writing the encoding
+	 */
+	public void addEncoding(MediaType mediaType, ObjectMapper objectMapper) {
+		List<MediaType> supportedMediaTypes = new ArrayList<>(getSupportedMediaTypes());
+		supportedMediaTypes.add(mediaType);
+		setSupportedMediaTypes(supportedMediaTypes);
+		encodings.add(encodings.size() - 1, new Encoding(mediaType, objectMapper));
+	}
+
+	/**
+	 * Compress the envelopes with the coding the client accepts.
+	 *
+	 * @param compressor	ResponseCompressor @see ResponseCompressor, null to leave envelopes uncompressed
+	 */
+	public void setCompressor(ResponseCompressor compressor) {
+		this.compressor = compressor;
+	}
+
+	/**
+	 * Tag @see ServiceResponse#FETCHED JSON envelopes and answer the requests already holding
+	 * them with a <code>304 Not Modified</code>.
+	 *
+	 * @param etags	EnvelopeEtags @see EnvelopeEtags remembering the ETags sent, null to leave envelopes untagged
+	 */
+	public void setEtags(EnvelopeEtags etags) {
+		this.etags = etags;
+	}
+
+	/**
+	 * Store the @see ServiceResponse#FETCHED JSON envelopes of the requests flagged by
+	 * @see ResponseCacheInterceptor, and drop the ones a @see ServiceResponse#UPDATED or
+	 * @see ServiceResponse#DELETED envelope makes stale.
+	 *
+	 * @param responseCache	ResponseCache @see ResponseCache, null to cache nothing
+	 */
+	public void setResponseCache(ResponseCache responseCache) {
+		this.responseCache = responseCache;
+	}
+
+	/**
+	 * Largest heap buffer envelopes are written into. Larger envelopes move to direct segments
+	 * of the @see BufferPool and are handed to the container through NIO, see @see PooledBuffer.
+	 *
+	 * @param offHeapThreshold	size in bytes, @see #DEFAULT_OFF_HEAP_THRESHOLD by default
+	 */
+	public void setOffHeapThreshold(int offHeapThreshold) {
+		this.offHeapThreshold = offHeapThreshold;
+	}
+
+	/**
+	 * Memory an envelope may take up in direct segments. Larger envelopes spill to a temporary
+	 * file and are streamed from it, see @see PooledBuffer.
+	 *
+	 * @param memoryBudget	size in bytes, @see #DEFAULT_MEMORY_BUDGET by default
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * @param spillDirectory	directory of the spill files, null for the default temporary directory
+	 */
+	public void setSpillDirectory(Path spillDirectory) {
+		this.spillDirectory = spillDirectory;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return StateServiceResponse.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+		if (!supports(clazz)) {
+			return false;
+		}
+		if (mediaType == null || MediaType.APPLICATION_JSON.equalsTypeAndSubtype(mediaType)) {
+			return true;
+		}
+		return canWrite(mediaType);
+	}
+
+	@Override
+	protected StateServiceResponse readInternal(Class<? extends StateServiceResponse> clazz, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+		throw new HttpMessageNotReadableException("StateServiceResponse is only written by " + getClass().getSimpleName(),
+				inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(StateServiceResponse response, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+		HttpHeaders headers = outputMessage.getHeaders();
+		MediaType contentType = headers.getContentType();
+		boolean ndjson = contentType != null && NdjsonEnvelopeWriter.APPLICATION_NDJSON.equalsTypeAndSubtype(contentType);
+		HttpServletRequest request = currentRequest();
+		boolean fetchedJson = isFetched(response) && !ndjson && encoding(contentType) == encodings.get(encodings.size() - 1);
+		String etagKey = null;
+		if (etags != null && request != null) {
+			if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+				etags.invalidate(request.getRequestURI());
+			} else if (fetchedJson) {
+				etagKey = EnvelopeEtags.key(request);
+			}
+		}
+		ResponseCache.Pending pending = null;
+		if (responseCache != null && request != null) {
+			if (isWrite(response)) {
+				responseCache.invalidate(request.getRequestURI());
+			} else if (fetchedJson) {
+				pending = (ResponseCache.Pending) request.getAttribute(ResponseCache.PENDING_ATTRIBUTE);
+			}
+		}
+		ContentCoding coding = null;
+		if (compressor != null) {
+			headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			coding = compressor.select(requestHeader(request, HttpHeaders.ACCEPT_ENCODING));
+			if (compressor.getDictionary() != null) {
+				headers.add(HttpHeaders.VARY, ZstdDictionary.HEADER);
+				headers.set(ZstdDictionary.HEADER, compressor.getDictionary().getId());
+			}
+		}
+		boolean streamed = ndjson || response.getObjectAsResponse() instanceof StreamingResult;
+		if (streamed || coding == null && etagKey == null && pending == null) {
+			if (coding == null) {
+				writeEnvelope(response, contentType, ndjson, StreamUtils.nonClosing(outputMessage.getBody()));
+				return;
+			}
+			// The size of a streamed body is unknown, it is compressed as it is written
+			headers.set(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+			try (OutputStream compressed = compressor.compressing(coding, StreamUtils.nonClosing(outputMessage.getBody()))) {
+				writeEnvelope(response, contentType, ndjson, StreamUtils.nonClosing(compressed));
+			}
+			return;
+		}
+
+		try (PooledBuffer buffer = PooledBuffer.acquire(offHeapThreshold, memoryBudget, spillDirectory)) {
+			writeEnvelope(response, contentType, false, StreamUtils.nonClosing(buffer));
+			if (pending != null && !buffer.isOffHeap()) {
+				responseCache.store(pending, contentType != null ? contentType.toString() : MediaType.APPLICATION_JSON_VALUE,
+						buffer.array(), buffer.size());
+			}
+			boolean dictionary = coding != null && !buffer.isOffHeap()
+					&& compressor.usesDictionary(coding, requestHeader(request, ZstdDictionary.HEADER));
+			if (coding != null
+					&& buffer.size() < (dictionary ? compressor.getDictionaryMinSize() : compressor.getMinSize())) {
+				coding = null;
+			}
+			if (etagKey != null) {
+				String etag = EnvelopeEtags.encoded(EnvelopeEtags.compute(buffer), coding == null ? null
+						: dictionary ? coding.getToken() + '-' + compressor.getDictionary().getId() : coding.getToken());
+				headers.setETag(etag);
+				etags.store(etagKey, etag);
+				if (EnvelopeEtags.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)
+						&& outputMessage instanceof ServerHttpResponse) {
+					((ServerHttpResponse) outputMessage).setStatusCode(HttpStatus.NOT_MODIFIED);
+					headers.remove(HttpHeaders.CONTENT_TYPE);
+					return;
+				}
+			}
+			if (coding == null) {
+				headers.setContentLength(buffer.size());
+				buffer.writeTo(outputMessage.getBody());
+			} else if (buffer.isOffHeap()) {
+				headers.set(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+				try (OutputStream compressed = compressor.compressing(coding, StreamUtils.nonClosing(outputMessage.getBody()))) {
+					buffer.writeTo(compressed);
+				}
+			} else if (dictionary) {
+				headers.set(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+				compressor.getDictionary().compress(buffer.array(), buffer.size(), outputMessage.getBody());
+			} else {
+				headers.set(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+				compressor.compress(buffer.array(), buffer.size(), coding, outputMessage.getBody());
+			}
+		}
+	}
+
+	private void writeEnvelope(StateServiceResponse response, MediaType contentType, boolean ndjson, OutputStream body)
+			throws IOException {
+		if (ndjson) {
+			ndjsonWriter.write(response, body);
+			return;
+		}
+		Encoding encoding = encoding(contentType);
+		TokenFilter fields = SparseFieldset.current();
+		if (fields == null && encoding == encodings.get(encodings.size() - 1)
+				&& PrerenderedResponses.write(response, encoding.objectMapper, body)) {
+			return;
+		}
+		try (JsonGenerator generator = SparseFieldset.filter(
+				encoding.objectMapper.getFactory().createGenerator(body), fields)) {
+			if (response.getClass() == StateServiceResponse.class) {
+				encoding.writer.writeValue(generator, response);
+			} else {
+				encoding.objectMapper.writeValue(generator, response);
+			}
+		}
+	}
+
+	private static boolean isFetched(StateServiceResponse response) {
+		return response.getApiServiceResponse() != null
+				&& response.getApiServiceResponse().getServiceResponse() == ServiceResponse.FETCHED;
+	}
+
+	private static boolean isWrite(StateServiceResponse response) {
+		return response.getApiServiceResponse() != null
+				&& (response.getApiServiceResponse().getServiceResponse() == ServiceResponse.UPDATED
+						|| response.getApiServiceResponse().getServiceResponse() == ServiceResponse.DELETED);
+	}
+
+	private static HttpServletRequest currentRequest() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (!(attributes instanceof ServletRequestAttributes)) {
+			return null;
+		}
+		return ((ServletRequestAttributes) attributes).getRequest();
+	}
+
+	private static String requestHeader(HttpServletRequest request, String name) {
+		return request != null ? request.getHeader(name) : null;
+	}
+
+	/*
+	 * The binary encodings come first, the JSON one last as it matches application/*+json.
+	 */
+	private Encoding encoding(MediaType contentType) {
+		if (contentType != null) {
+			for (Encoding encoding : encodings) {
+				if (encoding.mediaType.includes(contentType)) {
+					return encoding;
+				}
+			}
+		}
+		return encodings.get(encodings.size() - 1);
+	}
+
+
+	private static final class Encoding {
+
+		final MediaType mediaType;
+		final ObjectMapper objectMapper;
+		final ObjectWriter writer;
+
+		Encoding(MediaType mediaType, ObjectMapper objectMapper) {
+			this.mediaType = mediaType;
+			this.objectMapper = objectMapper;
+			this.writer = objectMapper.writerFor(StateServiceResponse.class);
+		}
+	}
+
+}
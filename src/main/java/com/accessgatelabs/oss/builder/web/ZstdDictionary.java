@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+
+/**
+ * Zstandard dictionary trained on captured envelopes, for instance with the
+ * <code>ZstdDictionaryTrainer</code> tool of the benchmarks module.
+ *
+ * <p>
+ * 		Envelopes of a few hundred bytes barely shrink with a generic compressor, yet their
+ * 		field names and most of their values repeat from one response to the next. Compressed
+ * 		against a dictionary holding them, only what differs is left to encode.
+ * </p>
+ *
+ * <p>
+ * 		A client cannot decode such a body without the dictionary, so it is only used for
+ * 		clients that opt in. Responses advertise the dictionary ID in the @see #HEADER header
+ * 		and @see ZstdDictionaryController serves the dictionary itself. A client holding it
+ * 		sends its ID back in that same header, alongside <code>Accept-Encoding: zstd</code>.
+ * 		The body then remains a regular <code>zstd</code> frame, whose header names the
+ * 		dictionary it was compressed with.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+public final class ZstdDictionary {
+
+	/**
+	 * Header advertising the dictionary ID in responses, and naming the dictionary held
+	 * by the client in requests.
+	 */
+	public static final String HEADER = "Zstd-Dictionary";
+
+	private static final int LEVEL = 3;
+
+	private final byte[] bytes;
+
+	private final String id;
+
+	private final ZstdDictCompress compressDictionary;
+
+	private final ThreadLocal<ZstdCompressCtx> contexts;
+
+	private ZstdDictionary(byte[] bytes) {
+		long dictionaryId = Zstd.getDictIdFromDict(bytes);
+		if (dictionaryId == 0) {
+			throw new IllegalArgumentException("Not a trained zstd dictionary");
+		}
+		this.bytes = bytes;
+		this.id = Long.toString(dictionaryId);
+		this.compressDictionary = new ZstdDictCompress(bytes, LEVEL);
+		this.contexts = ThreadLocal.withInitial(() -> {
+			ZstdCompressCtx context = new ZstdCompressCtx();
+			context.setLevel(LEVEL);
+			context.loadDict(compressDictionary);
+			return context;
+		});
+	}
+
+
+	/**
+	 * @param bytes	the dictionary, as trained by <code>zstd --train</code> or <code>ZstdDictTrainer</code>
+	 * @return the dictionary
+	 * @throws IllegalArgumentException	If the bytes are not a trained dictionary
+	 */
+	public static ZstdDictionary of(byte[] bytes) {
+		return new ZstdDictionary(bytes.clone());
+	}
+
+	/**
+	 * @param resource	Resource @see Resource holding the dictionary
+	 * @return the dictionary
+	 * @throws IOException	If the resource cannot be read
+	 * @throws IllegalArgumentException	If the resource is not a trained dictionary
+	 */
+	public static ZstdDictionary load(Resource resource) throws IOException {
+		try (InputStream in = resource.getInputStream()) {
+			return new ZstdDictionary(StreamUtils.copyToByteArray(in));
+		}
+	}
+
+	/**
+	 * @return the dictionary ID, in decimal, as carried by the @see #HEADER header
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * @return a copy of the dictionary
+	 */
+	public byte[] getBytes() {
+		return bytes.clone();
+	}
+
+	/**
+	 * @param header	the @see #HEADER header of the request, may be null
+	 * @return whether the client holds this dictionary
+	 */
+	public boolean isHeldBy(String header) {
+		return header != null && id.equals(header.trim());
+	}
+
+	/**
+	 * Compress a body against the dictionary, as one <code>zstd</code> frame.
+	 *
+	 * @param body		the body
+	 * @param length	number of bytes of the body
+	 * @param out		where to write the compressed body
+	 * @throws IOException	If writing fails
+	 */
+	public void compress(byte[] body, int length, OutputStream out) throws IOException {
+		BufferPool pool = BufferPool.current();
+		byte[] output = pool.acquire((int) Zstd.compressBound(length));
+		try {
+			int written = contexts.get().compressByteArray(output, 0, output.length, body, 0, length);
+			out.write(output, 0, written);
+		} finally {
+			pool.release(output);
+		}
+	}
+
+}
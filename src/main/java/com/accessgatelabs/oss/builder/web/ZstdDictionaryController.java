@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.accessgatelabs.oss.builder.web;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Endpoint serving the @see ZstdDictionary responses are compressed against, for clients
+ * to fetch once and opt in with.
+ *
+ * <p>
+ * 		The dictionary is served as is, tagged with its ID and cacheable for a year: a new
+ * 		dictionary gets a new ID, which responses advertise right away.
+ * </p>
+ *
+ * <p>
+ * 		Like @see BatchController, the class is mapped with @see RequestMapping rather than
+ * 		declared as a controller component, and only registered by the auto-configuration.
+ * </p>
+ *
+ * @author Ekansh Tiwari
+ * @version 1.2.0
+ * @since   2026-10-17
+ * @see <a href="https://github.com/AccessGateLabs/response-builder">AccessGate Labs Response Builder on GitHub</a>
+ * @see <a href="http://www.opensource.org/licenses/mit-license.php">MIT License</a>
+ */
+@RequestMapping
+public class ZstdDictionaryController {
+
+	private final ZstdDictionary dictionary;
+
+	private final byte[] bytes;
+
+	public ZstdDictionaryController(ZstdDictionary dictionary) {
+		this.dictionary = dictionary;
+		this.bytes = dictionary.getBytes();
+	}
+
+
+	@GetMapping(path = "${accessgatelabs.response-builder.converter.compression.dictionary.path:/zstd-dictionary}")
+	public ResponseEntity<byte[]> dictionary() {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_OCTET_STREAM)
+				.eTag(dictionary.getId())
+				.cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+				.header(ZstdDictionary.HEADER, dictionary.getId())
+				.body(bytes);
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.accessgatelabs.oss.builder.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.servlet.Filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.accessgatelabs.oss.builder.reactive.ReactiveExceptionHandler;
+import com.accessgatelabs.oss.builder.reactive.ReactiveResponseBuilder;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.web.BatchController;
+import com.accessgatelabs.oss.builder.web.BufferPool;
+import com.accessgatelabs.oss.builder.web.StateServiceResponseHttpMessageConverter;
+
+class ResponseBuilderAutoConfigurationTests {
+
+	private final WebApplicationContextRunner servletRunner = new WebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ResponseBuilderAutoConfiguration.class))
+			.withBean(DispatcherServlet.class, DispatcherServlet::new)
+			.withPropertyValues("accessgatelabs.response-builder.batch.enabled=true");
+
+	@Test
+	void reactiveApplicationsGetTheReactiveBeansOnly() {
+		new ReactiveWebApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(ResponseBuilderAutoConfiguration.class))
+				.withClassLoader(new FilteredClassLoader(DispatcherServlet.class))
+				.run(context -> assertThat(context).hasNotFailed()
+						.hasSingleBean(ReactiveResponseBuilder.class)
+						.hasSingleBean(ReactiveExceptionHandler.class)
+						.hasSingleBean(ResponseBuilderModule.class)
+						.doesNotHaveBean(StateServiceResponseHttpMessageConverter.class)
+						.doesNotHaveBean(BufferPool.class));
+	}
+
+	@Test
+	void batchEndpointIsRefusedWithoutSecurity() {
+		servletRunner.run(context -> assertThat(context).hasFailed().getFailure()
+				.hasRootCauseInstanceOf(IllegalStateException.class)
+				.hasStackTraceContaining("accessgatelabs.response-builder.batch.allow-unsecured=true"));
+		servletRunner.withPropertyValues("accessgatelabs.response-builder.batch.allow-unsecured=true")
+				.run(context -> assertThat(context).hasSingleBean(BatchController.class));
+	}
+
+	@Test
+	void batchEndpointRunsSubRequestsThroughTheSecurityFilterChain() {
+		Filter securityFilter = (request, response, chain) -> chain.doFilter(request, response);
+		servletRunner.withBean("springSecurityFilterChain", Filter.class, () -> securityFilter)
+				.run(context -> assertThat(ReflectionTestUtils.getField(context.getBean(BatchController.class), "securityFilter"))
+						.isSameAs(securityFilter));
+	}
+
+}
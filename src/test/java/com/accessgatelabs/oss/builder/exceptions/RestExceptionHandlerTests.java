@@ -0,0 +1,100 @@
+package com.accessgatelabs.oss.builder.exceptions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+
+class RestExceptionHandlerTests {
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AsyncController(release))
+			.setControllerAdvice(new RestExceptionHandler())
+			.build();
+
+	@AfterEach
+	void releasePendingCallables() {
+		release.countDown();
+	}
+
+	@Test
+	void deferredResultTimeoutsAnswerAsyncRequestTimeout() throws Exception {
+		assertTimesOut("/deferred");
+	}
+
+	@Test
+	void callableTimeoutsAnswerAsyncRequestTimeout() throws Exception {
+		assertTimesOut("/callable");
+	}
+
+	private void assertTimesOut(String path) throws Exception {
+		MvcResult result = mockMvc.perform(get(path)).andExpect(request().asyncStarted()).andReturn();
+		MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(null);
+		}
+
+		// Dispatch again as the container does after a timeout, without waiting for a handler result
+		mockMvc.perform(servletContext -> {
+			MockHttpServletRequest dispatch = result.getRequest();
+			dispatch.setDispatcherType(DispatcherType.ASYNC);
+			dispatch.setAsyncStarted(false);
+			return dispatch;
+		})
+				.andExpect(status().is(ServiceResponse.ASYNC_REQUEST_TIMEOUT.getHttpStatus().value()))
+				.andExpect(jsonPath("$.api.responseCode").value(ServiceResponse.ASYNC_REQUEST_TIMEOUT.value()))
+				.andExpect(jsonPath("$.api.response").value(ServiceResponse.ASYNC_REQUEST_TIMEOUT.name()));
+	}
+
+
+	@RestController
+	static class AsyncController {
+
+		private final CountDownLatch release;
+
+		AsyncController(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@GetMapping("/deferred")
+		DeferredResult<Object> deferred() {
+			return new DeferredResult<>();
+		}
+
+		@GetMapping("/callable")
+		Callable<Object> callable() {
+			return () -> {
+				// A timeout interrupts the callable, whose result must not win over the timeout one
+				while (true) {
+					try {
+						release.await();
+						return ServiceResponse.FETCHED.buildResponse();
+					} catch (InterruptedException ex) {
+						// Keep waiting for the test to end
+					}
+				}
+			};
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.accessgatelabs.oss.builder.models;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class ServiceResponseTests {
+
+	@Test
+	void resolveReturnsEveryConstantByItsCode() {
+		for (ServiceResponse serviceResponse : ServiceResponse.values()) {
+			assertThat(ServiceResponse.resolve(serviceResponse.value())).isSameAs(serviceResponse);
+			assertThat(ServiceResponse.valueOf(serviceResponse.value())).isSameAs(serviceResponse);
+		}
+	}
+
+	@Test
+	void resolveReturnsNullForUnknownCodes() {
+		int[] unknownCodes = { 0, -1, 1000, 1011, 1015, 5220, 5240, 9999, Integer.MIN_VALUE, Integer.MAX_VALUE };
+		for (int code : unknownCodes) {
+			assertThat(ServiceResponse.resolve(code)).as("code %d", code).isNull();
+		}
+		assertThatThrownBy(() -> ServiceResponse.valueOf(1011)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void constantsShareImmutableBlocks() {
+		ServiceResponse deleted = ServiceResponse.DELETED;
+		assertThat(deleted.getApiServiceResponse().getServiceResponseCode()).isEqualTo(deleted.value());
+		assertThat(deleted.getApiServiceResponse().getServiceResponse()).isSameAs(deleted);
+		assertThat(deleted.getHttpResponse().getStatus()).isSameAs(deleted.getHttpStatus());
+		assertThat(deleted.build().getApiServiceResponse()).isSameAs(deleted.getApiServiceResponse());
+		assertThatThrownBy(() -> deleted.getApiServiceResponse().setServiceResponseCode(0))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> deleted.getHttpResponse().setStatusCode(0))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void asyncResponsesCompleteWithTheResult() {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		CompletableFuture<ResponseEntity<?>> response = ServiceResponse.FETCHED.buildResponseAsync(result, "Fetched");
+		assertThat(response).isNotDone();
+
+		result.complete("value");
+		ResponseEntity<?> entity = response.join();
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(((StateServiceResponse) entity.getBody()).getObjectAsResponse()).isEqualTo("value");
+		assertThat(((StateServiceResponse) entity.getBody()).getMessage()).isEqualTo("Fetched");
+	}
+
+	@Test
+	void asyncFailuresMapToErrorConstants() {
+		CompletableFuture<Object> timedOut = new CompletableFuture<>();
+		timedOut.completeExceptionally(new TimeoutException("downstream"));
+		ResponseEntity<?> entity = ServiceResponse.FETCHED.buildResponseAsync(timedOut).join();
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(((StateServiceResponse) entity.getBody()).getApiServiceResponse())
+				.isSameAs(ServiceResponse.ASYNC_REQUEST_TIMEOUT.getApiServiceResponse());
+
+		CompletableFuture<Object> failed = CompletableFuture.supplyAsync(() -> {
+			throw new IllegalStateException("boom");
+		});
+		entity = ServiceResponse.FETCHED.buildResponseAsync(failed).join();
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+		assertThat(((StateServiceResponse) entity.getBody()).getDebugMessage()).isEqualTo("boom");
+	}
+
+}
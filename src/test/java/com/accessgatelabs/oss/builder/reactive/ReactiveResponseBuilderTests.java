@@ -0,0 +1,80 @@
+package com.accessgatelabs.oss.builder.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveResponseBuilderTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+			.registerModule(new ResponseBuilderModule());
+
+	private final ReactiveResponseBuilder responses = new ReactiveResponseBuilder(objectMapper);
+
+	@Test
+	void resultIsWrappedOncePublished() {
+		StepVerifier.create(responses.buildResponse(ServiceResponse.FETCHED, Mono.just("value")))
+				.assertNext(entity -> {
+					assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+					assertThat(entity.getBody().getObjectAsResponse()).isEqualTo("value");
+				})
+				.verifyComplete();
+		StepVerifier.create(responses.buildResponse(ServiceResponse.FETCHED, Flux.just(1, 2)))
+				.assertNext(entity -> assertThat(entity.getBody().getObjectAsResponse()).isEqualTo(Arrays.asList(1, 2)))
+				.verifyComplete();
+	}
+
+	@Test
+	void streamedEnvelopeEndsWithTrailer() {
+		ResponseEntity<Flux<DataBuffer>> entity = responses.buildStreamingResponse(ServiceResponse.FETCHED, Flux.range(1, 3));
+
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(join(entity.getBody()))
+				.contains("\"result\":[1,2,3],")
+				.endsWith("\"trailer\":{\"complete\":true,\"count\":3}}");
+	}
+
+	@Test
+	void sourceErrorsAreReportedInTheTrailer() {
+		Flux<Integer> failing = Flux.concat(Flux.just(1), Flux.error(new IllegalStateException("cursor closed")));
+
+		assertThat(join(responses.buildStreamingResponse(ServiceResponse.FETCHED, failing).getBody()))
+				.contains("\"result\":[1],")
+				.endsWith("\"trailer\":{\"complete\":false,\"count\":1,\"error\":\"cursor closed\"}}");
+	}
+
+	@Test
+	void elementsAreRequestedOnDemand() {
+		Flux<DataBuffer> body = responses.buildStreamingResponse(ServiceResponse.FETCHED, Flux.range(1, 1000)).getBody();
+
+		StepVerifier.create(body, 3)
+				.expectNextCount(3)
+				.thenCancel()
+				.verify();
+	}
+
+	private static String join(Flux<DataBuffer> body) {
+		return body.map(buffer -> {
+			String text = buffer.toString(StandardCharsets.UTF_8);
+			DataBufferUtils.release(buffer);
+			return text;
+		}).reduce(String::concat).block();
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.accessgatelabs.oss.builder.serializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.accessgatelabs.oss.builder.models.ApiServiceResponse;
+import com.accessgatelabs.oss.builder.models.ExceptionResponseBuilder;
+import com.accessgatelabs.oss.builder.models.FileUploadResponse;
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.accessgatelabs.oss.builder.models.MessageStatusResponse;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.ViolationType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class ModelSerializerTests {
+
+	private static final Object[] MODELS = {
+			new HttpResponse(400, HttpStatus.BAD_REQUEST),
+			new HttpResponse(0, null),
+			ServiceResponse.FETCHED.getHttpResponse(),
+			new ApiServiceResponse(2040, ServiceResponse.FETCHED),
+			ServiceResponse.DELETED.getApiServiceResponse(),
+			new FileUploadResponse("a.png", "https://cdn/a.png", "image/png", 1024L, true),
+			new FileUploadResponse(null, null, null, 0L, false),
+			new MessageStatusResponse("SMS", true, false, new String[] { "+100", null }, 3),
+			new MessageStatusResponse(null, false, true, null, 0),
+			new ExceptionResponseBuilder("body", "email", "x@", ViolationType.Email_Not_Formatted, "String", "FIELD", "bad"),
+			new ExceptionResponseBuilder(null, "id", null, ViolationType.Missing_Key, null, null, null),
+	};
+
+	@Test
+	void modelsAreWrittenByModelSerializers() throws Exception {
+		ObjectMapper module = new ObjectMapper().registerModule(new ResponseBuilderModule());
+
+		for (Object model : MODELS) {
+			assertThat(module.getSerializerProviderInstance().findValueSerializer(model.getClass()))
+					.isInstanceOf(ModelSerializer.class);
+		}
+	}
+
+	@Test
+	void modelsMatchReflectiveOutput() throws Exception {
+		assertSameOutput(new ObjectMapper(), new ObjectMapper().registerModule(new ResponseBuilderModule()));
+		assertSameOutput(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT),
+				new ObjectMapper().registerModule(new ResponseBuilderModule()).enable(SerializationFeature.INDENT_OUTPUT));
+		assertSameOutput(new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL),
+				new ObjectMapper().registerModule(new ResponseBuilderModule()).setSerializationInclusion(JsonInclude.Include.NON_NULL));
+		assertSameOutput(new ObjectMapper().enable(SerializationFeature.WRITE_ENUMS_USING_INDEX),
+				new ObjectMapper().registerModule(new ResponseBuilderModule()).enable(SerializationFeature.WRITE_ENUMS_USING_INDEX));
+	}
+
+	@Test
+	void unsupportedConfigurationsKeepReflectiveSerializers() throws Exception {
+		ObjectMapper reflective = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_DEFAULT)
+				.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+		ObjectMapper module = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_DEFAULT)
+				.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).registerModule(new ResponseBuilderModule());
+
+		assertThat(module.getSerializerProviderInstance().findValueSerializer(FileUploadResponse.class))
+				.isNotInstanceOf(ModelSerializer.class);
+		assertSameOutput(reflective, module);
+	}
+
+	private static void assertSameOutput(ObjectMapper reflective, ObjectMapper module) throws Exception {
+		for (Object model : MODELS) {
+			assertThat(module.writeValueAsString(model)).isEqualTo(reflective.writeValueAsString(model));
+		}
+	}
+
+}
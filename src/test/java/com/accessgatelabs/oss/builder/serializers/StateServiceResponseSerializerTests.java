@@ -0,0 +1,190 @@
+package com.accessgatelabs.oss.builder.serializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.FieldError;
+
+import com.accessgatelabs.oss.builder.models.ApiServiceResponse;
+import com.accessgatelabs.oss.builder.models.ExceptionResponseBuilder;
+import com.accessgatelabs.oss.builder.models.FileUploadResponse;
+import com.accessgatelabs.oss.builder.models.HttpResponse;
+import com.accessgatelabs.oss.builder.models.MessageStatusResponse;
+import com.accessgatelabs.oss.builder.models.MultiStatusItem;
+import com.accessgatelabs.oss.builder.models.MultiStatusResult;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.models.StreamingResult;
+import com.accessgatelabs.oss.builder.models.ViolationType;
+import com.accessgatelabs.oss.builder.time.ResponseTimestamp;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class StateServiceResponseSerializerTests {
+
+	private final ObjectMapper reflective = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private final ObjectMapper module = new ObjectMapper().registerModule(new JavaTimeModule())
+			.registerModule(new ResponseBuilderModule());
+
+	@Test
+	void payloadlessEnvelopesMatchReflectiveOutput() throws Exception {
+		for (ServiceResponse serviceResponse : ServiceResponse.values()) {
+			assertSameOutput(serviceResponse.build());
+		}
+	}
+
+	@Test
+	void envelopesWithPayloadMatchReflectiveOutput() throws Exception {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("id", 42);
+		result.put("name", "élève \"quoted\"");
+		result.put("tags", Arrays.asList("a", "b"));
+		assertSameOutput(new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(), result, "Fetched"));
+
+		List<FileUploadResponse> files = Collections.singletonList(
+				new FileUploadResponse("a.png", "https://cdn/a.png", "image/png", 1024L, true));
+		assertSameOutput(new StateServiceResponse(ServiceResponse.UPLOADED.getApiServiceResponse(), files, result, "Uploaded"));
+
+		MessageStatusResponse messageStatus = new MessageStatusResponse("SMS", true, false, new String[] { "+100" }, 3);
+		assertSameOutput(new StateServiceResponse(ServiceResponse.OTP_SMS_SENT.getApiServiceResponse(), messageStatus, "Sent"));
+	}
+
+	@Test
+	void errorEnvelopesMatchReflectiveOutput() throws Exception {
+		StateServiceResponse validation = new StateServiceResponse(new HttpResponse(400, HttpStatus.BAD_REQUEST));
+		validation.setMessage("Validation error");
+		validation.setPath("/users");
+		validation.setErrorCount(1);
+		validation.setApiServiceResponse(ServiceResponse.VALIDATION_EXCEPTION.getApiServiceResponse());
+		validation.addValidationExceptions(new ArrayList<>(Collections.singletonList(
+				new FieldError("user", "email", null, false, new String[] { "NotNull" }, null, "must not be null"))));
+		assertSameOutput(validation);
+
+		StateServiceResponse missing = new StateServiceResponse(new HttpResponse(404, HttpStatus.BAD_REQUEST));
+		missing.setExceptionResponseBuilder(new ExceptionResponseBuilder(
+				null, "id", null, ViolationType.Missing_Key, "Long", "PARAMETER", "id is missing"));
+		assertSameOutput(missing);
+
+		assertSameOutput(new StateServiceResponse(new ApiServiceResponse(1, ServiceResponse.CREATED), new IllegalStateException("boom")));
+		assertSameOutput(new StateServiceResponse("Multipart file size exceeded the length", new IllegalStateException()));
+	}
+
+	@Test
+	void mapperConfigurationIsHonoured() throws Exception {
+		StateServiceResponse response = ServiceResponse.DELETED.build();
+		response.setHttpResponse(ServiceResponse.DELETED.getHttpResponse());
+
+		// Mappers cache their serializers, so each configuration gets new ones
+		assertSameOutput(response, mapper -> mapper.enable(SerializationFeature.INDENT_OUTPUT));
+		assertSameOutput(response, mapper -> mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL));
+		assertSameOutput(response, mapper -> mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL)
+				.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING));
+	}
+
+	@Test
+	void streamingResultsAreWrittenElementByElement() throws Exception {
+		AtomicBoolean closed = new AtomicBoolean();
+		StateServiceResponse streamed = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				StreamingResult.of(Stream.of(1, "two", null).onClose(() -> closed.set(true))));
+		StateServiceResponse materialized = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				Arrays.asList(1, "two", null));
+		materialized.setTimestamp(streamed.getTimestamp());
+
+		String expected = reflective.writeValueAsString(materialized);
+		assertThat(module.writeValueAsString(streamed))
+				.isEqualTo(expected.substring(0, expected.length() - 1) + ",\"trailer\":{\"complete\":true,\"count\":3}}");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void streamingErrorsAreReportedInTheTrailer() throws Exception {
+		Iterator<Integer> failing = Stream.iterate(1, i -> {
+			if (i == 2) {
+				throw new IllegalStateException("cursor closed");
+			}
+			return i + 1;
+		}).iterator();
+		StateServiceResponse streamed = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				StreamingResult.of(failing));
+
+		assertThat(module.writeValueAsString(streamed))
+				.contains("\"result\":[1,2],")
+				.endsWith("\"trailer\":{\"complete\":false,\"count\":2,\"error\":\"cursor closed\"}}");
+	}
+
+	@Test
+	void multiStatusResultsCarryItemsAndCounts() throws Exception {
+		StateServiceResponse response = new StateServiceResponse(ServiceResponse.MULTI_STATUS.getApiServiceResponse(),
+				MultiStatusResult.of(Arrays.asList(
+						MultiStatusItem.of(0, ServiceResponse.CREATED, Collections.singletonMap("id", 7)),
+						MultiStatusItem.failed(1, ServiceResponse.ENTITY_NOT_FOUND, "User 42 not found"),
+						MultiStatusItem.of(2, ServiceResponse.CREATED))));
+
+		assertThat(module.writeValueAsString(response)).contains("\"result\":{\"items\":["
+				+ "{\"index\":0,\"code\":2010,\"result\":{\"id\":7}},"
+				+ "{\"index\":1,\"code\":3430,\"error\":\"User 42 not found\"},"
+				+ "{\"index\":2,\"code\":2010}],"
+				+ "\"counts\":{\"2010\":2,\"3430\":1}}");
+	}
+
+	@Test
+	void streamedMultiStatusErrorsFollowTheCounts() throws Exception {
+		Iterator<MultiStatusItem> failing = Stream.iterate(0, i -> {
+			if (i == 1) {
+				throw new IllegalStateException("queue closed");
+			}
+			return i + 1;
+		}).map(i -> MultiStatusItem.of(i, ServiceResponse.UPDATED)).iterator();
+
+		assertThat(module.writeValueAsString(MultiStatusResult.of(failing)))
+				.isEqualTo("{\"items\":[{\"index\":0,\"code\":2030},{\"index\":1,\"code\":2030}],"
+						+ "\"counts\":{\"2030\":2},\"error\":\"queue closed\"}");
+	}
+
+	@Test
+	void profilesDropNullAndDebugFields() throws Exception {
+		StateServiceResponse response = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				(Object) Collections.emptyList(), "");
+		response.setHttpResponse(ServiceResponse.FETCHED.getHttpResponse());
+		response.setDebugMessage("trace");
+		String timestamp = "\"timestamp\":\"" + ResponseTimestamp.of(response.getTimestamp()) + "\",";
+
+		ObjectMapper standard = new ObjectMapper().registerModule(new JavaTimeModule())
+				.registerModule(new ResponseBuilderModule(EnvelopeProfile.STANDARD));
+		assertThat(standard.writeValueAsString(response)).isEqualTo("{" + timestamp + "\"message\":\"\","
+				+ "\"api\":{\"responseCode\":2040,\"response\":\"FETCHED\"},\"debug_message\":\"trace\","
+				+ "\"http\":{\"code\":200,\"status\":\"OK\"},\"result\":[]}");
+
+		ObjectMapper minimal = new ObjectMapper().registerModule(new JavaTimeModule())
+				.registerModule(new ResponseBuilderModule(EnvelopeProfile.MINIMAL));
+		assertThat(minimal.writeValueAsString(response))
+				.isEqualTo("{" + timestamp + "\"api\":{\"responseCode\":2040,\"response\":\"FETCHED\"}}");
+	}
+
+	private void assertSameOutput(StateServiceResponse response) throws Exception {
+		assertThat(module.writeValueAsString(response)).isEqualTo(reflective.writeValueAsString(response));
+	}
+
+	private void assertSameOutput(StateServiceResponse response, UnaryOperator<ObjectMapper> configuration) throws Exception {
+		ObjectMapper reflective = configuration.apply(new ObjectMapper().registerModule(new JavaTimeModule()));
+		ObjectMapper module = configuration.apply(new ObjectMapper().registerModule(new JavaTimeModule())
+				.registerModule(new ResponseBuilderModule()));
+		assertThat(module.writeValueAsString(response)).isEqualTo(reflective.writeValueAsString(response));
+	}
+
+}
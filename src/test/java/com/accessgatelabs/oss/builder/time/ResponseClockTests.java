@@ -0,0 +1,72 @@
+package com.accessgatelabs.oss.builder.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ResponseClockTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule());
+
+	@AfterEach
+	void restoreSystemClock() {
+		ResponseClock.use(null);
+	}
+
+	@Test
+	void responsesAreStampedByTheCurrentClock() throws Exception {
+		FixedResponseClock clock = new FixedResponseClock(LocalDateTime.of(2020, 6, 2, 22, 15, 30));
+		ResponseClock.use(clock);
+
+		assertThat(ServiceResponse.FETCHED.build().getTimestamp()).isEqualTo(LocalDateTime.of(2020, 6, 2, 22, 15, 30));
+		assertThat(objectMapper.writeValueAsString(ServiceResponse.FETCHED.build()))
+				.startsWith("{\"timestamp\":\"02-06-2020 10:15:30\"");
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(objectMapper.writeValueAsString(ServiceResponse.FETCHED.build()))
+				.startsWith("{\"timestamp\":\"02-06-2020 10:15:31\"");
+	}
+
+	@Test
+	void formatReusesTheCurrentText() {
+		FixedResponseClock clock = new FixedResponseClock(LocalDateTime.of(2020, 6, 2, 10, 0));
+
+		assertThat(clock.format(clock.now())).isSameAs(clock.timestamp().getText());
+		assertThat(clock.format(LocalDateTime.of(2021, 1, 31, 13, 5, 9)).getValue()).isEqualTo("31-01-2021 01:05:09");
+		assertThat(new String(clock.timestamp().getBytes())).isEqualTo("02-06-2020 10:00:00");
+	}
+
+	@Test
+	void cachedClockServesTheCurrentSecond() {
+		Clock source = Clock.fixed(Instant.parse("2020-06-02T10:00:00.750Z"), ZoneOffset.UTC);
+		try (CachedResponseClock clock = new CachedResponseClock(source, Duration.ofHours(1))) {
+			ResponseTimestamp timestamp = clock.timestamp();
+
+			assertThat(timestamp.getDateTime()).isEqualTo(LocalDateTime.of(2020, 6, 2, 10, 0));
+			clock.tick();
+			assertThat(clock.timestamp()).isSameAs(timestamp);
+		}
+	}
+
+	@Test
+	void closingTheCachedClockRestoresTheSystemClock() {
+		CachedResponseClock clock = new CachedResponseClock();
+		ResponseClock.use(clock);
+
+		clock.close();
+
+		assertThat(ResponseClock.current()).isSameAs(ResponseClock.system());
+	}
+
+}
@@ -0,0 +1,415 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.Filter;
+import javax.servlet.GenericServlet;
+import javax.servlet.Servlet;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import com.accessgatelabs.oss.builder.models.MultiStatusItem;
+import com.accessgatelabs.oss.builder.models.MultiStatusResult;
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class BatchControllerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+			.registerModule(new ResponseBuilderModule());
+
+	@AfterEach
+	void clearSecurityContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void subRequestsOutsideTheApplicationAreRejected() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		try (BatchController controller = new BatchController(objectMapper, servlet((request, response) -> calls.incrementAndGet()),
+				"/batch", 20, 2, 2, 5000)) {
+			List<BatchRequest.SubRequest> subRequests = new ArrayList<>(Arrays.asList(
+					subRequest("GET", "//evil.example/steal"),
+					subRequest("GET", "/batch"),
+					subRequest("FETCH", "/users")));
+			for (String path : new String[] { "/batch/", "/./batch", "/batch;x", "/b%61tch", "/BATCH", "/batch.json",
+					"/users/../batch", "/users/%2e%2e/batch", "/users%2f..%2fbatch", "/users\\..\\batch" }) {
+				subRequests.add(subRequest("POST", path));
+			}
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(subRequests);
+
+			ResponseEntity<?> response = controller.batch(batchRequest, new MockHttpServletRequest()).get();
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+			assertThat(objectMapper.writeValueAsString(response.getBody()))
+					.contains("\"counts\":{\"3730\":13}")
+					.contains("{\"index\":0,\"code\":3730,\"error\":\"Invalid sub-request GET //evil.example/steal\"}");
+			assertThat(calls).hasValue(0);
+		}
+	}
+
+	@Test
+	void batchesAreNotSentFromBatches() throws Exception {
+		try (BatchController controller = new BatchController(objectMapper, servlet((request, response) -> { }),
+				"/batch", 10, 2, 2, 5000)) {
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Collections.singletonList(subRequest("GET", "/users")));
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setAttribute(BatchSubRequest.SUB_REQUEST_ATTRIBUTE, Boolean.TRUE);
+
+			ResponseEntity<?> response = controller.batch(batchRequest, request).get();
+
+			assertThat(((StateServiceResponse) response.getBody()).getApiServiceResponse())
+					.isSameAs(ServiceResponse.MALFORMED_REQUEST.getApiServiceResponse());
+		}
+	}
+
+	@Test
+	void oversizedBatchesAreRejected() throws Exception {
+		try (BatchController controller = new BatchController(objectMapper, servlet((request, response) -> { }),
+				"/batch", 1, 2, 2, 5000)) {
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Arrays.asList(subRequest("GET", "/a"), subRequest("GET", "/b")));
+
+			ResponseEntity<?> response = controller.batch(batchRequest, new MockHttpServletRequest()).get();
+
+			assertThat(((StateServiceResponse) response.getBody()).getApiServiceResponse())
+					.isSameAs(ServiceResponse.MALFORMED_REQUEST.getApiServiceResponse());
+		}
+	}
+
+	@Test
+	void subRequestsAreDispatchedInParallel() throws Exception {
+		// Each sub-request waits for the others, so they only complete when dispatched together
+		CyclicBarrier barrier = new CyclicBarrier(3);
+		Servlet servlet = servlet((request, response) -> {
+			barrier.await(5, TimeUnit.SECONDS);
+			fetched(response, request.getRequestURI() + " " + request.getParameter("q"));
+		});
+		try (BatchController controller = new BatchController(objectMapper, servlet, "/batch", 10, 3, 3, 10_000)) {
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Arrays.asList(subRequest("GET", "/users/1?q=a+b"), subRequest("GET", "/users/2?q=%26"),
+					subRequest("GET", "/users/3")));
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setContextPath("/app");
+
+			List<MultiStatusItem> items = items(controller.batch(batchRequest, request).get());
+
+			assertThat(items).extracting(MultiStatusItem::getCode).containsOnly(ServiceResponse.FETCHED.value());
+			assertThat(items).extracting(item -> objectMapper.convertValue(item.getResult(), String.class))
+					.containsExactly("/app/users/1 a b", "/app/users/2 &", "/app/users/3 null");
+		}
+	}
+
+	@Test
+	void concurrencyIsLimitedPerBatch() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		Servlet servlet = servlet((request, response) -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			running.decrementAndGet();
+			fetched(response, request.getRequestURI());
+		});
+		try (BatchController controller = new BatchController(objectMapper, servlet, "/batch", 10, 2, 8, 10_000)) {
+			BatchRequest batchRequest = new BatchRequest();
+			List<BatchRequest.SubRequest> subRequests = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				subRequests.add(subRequest("GET", "/users/" + i));
+			}
+			batchRequest.setRequests(subRequests);
+
+			List<MultiStatusItem> items = items(controller.batch(batchRequest, new MockHttpServletRequest()).get());
+
+			assertThat(items).hasSize(8).extracting(MultiStatusItem::getCode).containsOnly(ServiceResponse.FETCHED.value());
+			assertThat(maxRunning.get()).isBetween(1, 2);
+		}
+	}
+
+	@Test
+	void batchesTimeOutWithTheCompletedSubRequests() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Servlet servlet = servlet((request, response) -> {
+			if (request.getRequestURI().equals("/slow")) {
+				release.await(10, TimeUnit.SECONDS);
+			}
+			fetched(response, request.getRequestURI());
+		});
+		try (BatchController controller = new BatchController(objectMapper, servlet, "/batch", 10, 2, 2, 300)) {
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Arrays.asList(subRequest("GET", "/fast"), subRequest("GET", "/slow")));
+
+			ResponseEntity<?> response = controller.batch(batchRequest, new MockHttpServletRequest()).get(5, TimeUnit.SECONDS);
+			List<MultiStatusItem> items = items(response);
+
+			assertThat(((StateServiceResponse) response.getBody()).getMessage())
+					.isEqualTo("1 of 2 sub-requests did not complete in time");
+			assertThat(items.get(0).getCode()).isEqualTo(ServiceResponse.FETCHED.value());
+			assertThat(items.get(1).getCode()).isEqualTo(ServiceResponse.ASYNC_REQUEST_TIMEOUT.value());
+			release.countDown();
+		}
+	}
+
+	@Test
+	void onlyWhitelistedHeadersReachSubRequests() throws Exception {
+		Map<String, String> seen = new ConcurrentHashMap<>();
+		Servlet servlet = servlet((request, response) -> {
+			for (String header : new String[] { "Authorization", "Host", "X-Forwarded-For", "If-None-Match", "Accept" }) {
+				if (request.getHeader(header) != null) {
+					seen.put(header, request.getHeader(header));
+				}
+			}
+			seen.put("remoteAddr", request.getRemoteAddr());
+			seen.put("subRequest", String.valueOf(request.getAttribute(BatchSubRequest.SUB_REQUEST_ATTRIBUTE)));
+			fetched(response, null);
+		});
+		try (BatchController controller = new BatchController(objectMapper, servlet, "/batch", 10, 2, 2, 5000)) {
+			BatchRequest.SubRequest subRequest = subRequest("GET", "/users/1");
+			subRequest.getHeaders().put("Host", "evil.example");
+			subRequest.getHeaders().put("X-Forwarded-For", "10.0.0.1");
+			subRequest.getHeaders().put("if-none-match", "\"a\"");
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Collections.singletonList(subRequest));
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.addHeader("Authorization", "Bearer token");
+			request.addHeader("Host", "api.example");
+			request.setRemoteAddr("192.0.2.7");
+
+			controller.batch(batchRequest, request).get();
+
+			assertThat(seen).containsEntry("Authorization", "Bearer token").containsEntry("Host", "api.example")
+					.containsEntry("If-None-Match", "\"a\"").containsEntry("Accept", MediaType.APPLICATION_JSON_VALUE)
+					.containsEntry("remoteAddr", "192.0.2.7").containsEntry("subRequest", "true")
+					.doesNotContainKey("X-Forwarded-For");
+		}
+	}
+
+	@Test
+	void subRequestsRunAsTheCallerAndAreCheckedAgainstUrlRules() throws Exception {
+		Authentication user = new UsernamePasswordAuthenticationToken("alice", "n/a", AuthorityUtils.createAuthorityList("ROLE_USER"));
+		SecurityContextHolder.getContext().setAuthentication(user);
+		Map<String, Object> seen = new ConcurrentHashMap<>();
+		Servlet servlet = servlet((request, response) -> {
+			seen.put(request.getRequestURI(), SecurityContextHolder.getContext().getAuthentication());
+			seen.put("inRole", ((HttpServletRequest) request).isUserInRole("USER"));
+			fetched(response, null);
+		});
+		try (BatchController controller = new BatchController(objectMapper, servlet, "/batch", 10, 2, 2, 5000)) {
+			controller.setPrivilegeEvaluator(new WebInvocationPrivilegeEvaluator() {
+
+				@Override
+				public boolean isAllowed(String uri, Authentication authentication) {
+					return isAllowed(null, uri, null, authentication);
+				}
+
+				@Override
+				public boolean isAllowed(String contextPath, String uri, String method, Authentication authentication) {
+					return !uri.startsWith("/admin");
+				}
+			});
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Arrays.asList(subRequest("GET", "/users/1"), subRequest("GET", "/admin/users")));
+
+			List<MultiStatusItem> items = items(controller.batch(batchRequest, new MockHttpServletRequest()).get());
+
+			assertThat(seen).containsEntry("/users/1", user).containsEntry("inRole", true).doesNotContainKey("/admin/users");
+			assertThat(items.get(1).getCode()).isEqualTo(ServiceResponse.INVALID_AUTHENTICATION.value());
+			assertThat(items.get(1).getHttp().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+		}
+	}
+
+	@Test
+	void subRequestsRunThroughTheSecurityFilter() throws Exception {
+		Map<String, Object> seen = new ConcurrentHashMap<>();
+		Servlet servlet = servlet((request, response) -> {
+			seen.put(request.getRequestURI(), String.valueOf(request.getAttribute("filtered")));
+			seen.put("csrf", String.valueOf(request.getHeader("X-CSRF-TOKEN")));
+			fetched(response, null);
+		});
+		Filter securityFilter = (request, response, chain) -> {
+			if (((HttpServletRequest) request).getRequestURI().startsWith("/admin")) {
+				((HttpServletResponse) response).sendError(HttpServletResponse.SC_FORBIDDEN, "Access is denied");
+				return;
+			}
+			request.setAttribute("filtered", true);
+			chain.doFilter(request, response);
+		};
+		try (BatchController controller = new BatchController(objectMapper, servlet, "/batch", 10, 2, 2, 5000)) {
+			controller.setSecurityFilter(securityFilter);
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Arrays.asList(subRequest("POST", "/users"), subRequest("GET", "/admin/users")));
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setAttribute(CsrfToken.class.getName(), new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "t0ken"));
+			request.addHeader("X-CSRF-TOKEN", "t0ken");
+
+			List<MultiStatusItem> items = items(controller.batch(batchRequest, request).get());
+
+			assertThat(seen).containsEntry("/users", "true").containsEntry("csrf", "t0ken").doesNotContainKey("/admin/users");
+			assertThat(items.get(0).getCode()).isEqualTo(ServiceResponse.FETCHED.value());
+			assertThat(items.get(1).getCode()).isEqualTo(ServiceResponse.INVALID_AUTHENTICATION.value());
+			assertThat(items.get(1).getHttp().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+		}
+	}
+
+	@Test
+	void csrfTokensTheBatchCallDidNotPresentAreNotPassedOn() throws Exception {
+		Map<String, Object> seen = new ConcurrentHashMap<>();
+		Servlet servlet = servlet((request, response) -> {
+			seen.put("csrf", String.valueOf(request.getHeader("X-CSRF-TOKEN")));
+			fetched(response, null);
+		});
+		try (BatchController controller = new BatchController(objectMapper, servlet, "/batch", 10, 2, 2, 5000)) {
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Collections.singletonList(subRequest("POST", "/users")));
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setAttribute(CsrfToken.class.getName(), new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "t0ken"));
+
+			controller.batch(batchRequest, request).get();
+
+			assertThat(seen).containsEntry("csrf", "null");
+		}
+	}
+
+	@Test
+	void asynchronousHandlersAreAwaited() throws Exception {
+		List<String> events = Collections.synchronizedList(new ArrayList<>());
+		AsyncListener listener = new AsyncListener() {
+
+			@Override
+			public void onComplete(AsyncEvent event) {
+				events.add("complete " + ((HttpServletRequest) event.getSuppliedRequest()).getRequestURI());
+			}
+
+			@Override
+			public void onTimeout(AsyncEvent event) {
+				events.add("timeout " + ((HttpServletRequest) event.getSuppliedRequest()).getRequestURI());
+			}
+
+			@Override
+			public void onError(AsyncEvent event) {
+				events.add("error");
+			}
+
+			@Override
+			public void onStartAsync(AsyncEvent event) {
+				events.add("start");
+			}
+		};
+		Servlet servlet = servlet((request, response) -> {
+			if (request.getDispatcherType() == DispatcherType.ASYNC) {
+				fetched(response, "dispatched " + request.getRequestURI());
+				return;
+			}
+			AsyncContext async = request.startAsync();
+			async.addListener(listener);
+			assertThat(request.isAsyncStarted()).isTrue();
+			if (request.getRequestURI().equals("/dispatch")) {
+				new Thread(async::dispatch).start();
+			} else if (request.getRequestURI().equals("/complete")) {
+				new Thread(() -> {
+					try {
+						fetched((HttpServletResponse) async.getResponse(), "completed");
+					} catch (IOException ex) {
+						throw new IllegalStateException(ex);
+					}
+					async.complete();
+				}).start();
+			} else {
+				async.setTimeout(100);
+			}
+		});
+		try (BatchController controller = new BatchController(objectMapper, servlet, "/batch", 10, 3, 3, 5000)) {
+			BatchRequest batchRequest = new BatchRequest();
+			batchRequest.setRequests(Arrays.asList(subRequest("GET", "/dispatch"), subRequest("GET", "/complete"),
+					subRequest("GET", "/never")));
+
+			List<MultiStatusItem> items = items(controller.batch(batchRequest, new MockHttpServletRequest()).get(5, TimeUnit.SECONDS));
+
+			assertThat(items).extracting(item -> objectMapper.convertValue(item.getResult(), String.class))
+					.containsExactly("dispatched /dispatch", "completed", null);
+			assertThat(items.get(2).getHttp().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+			assertThat(events).containsExactlyInAnyOrder("complete /dispatch", "complete /complete", "timeout /never",
+					"complete /never");
+		}
+	}
+
+	private void fetched(HttpServletResponse response, Object result) throws IOException {
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(),
+				new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(), result, "Fetched"));
+	}
+
+	private static List<MultiStatusItem> items(ResponseEntity<?> response) {
+		List<MultiStatusItem> items = new ArrayList<>();
+		((MultiStatusResult) ((StateServiceResponse) response.getBody()).getObjectAsResponse()).iterator()
+				.forEachRemaining(items::add);
+		return items;
+	}
+
+	private static Servlet servlet(Handler handler) {
+		return new GenericServlet() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void service(ServletRequest request, ServletResponse response) {
+				try {
+					handler.handle((HttpServletRequest) request, (HttpServletResponse) response);
+				} catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+			}
+		};
+	}
+
+	private static BatchRequest.SubRequest subRequest(String method, String path) {
+		BatchRequest.SubRequest subRequest = new BatchRequest.SubRequest();
+		subRequest.setMethod(method);
+		subRequest.setPath(path);
+		return subRequest;
+	}
+
+
+	@FunctionalInterface
+	private interface Handler {
+
+		void handle(HttpServletRequest request, HttpServletResponse response) throws Exception;
+	}
+
+}
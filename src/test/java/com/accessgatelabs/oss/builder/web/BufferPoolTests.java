@@ -0,0 +1,206 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BufferPoolTests {
+
+	@AfterEach
+	void restoreDefaultPool() {
+		BufferPool.use(null);
+	}
+
+	@Test
+	void arraysAreReusedBySizeClass() {
+		BufferPool pool = new BufferPool(1 << 20);
+		byte[] small = pool.acquire(100);
+		assertThat(small).hasSize(8 << 10);
+		assertThat(pool.getMisses()).isEqualTo(1);
+
+		pool.release(small);
+		assertThat(pool.getRetainedBytes()).isEqualTo(8 << 10);
+		assertThat(pool.acquire(8 << 10)).isSameAs(small);
+		assertThat(pool.acquire(9 << 10)).hasSize(64 << 10);
+		assertThat(pool.getHits()).isEqualTo(1);
+		assertThat(pool.getRetainedBytes()).isZero();
+	}
+
+	@Test
+	void retainedBytesAreBounded() {
+		BufferPool pool = new BufferPool(600 << 10);
+		pool.release(new byte[512 << 10]);
+		pool.release(new byte[512 << 10]);
+		pool.release(new byte[100]);
+		pool.release(new byte[8 << 20]);
+
+		assertThat(pool.getRetainedBytes()).isEqualTo(512 << 10);
+	}
+
+	@Test
+	void arraysOfEndedThreadsStopCountingOnceCollected() throws Exception {
+		BufferPool pool = new BufferPool(1 << 20);
+		Thread[] threads = new Thread[100];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> pool.release(pool.acquire(100)));
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		pool.release(pool.acquire(100));
+
+		for (int i = 0; i < 100 && pool.getRetainedBytes() > 8 << 10; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertThat(pool.getRetainedBytes()).isEqualTo(8 << 10);
+	}
+
+	@Test
+	void buffersGrowThroughThePool() throws Exception {
+		BufferPool pool = new BufferPool(8 << 20);
+		BufferPool.use(pool);
+		byte[] chunk = new byte[5000];
+		Arrays.fill(chunk, (byte) 'x');
+
+		try (PooledBuffer buffer = PooledBuffer.acquire()) {
+			for (int i = 0; i < 20; i++) {
+				buffer.write(chunk, 0, chunk.length);
+			}
+			assertThat(buffer.size()).isEqualTo(100_000);
+			assertThat(buffer.array()).hasSize(512 << 10);
+			assertThat(buffer.toByteArray()).containsOnly((byte) 'x');
+		}
+		assertThat(pool.getRetainedBytes()).isEqualTo((8 << 10) + (64 << 10) + (512 << 10));
+	}
+
+	@Test
+	void largeContentMovesToDirectSegments() throws Exception {
+		BufferPool pool = new BufferPool(8 << 20);
+		BufferPool.use(pool);
+		byte[] content = new byte[600_000];
+		new Random(7).nextBytes(content);
+
+		try (PooledBuffer buffer = PooledBuffer.acquire(1 << 20)) {
+			buffer.write(content, 0, 500_000);
+			assertThat(buffer.isOffHeap()).isFalse();
+			buffer.write(content, 500_000, 100_000);
+			assertThat(buffer.isOffHeap()).isTrue();
+			assertThat(buffer.size()).isEqualTo(content.length);
+			assertThat(buffer.byteAt(300_000)).isEqualTo(content[300_000]);
+			byte[] range = new byte[20_000];
+			buffer.read(250_000, range, range.length);
+			assertThat(range).isEqualTo(Arrays.copyOfRange(content, 250_000, 270_000));
+
+			ByteArrayOutputStream copied = new ByteArrayOutputStream();
+			buffer.writeTo(copied);
+			assertThat(copied.toByteArray()).isEqualTo(content);
+
+			MessageDigest digest = MessageDigest.getInstance("MD5");
+			buffer.update(digest, 10, 500_000);
+			assertThat(digest.digest()).isEqualTo(MessageDigest.getInstance("MD5").digest(Arrays.copyOfRange(content, 10, 500_010)));
+		}
+		assertThat(pool.getRetainedDirectBytes()).isEqualTo(3L * BufferPool.SEGMENT_SIZE);
+		assertThat(pool.acquireSegment().position()).isZero();
+		assertThat(pool.getDirectHits()).isEqualTo(1);
+	}
+
+	@Test
+	void segmentsGoThroughNioWritesOfPublicStreamClasses() throws Exception {
+		BufferPool.use(new BufferPool(8 << 20));
+		byte[] content = new byte[600_000];
+		new Random(13).nextBytes(content);
+
+		try (PooledBuffer buffer = PooledBuffer.acquire(1 << 20)) {
+			buffer.write(content, 0, content.length);
+			assertThat(buffer.isOffHeap()).isTrue();
+
+			NioOutputStream nio = new NioOutputStream();
+			buffer.writeTo(nio);
+			assertThat(nio.toByteArray()).isEqualTo(content);
+			assertThat(nio.getBufferWrites()).isEqualTo(3);
+
+			NioOutputStream subclass = new HiddenNioOutputStream();
+			buffer.writeTo(subclass);
+			assertThat(subclass.toByteArray()).isEqualTo(content);
+			assertThat(subclass.getBufferWrites()).isEqualTo(3);
+
+			NioOutputStream wrapped = new NioOutputStream();
+			buffer.writeTo(new WrappingOutputStream(wrapped));
+			assertThat(wrapped.toByteArray()).isEqualTo(content);
+			assertThat(wrapped.getBufferWrites()).isZero();
+		}
+	}
+
+	@Test
+	void contentBeyondTheMemoryBudgetSpillsToDisk(@TempDir Path spillDirectory) throws Exception {
+		BufferPool pool = new BufferPool(8 << 20);
+		BufferPool.use(pool);
+		byte[] content = new byte[1_200_000];
+		new Random(11).nextBytes(content);
+
+		try (PooledBuffer buffer = PooledBuffer.acquire(64 << 10, 2L * BufferPool.SEGMENT_SIZE, spillDirectory)) {
+			buffer.write(content, 0, 400_000);
+			assertThat(buffer.isSpilled()).isFalse();
+			buffer.write(content, 400_000, 800_000);
+			assertThat(buffer.isSpilled()).isTrue();
+			assertThat(buffer.size()).isEqualTo(content.length);
+			assertThat(buffer.byteAt(1_100_000)).isEqualTo(content[1_100_000]);
+			byte[] range = new byte[150_000];
+			buffer.read(1_000_000, range, range.length);
+			assertThat(range).isEqualTo(Arrays.copyOfRange(content, 1_000_000, 1_150_000));
+			assertThat(buffer.toByteArray()).isEqualTo(content);
+
+			ByteArrayOutputStream copied = new ByteArrayOutputStream();
+			buffer.writeTo(copied);
+			assertThat(copied.toByteArray()).isEqualTo(content);
+
+			MessageDigest digest = MessageDigest.getInstance("MD5");
+			buffer.update(digest, 10, 1_000_000);
+			assertThat(digest.digest()).isEqualTo(MessageDigest.getInstance("MD5").digest(Arrays.copyOfRange(content, 10, 1_000_010)));
+		}
+		assertThat(Files.list(spillDirectory)).isEmpty();
+		assertThat(pool.getSpills()).isEqualTo(1);
+		assertThat(pool.getSpilledBytes()).isEqualTo(content.length);
+		assertThat(pool.getRetainedDirectBytes()).isEqualTo(2L * BufferPool.SEGMENT_SIZE);
+	}
+
+	private static class HiddenNioOutputStream extends NioOutputStream {
+	}
+
+	/**
+	 * Non-public wrapper forwarding byte arrays only, as filter response wrappers do.
+	 */
+	private static class WrappingOutputStream extends OutputStream {
+
+		private final OutputStream delegate;
+
+		WrappingOutputStream(OutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			delegate.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			delegate.write(b, off, len);
+		}
+
+	}
+
+}
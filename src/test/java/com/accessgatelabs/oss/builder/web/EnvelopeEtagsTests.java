@@ -0,0 +1,111 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class EnvelopeEtagsTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule());
+
+	@Test
+	void etagsIgnoreTheTimestamp() throws Exception {
+		StateServiceResponse response = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				Collections.singletonMap("id", 7), "Fetched");
+		String first = etag(response);
+		response.setTimestamp(LocalDateTime.of(2031, 5, 4, 3, 2, 1));
+		assertThat(etag(response)).isEqualTo(first).startsWith("\"").endsWith("\"");
+
+		response.setObjectAsResponse(Collections.singletonMap("id", 8));
+		assertThat(etag(response)).isNotEqualTo(first);
+	}
+
+	@Test
+	void etagsIgnoreTheTimestampOfPrettyPrintedEnvelopes() throws Exception {
+		ObjectMapper pretty = new ObjectMapper().registerModule(new ResponseBuilderModule())
+				.enable(SerializationFeature.INDENT_OUTPUT);
+		StateServiceResponse response = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				Collections.singletonMap("id", 7), "Fetched");
+		byte[] body = pretty.writeValueAsBytes(response);
+		String first = EnvelopeEtags.compute(body, body.length);
+
+		response.setTimestamp(LocalDateTime.of(2031, 5, 4, 3, 2, 1));
+		body = pretty.writeValueAsBytes(response);
+		assertThat(EnvelopeEtags.compute(body, body.length)).isEqualTo(first);
+	}
+
+	@Test
+	void spilledEnvelopesGetTheEtagOfTheirBytes(@TempDir Path spillDirectory) throws Exception {
+		StateServiceResponse response = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				Collections.nCopies(100_000, "item"), "Fetched");
+		byte[] body = objectMapper.writeValueAsBytes(response);
+
+		try (PooledBuffer buffer = PooledBuffer.acquire(64 << 10, BufferPool.SEGMENT_SIZE, spillDirectory)) {
+			buffer.write(body);
+			assertThat(buffer.isSpilled()).isTrue();
+			assertThat(EnvelopeEtags.compute(buffer)).isEqualTo(EnvelopeEtags.compute(body, body.length));
+		}
+	}
+
+	@Test
+	void etagsNameTheContentCoding() {
+		assertThat(EnvelopeEtags.encoded("\"a\"", null)).isEqualTo("\"a\"");
+		assertThat(EnvelopeEtags.encoded("\"a\"", "gzip")).isEqualTo("\"a-gzip\"");
+		assertThat(EnvelopeEtags.matches("\"a\"", EnvelopeEtags.encoded("\"a\"", "zstd"))).isFalse();
+	}
+
+	@Test
+	void keysHoldTheHeadersSelectingTheRepresentation() {
+		MockHttpServletRequest all = new MockHttpServletRequest("GET", "/users/1");
+		MockHttpServletRequest some = new MockHttpServletRequest("GET", "/users/1");
+		some.addHeader(SparseFieldset.HEADER, "result");
+		MockHttpServletRequest gzip = new MockHttpServletRequest("GET", "/users/1");
+		gzip.addHeader("Accept-Encoding", "gzip");
+
+		assertThat(EnvelopeEtags.key(all)).isNotEqualTo(EnvelopeEtags.key(some)).isNotEqualTo(EnvelopeEtags.key(gzip));
+		EnvelopeEtags etags = new EnvelopeEtags(4, 60_000);
+		etags.store(EnvelopeEtags.key(some), "\"a\"");
+		assertThat(etags.lookup(EnvelopeEtags.key(all))).isNull();
+		etags.invalidate("/users/1");
+		assertThat(etags.lookup(EnvelopeEtags.key(some))).isNull();
+	}
+
+	@Test
+	void ifNoneMatchIsComparedWeakly() {
+		assertThat(EnvelopeEtags.matches("\"a\", W/\"b\"", "\"b\"")).isTrue();
+		assertThat(EnvelopeEtags.matches("*", "\"b\"")).isTrue();
+		assertThat(EnvelopeEtags.matches("\"a\"", "\"b\"")).isFalse();
+		assertThat(EnvelopeEtags.matches(null, "\"b\"")).isFalse();
+	}
+
+	@Test
+	void etagsOfAPathAreForgottenOnInvalidation() {
+		EnvelopeEtags etags = new EnvelopeEtags(2, 60_000);
+		etags.store("/users/1", "\"a\"");
+		etags.store("/users/1?fields=id", "\"b\"");
+		etags.store("/users/10", "\"c\"");
+		assertThat(etags.lookup("/users/1")).isNull();
+
+		etags.invalidate("/users/1");
+		assertThat(etags.lookup("/users/1?fields=id")).isNull();
+		assertThat(etags.lookup("/users/10")).isEqualTo("\"c\"");
+	}
+
+	private String etag(StateServiceResponse response) throws Exception {
+		byte[] body = objectMapper.writeValueAsBytes(response);
+		return EnvelopeEtags.compute(body, body.length);
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.accessgatelabs.oss.builder.web;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Stream taking one @see ByteBuffer at a time, like a container stream with NIO writes. Public so
+ * that @see PooledBuffer can find its <code>write(ByteBuffer)</code>.
+ */
+public class NioOutputStream extends ByteArrayOutputStream {
+
+	private int bufferWrites;
+
+	public void write(ByteBuffer src) {
+		bufferWrites++;
+		while (src.hasRemaining()) {
+			write(src.get());
+		}
+	}
+
+	public int getBufferWrites() {
+		return bufferWrites;
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.time.FixedResponseClock;
+import com.accessgatelabs.oss.builder.time.ResponseClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class PrerenderedResponsesTests {
+
+	private final FixedResponseClock clock = new FixedResponseClock(LocalDateTime.of(2020, 6, 2, 22, 15, 30));
+
+	@AfterEach
+	void restoreDefaults() {
+		ResponseClock.use(null);
+		PrerenderedResponses.configure(new ObjectMapper().registerModule(new ResponseBuilderModule()));
+	}
+
+	@Test
+	void patchedTemplatesMatchTheSerializer() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule());
+		PrerenderedResponses.configure(objectMapper);
+		ResponseClock.use(clock);
+
+		for (ServiceResponse serviceResponse : ServiceResponse.values()) {
+			assertSameBody(objectMapper, serviceResponse);
+		}
+		clock.advance(Duration.ofSeconds(1));
+		assertSameBody(objectMapper, ServiceResponse.DELETED);
+		assertThat(PrerenderedResponses.template(ServiceResponse.DELETED)).isNotNull();
+	}
+
+	@Test
+	void bodiesWithoutPatchableTimestampAreSerialized() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule())
+				.enable(SerializationFeature.INDENT_OUTPUT);
+		PrerenderedResponses.configure(objectMapper);
+		ResponseClock.use(clock);
+
+		assertThat(PrerenderedResponses.template(ServiceResponse.DELETED)).isNull();
+		assertSameBody(objectMapper, ServiceResponse.DELETED);
+	}
+
+	private void assertSameBody(ObjectMapper objectMapper, ServiceResponse serviceResponse) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		PrerenderedResponses.write(serviceResponse, response);
+
+		byte[] expected = objectMapper.writeValueAsBytes(serviceResponse.build());
+		assertThat(response.getContentAsByteArray()).as(serviceResponse.name()).isEqualTo(expected);
+		assertThat(response.getContentLength()).isEqualTo(expected.length);
+		assertThat(response.getStatus()).isEqualTo(serviceResponse.getHttpStatus().value());
+		assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.time.FixedResponseClock;
+import com.accessgatelabs.oss.builder.time.ResponseClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ResponseCacheTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule());
+
+	@AfterEach
+	void restoreSystemClock() {
+		ResponseClock.use(null);
+	}
+
+	@Test
+	void envelopesAreReplayedWithTheCurrentTimestamp() throws Exception {
+		FixedResponseClock clock = new FixedResponseClock(LocalDateTime.of(2020, 6, 2, 10, 15, 30));
+		ResponseClock.use(clock);
+		ResponseCache cache = new ResponseCache(1 << 20);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/7");
+		request.addParameter("fields", "result");
+		String key = ResponseCache.key(request, new String[] { "Accept" });
+		assertThat(key).isEqualTo("/users/7?fields=result");
+		assertThat(cache.lookup(key)).isNull();
+
+		byte[] body = objectMapper.writeValueAsBytes(new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				Collections.singletonMap("id", 7), "Fetched"));
+		cache.store(new ResponseCache.Pending(key, "/users/7", TimeUnit.MINUTES.toNanos(1)),
+				MediaType.APPLICATION_JSON_VALUE, body, body.length);
+		clock.advance(Duration.ofSeconds(5));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		cache.replay(cache.lookup(key), request, response);
+		assertThat(response.getContentAsString()).isEqualTo(new String(body).replace("10:15:30", "10:15:35"));
+		assertThat(response.getContentLength()).isEqualTo(body.length);
+		assertThat(cache.getHits()).isEqualTo(1);
+		assertThat(cache.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void keysDoNotConfuseEncodedParameters() {
+		MockHttpServletRequest encoded = new MockHttpServletRequest("GET", "/users");
+		encoded.addParameter("a", "1&b=2");
+		MockHttpServletRequest split = new MockHttpServletRequest("GET", "/users");
+		split.addParameter("a", "1");
+		split.addParameter("b", "2");
+
+		assertThat(ResponseCache.key(encoded, new String[0])).isEqualTo("/users?a=1%26b%3D2");
+		assertThat(ResponseCache.key(split, new String[0])).isEqualTo("/users?a=1&b=2");
+	}
+
+	@Test
+	void keysAreKeptPerUserUnlessShared() {
+		MockHttpServletRequest alice = new MockHttpServletRequest("GET", "/users/me");
+		alice.setUserPrincipal(() -> "alice");
+		MockHttpServletRequest bob = new MockHttpServletRequest("GET", "/users/me");
+		bob.setUserPrincipal(() -> "bob");
+		MockHttpServletRequest session = new MockHttpServletRequest("GET", "/users/me");
+		session.addHeader("Cookie", "SESSION=1");
+		String[] headers = { "Accept" };
+
+		assertThat(ResponseCache.key(alice, headers)).isNotEqualTo(ResponseCache.key(bob, headers));
+		assertThat(ResponseCache.key(session, headers)).isEqualTo("/users/me\nCookie:SESSION%3D1");
+		assertThat(ResponseCache.key(alice, headers, true)).isEqualTo(ResponseCache.key(bob, headers, true))
+				.isEqualTo("/users/me");
+	}
+
+	@Test
+	void writesDropTheEnvelopesOfTheirPathAndItsParents() {
+		ResponseCache cache = new ResponseCache(1 << 20);
+		for (String path : new String[] { "/users", "/users/7", "/users/7/roles", "/users/70" }) {
+			cache.store(new ResponseCache.Pending(path, path, TimeUnit.MINUTES.toNanos(1)),
+					MediaType.APPLICATION_JSON_VALUE, new byte[10], 10);
+		}
+
+		cache.invalidate("/users/7");
+		assertThat(cache.getEntries()).isEqualTo(1);
+		assertThat(cache.lookup("/users/70")).isNotNull();
+	}
+
+	@Test
+	void leastRecentlyUsedEnvelopesAreEvictedPastTheSizeLimit() {
+		ResponseCache cache = new ResponseCache(1000);
+		for (int i = 0; i < 3; i++) {
+			cache.store(new ResponseCache.Pending("/" + i, "/" + i, TimeUnit.MINUTES.toNanos(1)),
+					MediaType.APPLICATION_JSON_VALUE, new byte[300], 300);
+			cache.lookup("/0");
+		}
+
+		assertThat(cache.lookup("/0")).isNotNull();
+		assertThat(cache.lookup("/1")).isNull();
+		assertThat(cache.getEvictions()).isEqualTo(1);
+		assertThat(cache.getBytes()).isLessThanOrEqualTo(1000);
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.StreamUtils;
+
+class ResponseCompressorTests {
+
+	private final ResponseCompressor compressor = new ResponseCompressor(16,
+			Arrays.asList(ContentCoding.GZIP, ContentCoding.DEFLATE));
+
+	@Test
+	void codingIsPickedByQualityThenPreference() {
+		assertThat(compressor.select(null)).isNull();
+		assertThat(compressor.select("identity")).isNull();
+		assertThat(compressor.select("deflate, gzip")).isEqualTo(ContentCoding.GZIP);
+		assertThat(compressor.select("gzip;q=0.5, deflate")).isEqualTo(ContentCoding.DEFLATE);
+		assertThat(compressor.select("gzip;q=0, br")).isNull();
+		assertThat(compressor.select("br, *")).isEqualTo(ContentCoding.GZIP);
+		assertThat(compressor.select("gzip;q=0, *")).isEqualTo(ContentCoding.DEFLATE);
+		assertThat(compressor.select("gzip;q=0, deflate;q=0, *")).isNull();
+		assertThat(compressor.select("deflate;q=0.2, *;q=0.5")).isEqualTo(ContentCoding.GZIP);
+		assertThat(compressor.select("gzip;Q=0, deflate")).isEqualTo(ContentCoding.DEFLATE);
+		assertThat(compressor.select("gzip;Q=0")).isNull();
+	}
+
+	@Test
+	void bodiesAreCompressedWithPooledDeflaters() throws Exception {
+		byte[] body = repeated("{\"api\":{\"responseCode\":2040,\"response\":\"FETCHED\"}}", 50);
+		for (int i = 0; i < 3; i++) {
+			ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+			compressor.compress(body, body.length, ContentCoding.GZIP, gzip);
+			assertThat(gzip.size()).isLessThan(body.length);
+			assertThat(inflate(new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray())))).isEqualTo(body);
+
+			ByteArrayOutputStream deflate = new ByteArrayOutputStream();
+			compressor.compress(body, body.length, ContentCoding.DEFLATE, deflate);
+			assertThat(inflate(new InflaterInputStream(new ByteArrayInputStream(deflate.toByteArray())))).isEqualTo(body);
+		}
+	}
+
+	@Test
+	void streamsAreCompressedAsWritten() throws Exception {
+		byte[] body = repeated("{\"index\":1,\"code\":2010},", 200);
+		ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+		try (OutputStream out = compressor.compressing(ContentCoding.GZIP, gzip)) {
+			out.write(body, 0, 100);
+			out.flush();
+			out.write(body, 100, body.length - 100);
+		}
+		assertThat(inflate(new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray())))).isEqualTo(body);
+	}
+
+	private static byte[] repeated(String text, int times) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < times; i++) {
+			builder.append(text);
+		}
+		return builder.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] inflate(InputStream in) throws Exception {
+		try (InputStream stream = in) {
+			return StreamUtils.copyToByteArray(stream);
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class SparseFieldsetTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+			.registerModule(new ResponseBuilderModule());
+
+	@Test
+	void onlySelectedFieldsAreWritten() throws Exception {
+		StateServiceResponse response = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				Arrays.asList(user(1, "Ada"), user(2, "Linus")), "Fetched");
+
+		assertThat(write(response, SparseFieldset.compile("api.responseCode, result.name")))
+				.isEqualTo("{\"api\":{\"responseCode\":2040},\"result\":[{\"name\":\"Ada\"},{\"name\":\"Linus\"}]}");
+		assertThat(write(response, SparseFieldset.compile("message,api")))
+				.isEqualTo("{\"message\":\"Fetched\",\"api\":{\"responseCode\":2040,\"response\":\"FETCHED\"}}");
+	}
+
+	@Test
+	void expressionsAreCompiledOnce() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		assertThat(SparseFieldset.requested(request)).isNull();
+
+		request.addHeader(SparseFieldset.HEADER, "api.responseCode");
+		assertThat(SparseFieldset.requested(request)).isSameAs(SparseFieldset.compile("api.responseCode"));
+
+		request.setParameter(SparseFieldset.PARAMETER, "message");
+		assertThat(SparseFieldset.requested(request)).isSameAs(SparseFieldset.compile("message"));
+	}
+
+	private String write(StateServiceResponse response, TokenFilter filter) throws Exception {
+		StringWriter out = new StringWriter();
+		try (JsonGenerator generator = SparseFieldset.filter(objectMapper.getFactory().createGenerator(out), filter)) {
+			objectMapper.writeValue(generator, response);
+		}
+		return out.toString();
+	}
+
+	private static Map<String, Object> user(int id, String name) {
+		Map<String, Object> user = new LinkedHashMap<>();
+		user.put("id", id);
+		user.put("name", name);
+		return user;
+	}
+
+}
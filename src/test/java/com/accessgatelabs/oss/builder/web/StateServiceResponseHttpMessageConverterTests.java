@@ -0,0 +1,130 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.models.StreamingResult;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.accessgatelabs.oss.builder.time.FixedResponseClock;
+import com.accessgatelabs.oss.builder.time.ResponseClock;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+class StateServiceResponseHttpMessageConverterTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule());
+
+	private final StateServiceResponseHttpMessageConverter converter = new StateServiceResponseHttpMessageConverter(objectMapper);
+
+	@AfterEach
+	void restoreDefaults() {
+		ResponseClock.use(null);
+		PrerenderedResponses.configure(new ObjectMapper().registerModule(new ResponseBuilderModule()));
+	}
+
+	@Test
+	void writesJsonEnvelopesOnly() {
+		assertThat(converter.canWrite(StateServiceResponse.class, null)).isTrue();
+		assertThat(converter.canWrite(StateServiceResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+		assertThat(converter.canWrite(StateServiceResponse.class, MediaType.parseMediaType("application/problem+json"))).isTrue();
+		assertThat(converter.canWrite(StateServiceResponse.class, MediaType.APPLICATION_XML)).isFalse();
+		assertThat(converter.canWrite(MappingJacksonValue.class, MediaType.APPLICATION_JSON)).isFalse();
+		assertThat(converter.canRead(StateServiceResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+	}
+
+	@Test
+	void writesTheSameBodyAsTheObjectMapper() throws Exception {
+		StateServiceResponse response = ServiceResponse.FETCHED.build();
+		response.setObjectAsResponse("result");
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(response, null, outputMessage);
+
+		assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(response));
+	}
+
+	@Test
+	void writesEnvelopesOfAConstantFromTheirTemplate() throws Exception {
+		AtomicInteger generators = new AtomicInteger();
+		ObjectMapper counting = new ObjectMapper() {
+			@Override
+			public JsonFactory getFactory() {
+				generators.incrementAndGet();
+				return super.getFactory();
+			}
+		}.registerModule(new ResponseBuilderModule());
+		StateServiceResponseHttpMessageConverter converter = new StateServiceResponseHttpMessageConverter(counting);
+		PrerenderedResponses.configure(counting);
+		FixedResponseClock clock = new FixedResponseClock(LocalDateTime.of(2020, 6, 2, 22, 15, 30));
+		ResponseClock.use(clock);
+		StateServiceResponse deleted = (StateServiceResponse) ServiceResponse.DELETED.buildResponse().getBody();
+		clock.advance(Duration.ofSeconds(1));
+		String expected = counting.writeValueAsString(deleted);
+		generators.set(0);
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(deleted, null, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(expected).contains("02-06-2020 10:15:30");
+		assertThat(generators).hasValue(0);
+
+		StateServiceResponse withMessage = ServiceResponse.DELETED.build();
+		withMessage.setMessage("gone");
+		outputMessage = new MockHttpOutputMessage();
+
+		converter.write(withMessage, null, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(counting.writeValueAsString(withMessage));
+		assertThat(generators).hasValue(1);
+	}
+
+	@Test
+	void writesBinaryEncodingsOfTheSameEnvelope() throws Exception {
+		ObjectMapper cbor = new ObjectMapper(new CBORFactory()).registerModule(new ResponseBuilderModule());
+		converter.addEncoding(BinaryEncoding.CBOR.getMediaType(), cbor);
+		StateServiceResponse response = ServiceResponse.FETCHED.build();
+		response.setObjectAsResponse("result");
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(response, MediaType.APPLICATION_CBOR, outputMessage);
+
+		assertThat(converter.getSupportedMediaTypes().get(0)).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+		assertThat(cbor.readTree(outputMessage.getBodyAsBytes())).isEqualTo(objectMapper.valueToTree(response));
+	}
+
+	@Test
+	void writesNdjsonLines() throws Exception {
+		StateServiceResponse response = new StateServiceResponse(ServiceResponse.FETCHED.getApiServiceResponse(),
+				StreamingResult.of(Stream.of("a", "b")));
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(response, MediaType.parseMediaType("application/x-ndjson"), outputMessage);
+
+		String body = outputMessage.getBodyAsString(StandardCharsets.UTF_8);
+		String[] lines = body.split("\n");
+		assertThat(body).endsWith("\n");
+		assertThat(lines).hasSize(4);
+		assertThat(lines[0]).contains("\"api\":{\"responseCode\":1050,\"response\":\"BATCH_PROCESSING_IN_PROGRESS\"}");
+		assertThat(lines[1]).isEqualTo("\"a\"");
+		assertThat(lines[2]).isEqualTo("\"b\"");
+		assertThat(lines[3]).contains("\"api\":{\"responseCode\":2040,\"response\":\"FETCHED\"}")
+				.contains("\"result\":{\"complete\":true,\"count\":2}");
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.accessgatelabs.oss.builder.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.accessgatelabs.oss.builder.models.ServiceResponse;
+import com.accessgatelabs.oss.builder.models.StateServiceResponse;
+import com.accessgatelabs.oss.builder.serializers.ResponseBuilderModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdDictTrainer;
+
+class ZstdDictionaryTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseBuilderModule());
+
+	@Test
+	void envelopesAreCompressedAgainstTheTrainedDictionary() throws Exception {
+		List<byte[]> samples = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			samples.add(objectMapper.writeValueAsBytes(envelope(i)));
+		}
+		ZstdDictTrainer trainer = new ZstdDictTrainer(samples.stream().mapToInt(sample -> sample.length).sum(), 8192);
+		samples.forEach(trainer::addSample);
+		byte[] trained = trainer.trainSamples();
+		ZstdDictionary dictionary = ZstdDictionary.of(trained);
+		assertThat(dictionary.isHeldBy(" " + dictionary.getId())).isTrue();
+		assertThat(dictionary.isHeldBy(null)).isFalse();
+
+		byte[] body = objectMapper.writeValueAsBytes(envelope(123_457));
+		ByteArrayOutputStream plain = new ByteArrayOutputStream();
+		new ResponseCompressor(0, Collections.singleton(ContentCoding.ZSTD))
+				.compress(body, body.length, ContentCoding.ZSTD, plain);
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		dictionary.compress(body, body.length, compressed);
+
+		assertThat(compressed.size()).isLessThan(plain.size());
+		assertThat(Long.toString(Zstd.getDictIdFromFrame(compressed.toByteArray()))).isEqualTo(dictionary.getId());
+		try (ZstdDecompressCtx decompress = new ZstdDecompressCtx()) {
+			decompress.loadDict(trained);
+			assertThat(decompress.decompress(compressed.toByteArray(), body.length)).isEqualTo(body);
+		}
+	}
+
+	private static StateServiceResponse envelope(int seed) {
+		ServiceResponse serviceResponse = ServiceResponse.values()[seed % ServiceResponse.values().length];
+		StateServiceResponse response = serviceResponse.build();
+		response.setHttpResponse(serviceResponse.getHttpResponse());
+		response.setMessage("Request " + seed);
+		response.setPath("/resources/" + seed);
+		return response;
+	}
+
+}